@@ -0,0 +1,50 @@
+package com.lantopia.libjava;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Entry point of the benchmarks jar.  Takes the usual JMH command line, but unless told otherwise runs with the GC
+ * profiler (so that every result carries its allocation rate per operation) and saves the results as JSON, to
+ * target/jmh-&lt;label&gt;.json, where the label is the "label" system property or "latest".  Label each run with the
+ * commit it measures, then compare two runs with {@link CompareResults}:
+ * <pre>
+ * java -Dlabel=$(git rev-parse --short HEAD) -jar target/benchmarks.jar
+ * java -cp target/benchmarks.jar com.lantopia.libjava.CompareResults target/jmh-abc123.json target/jmh-def456.json
+ * </pre>
+ * Benchmarks that share state between threads have a variant run with {@link #ContendedThreads} threads, named
+ * "...Contended".
+ */
+public final class Benchmarks {
+    /**
+     * Threads to run the contended variant of a benchmark with.
+     */
+    public static final int ContendedThreads = 4;
+
+    private Benchmarks() {}
+
+    public static void main(final String[] args) throws Exception {
+        final CommandLineOptions cmd = new CommandLineOptions(args);
+        if (cmd.shouldHelp() || cmd.shouldList() || cmd.shouldListWithParams() || cmd.shouldListProfilers()
+                || cmd.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(cmd);
+        if (cmd.getProfilers().isEmpty()) options.addProfiler(GCProfiler.class);
+        final ResultFormatType format = cmd.getResultFormat().orElse(ResultFormatType.JSON);
+        options.resultFormat(format);
+        if (!cmd.getResult().hasValue())
+            options.result("target/jmh-" + System.getProperty("label", "latest") + '.' + format.name().toLowerCase());
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,108 @@
+package com.lantopia.libjava;
+
+import com.lantopia.libjava.json.JsonIndex;
+import com.lantopia.libjava.json.LazyJsonArray;
+import com.lantopia.libjava.json.LazyJsonObject;
+import com.lantopia.libjava.json.MalformedJsonException;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Compares two JSON result files saved by {@link Benchmarks}, a baseline and a candidate, and lists every benchmark
+ * in both with its score and allocation per operation.  A benchmark has regressed if its score got worse by more
+ * than the threshold (10% unless given as a third argument, in percent), or if it allocates more per operation by
+ * more than the threshold and a byte.  Exits with status 1 if anything regressed, so that a build can fail on it.
+ * <p/>
+ * Scores from different machines, or from a busy one, can differ by more than any change being measured; compare
+ * runs made one after the other on the same quiet machine.
+ */
+public final class CompareResults {
+    private CompareResults() {}
+
+    @SuppressWarnings("UseOfSystemOutOrSystemErr")
+    public static void main(final String[] args) throws IOException, MalformedJsonException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: CompareResults <baseline.json> <candidate.json> [threshold %]");
+            System.exit(2);
+        }
+        final Map<String, Result> baseline = read(args[0]);
+        final Map<String, Result> candidate = read(args[1]);
+        final double threshold = (args.length == 3) ? Double.parseDouble(args[2]) / 100 : 0.10;
+
+        int width = "Benchmark".length();
+        for (final String key : candidate.keySet()) width = Math.max(width, key.length());
+
+        int regressions = 0;
+        System.out.println(String.format("%-" + width + "s %14s %14s %8s %12s %12s",
+                "Benchmark", "Baseline", "Candidate", "Change", "B/op before", "B/op after"));
+        for (final Map.Entry<String, Result> entry : candidate.entrySet()) {
+            final Result before = baseline.get(entry.getKey());
+            if (before == null) continue;
+            final Result after = entry.getValue();
+
+            final double change = (after.score - before.score) / before.score;
+            final boolean slower = after.higherIsBetter ? change < -threshold : change > threshold;
+            final boolean allocates = !Double.isNaN(before.allocated) && !Double.isNaN(after.allocated)
+                    && after.allocated > before.allocated * (1 + threshold) + 1;
+            if (slower || allocates) regressions++;
+
+            System.out.println(String.format("%-" + width + "s %14.3f %14.3f %+7.1f%% %12.1f %12.1f %s",
+                    entry.getKey(), before.score, after.score, change * 100, before.allocated, after.allocated,
+                    (slower ? "SLOWER " : "") + (allocates ? "ALLOCATES" : "")));
+        }
+
+        System.out.println(regressions + " regression(s) beyond " + threshold * 100 + "%");
+        if (regressions > 0) System.exit(1);
+    }
+
+    private static Map<String, Result> read(final String file) throws IOException, MalformedJsonException {
+        final String text = new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.UTF_8);
+        final LazyJsonArray runs = JsonIndex.build(text).array();
+        final Map<String, Result> results = new LinkedHashMap<>();
+        for (int i = 0; i < runs.size(); i++) {
+            final LazyJsonObject run = runs.getObject(i);
+            if (run == null) continue;
+
+            final StringBuilder key = new StringBuilder(String.valueOf(run.getString("benchmark")));
+            final LazyJsonObject params = run.getObject("params");
+            if (params != null) {
+                for (final String name : params.names()) key.append(' ').append(name).append('=').append(params.getString(name));
+            }
+            key.append(" t=").append(run.getInt("threads", 1));
+
+            final LazyJsonObject primary = run.getObject("primaryMetric");
+            if (primary == null) continue;
+            results.put(key.toString(), new Result(primary.getDouble("score", Double.NaN),
+                    "thrpt".equals(run.getString("mode")), allocated(run.getObject("secondaryMetrics"))));
+        }
+        return results;
+    }
+
+    private static double allocated(@Nullable final LazyJsonObject secondary) {
+        if (secondary == null) return Double.NaN;
+        final LazyJsonObject norm = secondary.getObject("gc.alloc.rate.norm");
+        return (norm == null) ? Double.NaN : norm.getDouble("score", Double.NaN);
+    }
+
+    private static final class Result {
+        final double score;
+        final boolean higherIsBetter;
+        final double allocated;
+
+        Result(final double score, final boolean higherIsBetter, final double allocated) {
+            this.score = score;
+            this.higherIsBetter = higherIsBetter;
+            this.allocated = allocated;
+        }
+    }
+}
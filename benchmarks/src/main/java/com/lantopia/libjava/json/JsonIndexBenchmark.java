@@ -0,0 +1,90 @@
+package com.lantopia.libjava.json;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Reads two fields out of a document with many, either by indexing it with {@link JsonIndex} or by streaming through
+ * all of it with {@link JsonReader} and decoding every value, as a tree parser would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonIndexBenchmark {
+    @Param({"10", "100", "1000"})
+    public int fields;
+
+    private String document;
+
+    @Setup public void setUp() {
+        final StringBuilder s = new StringBuilder("{");
+        for (int i = 0; i < fields; i++) {
+            s.append("\"field").append(i).append("\":{\"name\":\"value ").append(i)
+                    .append("\",\"tags\":[\"a\",\"b\",\"c\"],\"score\":").append(i * 1.5).append("},");
+        }
+        s.append("\"id\":12345,\"status\":\"active\"}");
+        document = s.toString();
+    }
+
+    @Benchmark public long index() throws MalformedJsonException {
+        final LazyJsonObject o = JsonIndex.build(document).object();
+        return o.getLong("id", 0) + o.getString("status").length();
+    }
+
+    @Benchmark public long stream() throws IOException {
+        final JsonReader reader = JsonReader.make(new StringReader(document));
+        long id = 0;
+        String status = "";
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (name.equals("id")) id = reader.nextLong();
+            else if (name.equals("status")) status = reader.nextString();
+            else decode(reader);
+        }
+        reader.endObject();
+        return id + status.length();
+    }
+
+    private static void decode(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case BeginObject:
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    reader.nextName();
+                    decode(reader);
+                }
+                reader.endObject();
+                break;
+            case BeginArray:
+                reader.beginArray();
+                while (reader.hasNext()) decode(reader);
+                reader.endArray();
+                break;
+            case String: reader.nextString(); break;
+            case Number: reader.nextDouble(); break;
+            case Boolean: reader.nextBoolean(); break;
+            default: reader.nextNull();
+        }
+    }
+}
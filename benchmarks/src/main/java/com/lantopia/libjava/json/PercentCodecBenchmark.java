@@ -0,0 +1,104 @@
+package com.lantopia.libjava.json;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Compares {@link PercentCodec} with {@link URLEncoder} and {@link URLDecoder}.  Payloads are either plain (nothing
+ * to escape: the common case for identifiers and tokens), query-like (ASCII with some reserved characters and
+ * spaces), or mostly non-ASCII text.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PercentCodecBenchmark {
+    @Param({"plain", "query", "unicode"})
+    public String payload;
+
+    @Param({"16", "256", "4096"})
+    public int length;
+
+    private String text;
+    private String encoded;
+    private ByteBuffer textBytes;
+    private ByteBuffer encodedBytes;
+    private ByteBuffer out;
+    private final StringBuilder builder = new StringBuilder();
+
+    @Setup public void setUp() throws UnsupportedEncodingException {
+        final String alphabet;
+        switch (payload) {
+            case "plain": alphabet = "abcdefghijklmnopqrstuvwxyz0123456789_-."; break;
+            case "query": alphabet = "abcdefghijklmnopqrstuvwxyz0123456789 &=?/:{}\",[]"; break;
+            default: alphabet = "aéü中文жф "; break;
+        }
+
+        final Random random = new Random(length);
+        final StringBuilder s = new StringBuilder(length);
+        for (int i = 0; i < length; i++) s.append(alphabet.charAt(random.nextInt(alphabet.length())));
+
+        text = s.toString();
+        encoded = URLEncoder.encode(text, "UTF-8");
+        textBytes = ByteBuffer.wrap(text.getBytes("UTF-8"));
+        encodedBytes = ByteBuffer.wrap(encoded.getBytes("UTF-8"));
+        out = ByteBuffer.allocate(length * 9);
+    }
+
+    @Benchmark public String jdkEncode() throws UnsupportedEncodingException {
+        return URLEncoder.encode(text, "UTF-8");
+    }
+
+    @Benchmark public String codecEncode() { return PercentCodec.form().encode(text); }
+
+    @Benchmark public StringBuilder codecEncodeToBuilder() throws IOException {
+        builder.setLength(0);
+        return PercentCodec.form().encode(text, builder);
+    }
+
+    @Benchmark public ByteBuffer codecEncodeBytes() {
+        out.clear();
+        PercentCodec.form().encode(textBytes.duplicate(), out);
+        return out;
+    }
+
+    @Benchmark public String jdkDecode() throws UnsupportedEncodingException {
+        return URLDecoder.decode(encoded, "UTF-8");
+    }
+
+    @Benchmark public String codecDecode() { return PercentCodec.form().decode(encoded); }
+
+    @Benchmark public StringBuilder codecDecodeToBuilder() throws IOException {
+        builder.setLength(0);
+        return PercentCodec.form().decode(encoded, builder);
+    }
+
+    @Benchmark public ByteBuffer codecDecodeBytes() {
+        out.clear();
+        PercentCodec.form().decode(encodedBytes.duplicate(), out);
+        return out;
+    }
+}
@@ -0,0 +1,54 @@
+package com.lantopia.libjava.json;
+
+import com.lantopia.libjava.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * URL-encodes a JSON document of a given length with {@link Json#urlEncode(String)}, from one thread and from several
+ * at once.  {@link PercentCodecBenchmark} compares the encoder itself with the JDK's.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UrlEncodeBenchmark {
+    @Param({"64", "1024", "16384"})
+    public int length;
+
+    private String json;
+
+    @Setup public void setUp() {
+        final Random random = new Random(length);
+        final StringBuilder s = new StringBuilder(length + 32).append('{');
+        for (int i = 0; s.length() < length; i++) {
+            if (i > 0) s.append(',');
+            s.append("\"key").append(i).append("\":\"value ").append(random.nextInt(1000)).append('"');
+        }
+        json = s.append('}').toString();
+    }
+
+    @Benchmark public String urlEncode() { return Json.urlEncode(json); }
+
+    @Benchmark @Threads(Benchmarks.ContendedThreads)
+    public String urlEncodeContended() { return Json.urlEncode(json); }
+}
@@ -0,0 +1,65 @@
+package com.lantopia.libjava.log;
+
+import com.google.common.io.ByteStreams;
+import com.lantopia.libjava.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Logs messages of a given length, with two properties, through a {@link TextLogger} writing to a stream that
+ * discards its input, from one thread and from several sharing the logger.  Also measures a message below the
+ * logger's threshold, which should cost next to nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextLoggerBenchmark {
+    @Param({"16", "256"})
+    public int length;
+
+    private TextLogger logger;
+    private String message;
+
+    @Setup public void setUp() {
+        logger = TextLogger.make(ByteStreams.nullOutputStream());
+        logger.setLevel(Logger.Level.Info);
+
+        final Random random = new Random(length);
+        final StringBuilder s = new StringBuilder(length);
+        for (int i = 0; i < length; i++) s.append((char) ('a' + random.nextInt(26)));
+        message = s.toString();
+    }
+
+    @Benchmark public void log() {
+        logger.level(Logger.Level.Info).category("bench").message(message)
+                .property("count", 42L).property("ratio", 0.5).log();
+    }
+
+    @Benchmark @Threads(Benchmarks.ContendedThreads)
+    public void logContended() { log(); }
+
+    @Benchmark public void logDisabled() {
+        logger.level(Logger.Level.Debug).category("bench").message(message)
+                .property("count", 42L).property("ratio", 0.5).log();
+    }
+}
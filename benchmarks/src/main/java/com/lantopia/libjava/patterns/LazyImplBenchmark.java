@@ -0,0 +1,57 @@
+package com.lantopia.libjava.patterns;
+
+import com.lantopia.libjava.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.inject.Provider;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Reads a {@link LazyImpl} that has already made its value, which is the cost every caller pays, and makes and reads a
+ * new one, which includes building a value of the given size.  The contended variant reads one shared instance from
+ * several threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazyImplBenchmark {
+    @Param({"16", "1024"})
+    public int payload;
+
+    private Provider<int[]> builder;
+    private LazyImpl<int[]> made;
+
+    @Setup public void setUp() {
+        builder = new Provider<int[]>() {
+            @Override public int[] get() { return new int[payload]; }
+        };
+        made = new LazyImpl<>(builder);
+        made.get();
+    }
+
+    @Benchmark public int[] get() { return made.get(); }
+
+    @Benchmark @Threads(Benchmarks.ContendedThreads)
+    public int[] getContended() { return made.get(); }
+
+    @Benchmark public void makeAndGet(final Blackhole blackhole) { blackhole.consume(new LazyImpl<>(builder).get()); }
+}
@@ -0,0 +1,58 @@
+package com.lantopia.libjava.patterns;
+
+import com.lantopia.libjava.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.inject.Provider;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Allocates byte arrays of a given size through a {@link PoolingAllocator}, against plain allocation.  The allocator
+ * isn't thread-safe, so each thread has its own; the contended variants show how each approach scales when several
+ * threads allocate at once and share the collector.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PoolingAllocatorBenchmark {
+    @Param({"16", "1024", "65536"})
+    public int payload;
+
+    private PoolingAllocator allocator;
+    private Provider<byte[]> provider;
+
+    @Setup public void setUp() {
+        allocator = new PoolingAllocator(64);
+        provider = new Provider<byte[]>() {
+            @Override public byte[] get() { return new byte[payload]; }
+        };
+    }
+
+    @Benchmark public byte[] pooled() { return allocator.allocate(byte[].class, provider); }
+
+    @Benchmark public byte[] plain() { return provider.get(); }
+
+    @Benchmark @Threads(Benchmarks.ContendedThreads)
+    public byte[] pooledContended() { return allocator.allocate(byte[].class, provider); }
+
+    @Benchmark @Threads(Benchmarks.ContendedThreads)
+    public byte[] plainContended() { return provider.get(); }
+}
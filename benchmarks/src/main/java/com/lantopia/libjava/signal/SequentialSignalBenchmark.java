@@ -0,0 +1,65 @@
+package com.lantopia.libjava.signal;
+
+import com.google.common.base.Function;
+import com.lantopia.libjava.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Raises a {@link SequentialSignal} with a given number of handlers, from one thread and from several at once.  The
+ * handlers are held strongly here so that none are collected part-way through a run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SequentialSignalBenchmark {
+    @Param({"1", "16", "256"})
+    public int handlers;
+
+    private final List<Function<Object, Void>> held = new ArrayList<>();
+    private SequentialSignal<Object> signal;
+    private Object value;
+
+    @Setup public void setUp(final Blackhole blackhole) {
+        signal = new SequentialSignal<>();
+        value = new Object();
+        for (int i = 0; i < handlers; i++) {
+            final Function<Object, Void> handler = new Function<Object, Void>() {
+                @Override @Nullable public Void apply(@Nullable final Object input) {
+                    blackhole.consume(input);
+                    return null;
+                }
+            };
+            held.add(handler);
+            signal.notify(handler);
+        }
+    }
+
+    @Benchmark public void raise() { signal.raise(value); }
+
+    @Benchmark @Threads(Benchmarks.ContendedThreads)
+    public void raiseContended() { signal.raise(value); }
+}
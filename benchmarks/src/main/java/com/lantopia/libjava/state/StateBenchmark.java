@@ -0,0 +1,64 @@
+package com.lantopia.libjava.state;
+
+import com.google.common.base.Optional;
+import com.lantopia.libjava.Benchmarks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Asks a {@link State} with the given number of predecessors whether a transition is allowed, from one of them and
+ * from a state that isn't, and builds such a state.  The contended variant asks one shared state from several threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+public class StateBenchmark {
+    @Param({"1", "16", "256"})
+    public int predecessors;
+
+    private final List<State> from = new ArrayList<>();
+    private State allowed;
+    private State stranger;
+    private State state;
+
+    @Setup public void setUp() {
+        from.clear();
+        for (int i = 0; i < predecessors; i++) from.add(state("from" + i));
+        allowed = from.get(predecessors - 1);
+        stranger = state("stranger");
+        state = States.stateBuilder().named(Optional.of("to")).withPredecessors(from).get();
+    }
+
+    @Benchmark public boolean canTransitionFrom() { return state.canTransitionFrom(allowed); }
+
+    @Benchmark public boolean canTransitionFromStranger() { return state.canTransitionFrom(stranger); }
+
+    @Benchmark @Threads(Benchmarks.ContendedThreads)
+    public boolean canTransitionFromContended() { return state.canTransitionFrom(allowed); }
+
+    @Benchmark public State build() {
+        return States.stateBuilder().named(Optional.of("to")).withPredecessors(from).get();
+    }
+
+    private static State state(final String name) { return States.stateBuilder().named(Optional.of(name)).get(); }
+}
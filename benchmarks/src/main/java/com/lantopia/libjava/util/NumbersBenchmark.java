@@ -0,0 +1,119 @@
+package com.lantopia.libjava.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Compares the bulk range operations in {@link Numbers} with the obvious loop over {@link Numbers#isBetween}, on
+ * int and double columns of random values, with ranges that match about 1%, 50% or 99% of them.  The naive loop does
+ * well when its branch is predictable (1% and 99%) and badly at 50%; the bulk operations should take the same time
+ * at every selectivity.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumbersBenchmark {
+    @Param({"1", "50", "99"})
+    public int selectivity;
+
+    @Param({"65536"})
+    public int length;
+
+    private int[] ints;
+    private double[] doubles;
+    private int intHigh;
+    private double doubleHigh;
+    private long[] mask;
+    private int[] indices;
+
+    @Setup public void setUp() {
+        final Random random = new Random(length);
+        ints = new int[length];
+        doubles = new double[length];
+        for (int i = 0; i < length; i++) {
+            ints[i] = random.nextInt(100);
+            doubles[i] = random.nextDouble() * 100;
+        }
+        // Values are uniform over [0, 100), so (-1, selectivity - 1] and (-1, selectivity) match about that percentage.
+        intHigh = selectivity - 1;
+        doubleHigh = selectivity;
+        mask = new long[(length + 63) >>> 6];
+        indices = new int[length];
+    }
+
+    @Benchmark public int intCountNaive() {
+        int count = 0;
+        for (final int v : ints) if (Numbers.isBetween(v, -1, intHigh)) count++;
+        return count;
+    }
+
+    @Benchmark public int intCount() { return Numbers.countBetween(ints, -1, intHigh); }
+
+    @Benchmark public long[] intMaskNaive() {
+        Arrays.fill(mask, 0);
+        for (int i = 0; i < ints.length; i++)
+            if (Numbers.isBetween(ints[i], -1, intHigh)) mask[i >>> 6] |= 1L << i;
+        return mask;
+    }
+
+    @Benchmark public long[] intMask() {
+        Numbers.maskBetween(ints, -1, intHigh, mask);
+        return mask;
+    }
+
+    @Benchmark public int intIndicesNaive() {
+        int n = 0;
+        for (int i = 0; i < ints.length; i++) if (Numbers.isBetween(ints[i], -1, intHigh)) indices[n++] = i;
+        return n;
+    }
+
+    @Benchmark public int intIndices() { return Numbers.indicesBetween(ints, -1, intHigh, indices); }
+
+    @Benchmark public int doubleCountNaive() {
+        int count = 0;
+        for (final double v : doubles) if (Numbers.isBetween(v, -1, doubleHigh)) count++;
+        return count;
+    }
+
+    @Benchmark public int doubleCount() { return Numbers.countBetween(doubles, -1, doubleHigh); }
+
+    @Benchmark public long[] doubleMaskNaive() {
+        Arrays.fill(mask, 0);
+        for (int i = 0; i < doubles.length; i++)
+            if (Numbers.isBetween(doubles[i], -1, doubleHigh)) mask[i >>> 6] |= 1L << i;
+        return mask;
+    }
+
+    @Benchmark public long[] doubleMask() {
+        Numbers.maskBetween(doubles, -1, doubleHigh, mask);
+        return mask;
+    }
+
+    @Benchmark public int doubleIndicesNaive() {
+        int n = 0;
+        for (int i = 0; i < doubles.length; i++) if (Numbers.isBetween(doubles[i], -1, doubleHigh)) indices[n++] = i;
+        return n;
+    }
+
+    @Benchmark public int doubleIndices() { return Numbers.indicesBetween(doubles, -1, doubleHigh, indices); }
+}
@@ -0,0 +1,414 @@
+package com.lantopia.libjava.codegen;
+
+import javax.annotation.Nullable;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Generates a JSON serializer for every class annotated with {@link #AnnotationName}.  For a class {@code Foo} the
+ * generated class is {@code FooSerializer}, in the same package (nested classes are flattened, so
+ * {@code Outer.Foo} gets {@code Outer_FooSerializer}).  Fields inherited from superclasses are serialized too, ahead
+ * of the class's own.
+ * <p/>
+ * The generated serializer writes each field with a straight-line sequence of appends, with the field names and
+ * separators precomputed as string literals.  Parsing matches incoming names against a precomputed
+ * {@link com.lantopia.libjava.json.JsonReader.NameTable} and switches on the index, so neither direction uses
+ * reflection, boxing or per-field string allocation.
+ */
+@SupportedAnnotationTypes(SerializerProcessor.AnnotationName)
+public class SerializerProcessor extends AbstractProcessor {
+    static final String AnnotationName = "com.lantopia.libjava.data.GenerateSerializer";
+
+    private static final String JsonPackage = "com.lantopia.libjava.json.";
+    private static final String Reader = JsonPackage + "JsonReader";
+    private static final String Writer = JsonPackage + "JsonWriter";
+
+    @Override public SourceVersion getSupportedSourceVersion() { return SourceVersion.latestSupported(); }
+
+    @Override public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment round) {
+        for (final TypeElement annotation : annotations)
+            for (final Element element : round.getElementsAnnotatedWith(annotation))
+                if (element.getKind() == ElementKind.CLASS) generate((TypeElement) element);
+                else error(element, "@GenerateSerializer applies only to classes");
+        return true;
+    }
+
+    private void generate(final TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(type, "Cannot generate a serializer for an abstract class");
+            return;
+        }
+        if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            error(type, "Cannot generate a serializer for an inner class; make it static");
+            return;
+        }
+        final String packageName = packageOf(type).getQualifiedName().toString();
+        if (!isVisibleFrom(type, packageName)) {
+            error(type, "Cannot generate a serializer for a private or local class");
+            return;
+        }
+        if (!hasNoArgConstructor(type)) {
+            error(type, "A serializable class needs a non-private no-argument constructor");
+            return;
+        }
+
+        final List<Field> fields = new ArrayList<>();
+        if (!addFields(type, type, packageName, fields)) return;
+
+        final String name = serializerName(type);
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                    packageName.isEmpty() ? name : packageName + '.' + name, type);
+            try (final Writer out = file.openWriter()) {
+                out.write(render(packageName, name, type.getQualifiedName().toString(), fields));
+            }
+        } catch (final IOException e) {
+            error(type, "Could not write " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the serialized fields of a class and its superclasses, superclass fields first.  Problems with an inherited
+     * field are reported against the class being generated, naming the superclass.
+     *
+     * @return false if a field can't be serialized, once that has been reported
+     */
+    private boolean addFields(final TypeElement root, final TypeElement type, final String packageName,
+                              final List<Field> fields) {
+        final TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() == TypeKind.DECLARED
+                && !addFields(root, (TypeElement) ((DeclaredType) superclass).asElement(), packageName, fields))
+            return false;
+
+        final boolean inherited = type != root;
+        final boolean samePackage = packageOf(type).getQualifiedName().contentEquals(packageName);
+        for (final VariableElement v : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            final Set<Modifier> m = v.getModifiers();
+            if (m.contains(Modifier.STATIC) || m.contains(Modifier.TRANSIENT)) continue;
+            final Element at = inherited ? root : v;
+            final String what = inherited ? "Inherited field " + type.getQualifiedName() + '.' + v.getSimpleName()
+                    : "Field " + v.getSimpleName();
+            if (m.contains(Modifier.PRIVATE) || m.contains(Modifier.FINAL)) {
+                error(at, what + " must be neither private nor final to be serialized; mark it transient to skip it");
+                return false;
+            }
+            if (!samePackage && !m.contains(Modifier.PUBLIC)) {
+                error(at, what + " must be public to be serialized from another package; mark it transient to skip it");
+                return false;
+            }
+            final Field f = classify(v);
+            if (f == null) {
+                error(at, what + " has unsupported type " + v.asType() + "; use a primitive, String, enum or "
+                        + "@GenerateSerializer type");
+                return false;
+            }
+            if (f.element != null && !isVisibleFrom(f.element, packageName)) {
+                error(at, what + " has type " + v.asType() + ", which the serializer can't refer to from package "
+                        + (packageName.isEmpty() ? "<default>" : packageName));
+                return false;
+            }
+            for (final Field other : fields) {
+                if (other.name.equals(f.name)) {
+                    error(at, what + " hides an inherited field of the same name");
+                    return false;
+                }
+            }
+            fields.add(f);
+        }
+        return true;
+    }
+
+    private static String render(final String packageName, final String name, final String type,
+                                 final List<Field> fields) {
+        final StringBuilder s = new StringBuilder(4096);
+        if (!packageName.isEmpty()) s.append("package ").append(packageName).append(";\n\n");
+
+        s.append("/**\n * JSON serializer for {@link ").append(type).append("}.\n")
+                .append(" * <p/>\n * Generated by ").append(SerializerProcessor.class.getName())
+                .append("; do not edit.\n */\n")
+                .append("public final class ").append(name).append(" extends ").append(JsonPackage)
+                .append("AbstractJsonSerializer<").append(type).append("> {\n");
+
+        s.append("    private static final ").append(Reader).append(".NameTable Names = ").append(Reader)
+                .append(".NameTable.of(");
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) s.append(", ");
+            s.append(literal(fields.get(i).name));
+        }
+        s.append(");\n");
+
+        for (final Field f : fields) {
+            if (f.kind == Kind.Enum) {
+                s.append("    private static final ").append(f.type).append("[] ").append(f.name)
+                        .append("Values = ").append(f.type).append(".values();\n");
+                s.append("    private static final ").append(Reader).append(".NameTable ").append(f.name)
+                        .append("Names = ").append(Reader).append(".NameTable.of(");
+                for (int i = 0; i < f.constants.size(); i++) {
+                    if (i > 0) s.append(", ");
+                    s.append(literal(f.constants.get(i)));
+                }
+                s.append(");\n");
+            } else if (f.kind == Kind.Nested) {
+                final String self = packageName.isEmpty() ? name : packageName + '.' + name;
+                renderNestedSerializer(s, f, f.serializer.equals(self));
+            }
+        }
+
+        s.append("\n    @Override public void serialize(final ").append(type)
+                .append(" object, final java.lang.Appendable out) throws java.io.IOException {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            final Field f = fields.get(i);
+            final String prefix = ((i == 0) ? "{" : ",") + '"' + f.name + "\":";
+            s.append("        out.append(").append(literal(prefix)).append(");\n");
+            renderWrite(s, f);
+        }
+        s.append("        out.append(").append(fields.isEmpty() ? "\"{}\"" : "'}'").append(");\n    }\n");
+
+        s.append("\n    @Override public ").append(type).append(" read(final ").append(Reader)
+                .append(" reader) throws java.io.IOException {\n")
+                .append("        final ").append(type).append(" object = new ").append(type).append("();\n")
+                .append("        reader.beginObject();\n")
+                .append("        while (reader.hasNext()) {\n")
+                .append("            switch (reader.nextName(Names)) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            s.append("                case ").append(i).append(":\n");
+            renderRead(s, fields.get(i));
+            s.append("                    break;\n");
+        }
+        s.append("                default:\n")
+                .append("                    reader.skipValue();\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        reader.endObject();\n")
+                .append("        return object;\n")
+                .append("    }\n")
+                .append("}\n");
+        return s.toString();
+    }
+
+    /**
+     * Declares how the serializer reaches a nested field's serializer: itself, for a field of its own type, or
+     * another serializer made on first use.  Making them eagerly would recurse forever for types that refer to each
+     * other.  Two threads may each make one on first use; serializers hold no per-call state, so either will do.
+     */
+    private static void renderNestedSerializer(final StringBuilder s, final Field f, final boolean recursive) {
+        final String accessor = f.name + "Serializer";
+        if (recursive) {
+            s.append("    private ").append(f.serializer).append(' ').append(accessor).append("() { return this; }\n");
+            return;
+        }
+        s.append("    private ").append(f.serializer).append(' ').append(accessor).append(";\n")
+                .append("    private ").append(f.serializer).append(' ').append(accessor).append("() {\n")
+                .append("        ").append(f.serializer).append(" s = ").append(accessor).append(";\n")
+                .append("        if (s == null) ").append(accessor).append(" = s = new ").append(f.serializer)
+                .append("();\n")
+                .append("        return s;\n")
+                .append("    }\n");
+    }
+
+    private static void renderWrite(final StringBuilder s, final Field f) {
+        final String value = "object." + f.name;
+        switch (f.kind) {
+            case Boolean:
+                s.append("        ").append(Writer).append(".writeBoolean(out, ").append(value).append(");\n");
+                break;
+            case Char:
+                s.append("        ").append(Writer).append(".writeString(out, ").append(value).append(");\n");
+                break;
+            case Byte:
+            case Short:
+            case Int:
+            case Long:
+            case Float:
+            case Double:
+                s.append("        ").append(Writer).append(".writeNumber(out, ").append(value).append(");\n");
+                break;
+            case String:
+                s.append("        ").append(Writer).append(".writeString(out, ").append(value).append(");\n");
+                break;
+            case Enum:
+                s.append("        if (").append(value).append(" == null) out.append(\"null\");\n")
+                        .append("        else ").append(Writer).append(".writeString(out, ").append(value)
+                        .append(".name());\n");
+                break;
+            case Nested:
+                s.append("        if (").append(value).append(" == null) out.append(\"null\");\n")
+                        .append("        else ").append(f.name).append("Serializer().serialize(").append(value)
+                        .append(", out);\n");
+                break;
+        }
+    }
+
+    private static void renderRead(final StringBuilder s, final Field f) {
+        final String target = "                    object." + f.name + " = ";
+        switch (f.kind) {
+            case Boolean: s.append(target).append("reader.nextBoolean();\n"); break;
+            case Char: s.append(target).append("reader.nextChar();\n"); break;
+            case Byte: s.append(target).append("reader.nextByte();\n"); break;
+            case Short: s.append(target).append("reader.nextShort();\n"); break;
+            case Int: s.append(target).append("reader.nextInt();\n"); break;
+            case Long: s.append(target).append("reader.nextLong();\n"); break;
+            case Float: s.append(target).append("(float) reader.nextDouble();\n"); break;
+            case Double: s.append(target).append("reader.nextDouble();\n"); break;
+            case String: s.append(target).append("reader.nextStringOrNull();\n"); break;
+            case Enum:
+                s.append("                    if (reader.peek() == ").append(Reader).append(".Token.Null) {\n")
+                        .append("                        reader.nextNull();\n")
+                        .append("    ").append(target).append("null;\n")
+                        .append("                    } else {\n")
+                        .append("                        final int index = reader.nextString(").append(f.name)
+                        .append("Names);\n")
+                        .append("                        if (index < 0) throw new ").append(JsonPackage)
+                        .append("MalformedJsonException(").append(literal("Unknown " + f.type + " constant"))
+                        .append(");\n")
+                        .append("    ").append(target).append(f.name).append("Values[index];\n")
+                        .append("                    }\n");
+                break;
+            case Nested:
+                s.append("                    if (reader.peek() == ").append(Reader).append(".Token.Null) {\n")
+                        .append("                        reader.nextNull();\n")
+                        .append("    ").append(target).append("null;\n")
+                        .append("                    } else {\n")
+                        .append("    ").append(target).append(f.name).append("Serializer().read(reader);\n")
+                        .append("                    }\n");
+                break;
+        }
+    }
+
+    @Nullable private Field classify(final VariableElement v) {
+        final String name = v.getSimpleName().toString();
+        final TypeMirror t = v.asType();
+        switch (t.getKind()) {
+            case BOOLEAN: return new Field(name, Kind.Boolean);
+            case CHAR: return new Field(name, Kind.Char);
+            case BYTE: return new Field(name, Kind.Byte);
+            case SHORT: return new Field(name, Kind.Short);
+            case INT: return new Field(name, Kind.Int);
+            case LONG: return new Field(name, Kind.Long);
+            case FLOAT: return new Field(name, Kind.Float);
+            case DOUBLE: return new Field(name, Kind.Double);
+            case DECLARED: break;
+            default: return null;
+        }
+
+        final TypeElement e = (TypeElement) ((DeclaredType) t).asElement();
+        if (e.getQualifiedName().contentEquals("java.lang.String")) return new Field(name, Kind.String);
+
+        final Field f;
+        if (e.getKind() == ElementKind.ENUM) {
+            f = new Field(name, Kind.Enum);
+            for (final Element c : e.getEnclosedElements())
+                if (c.getKind() == ElementKind.ENUM_CONSTANT) f.constants.add(c.getSimpleName().toString());
+        } else if (isAnnotated(e)) {
+            f = new Field(name, Kind.Nested);
+            final String pkg = packageOf(e).getQualifiedName().toString();
+            f.serializer = pkg.isEmpty() ? serializerName(e) : pkg + '.' + serializerName(e);
+        } else {
+            return null;
+        }
+        f.type = e.getQualifiedName().toString();
+        f.element = e;
+        return f;
+    }
+
+    private static boolean isAnnotated(final TypeElement e) {
+        for (final javax.lang.model.element.AnnotationMirror a : e.getAnnotationMirrors())
+            if (((TypeElement) a.getAnnotationType().asElement()).getQualifiedName().contentEquals(AnnotationName))
+                return true;
+        return false;
+    }
+
+    /**
+     * @return true if code in the given package can refer to the type by name: neither it nor any class it is nested
+     * in is private or local, and if it is in another package, they are all public
+     */
+    private static boolean isVisibleFrom(final TypeElement type, final String packageName) {
+        final boolean samePackage = packageOf(type).getQualifiedName().contentEquals(packageName);
+        for (Element cur = type; cur.getKind() != ElementKind.PACKAGE; cur = cur.getEnclosingElement()) {
+            if (!cur.getKind().isClass() && !cur.getKind().isInterface()) return false;
+            final Set<Modifier> m = cur.getModifiers();
+            if (m.contains(Modifier.PRIVATE) || (!samePackage && !m.contains(Modifier.PUBLIC))) return false;
+        }
+        return true;
+    }
+
+    private static boolean hasNoArgConstructor(final TypeElement type) {
+        for (final ExecutableElement c : ElementFilter.constructorsIn(type.getEnclosedElements()))
+            if (c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE)) return true;
+        return false;
+    }
+
+    private static PackageElement packageOf(final Element e) {
+        Element cur = e;
+        while (cur.getKind() != ElementKind.PACKAGE) cur = cur.getEnclosingElement();
+        return (PackageElement) cur;
+    }
+
+    private static String serializerName(final TypeElement type) {
+        final StringBuilder s = new StringBuilder(type.getSimpleName());
+        for (Element cur = type.getEnclosingElement(); cur.getKind() != ElementKind.PACKAGE;
+             cur = cur.getEnclosingElement())
+            s.insert(0, '_').insert(0, cur.getSimpleName());
+        return s.append("Serializer").toString();
+    }
+
+    /**
+     * @return the given text as a Java string literal; anything outside printable ASCII is written as an escape
+     */
+    private static String literal(final String text) {
+        final StringBuilder s = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '"' || c == '\\') s.append('\\').append(c);
+            else if (c >= 0x20 && c < 0x7f) s.append(c);
+            else s.append(String.format("\\u%04x", (int) c));
+        }
+        return s.append('"').toString();
+    }
+
+    private void error(final Element e, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, e);
+    }
+
+
+    private enum Kind { Boolean, Char, Byte, Short, Int, Long, Float, Double, String, Enum, Nested }
+
+
+    private static final class Field {
+        final String name;
+        final Kind kind;
+        final List<String> constants = new ArrayList<>();
+        String type = "";
+        String serializer = "";
+        @Nullable TypeElement element = null;
+
+        Field(final String name, final Kind kind) {
+            this.name = name;
+            this.kind = kind;
+        }
+    }
+}
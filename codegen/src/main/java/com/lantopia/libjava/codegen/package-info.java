@@ -0,0 +1,10 @@
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ *
+ * Annotation processors that generate lib-java support code at build time.
+ */
+@ParametersAreNonnullByDefault package com.lantopia.libjava.codegen;
+
+import javax.annotation.ParametersAreNonnullByDefault;
\ No newline at end of file
@@ -0,0 +1,233 @@
+package com.lantopia.libjava.data;
+
+import com.google.common.base.Charsets;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Base class for text-based {@link StreamingSerializer}s.  Subclasses supply {@link #serialize(Object, Appendable)}
+ * and {@link #parse(Reader)}; everything else is derived from those two.
+ * <p/>
+ * Each thread gets its own set of output buffers, encoder and decoder, which are reused from one message to the
+ * next.  In steady state, writing to a stream or buffer and reading from one allocate nothing beyond what the
+ * subclass itself allocates.
+ */
+public abstract class AbstractStreamingSerializer<T> implements StreamingSerializer<T> {
+    /**
+     * Per-thread text buffers that have grown past this many characters are discarded after use rather than kept,
+     * so that one unusually large message doesn't pin its buffer for the life of the thread.
+     */
+    private static final int MaxRetainedChars = 64 * 1024;
+    private static final int ChunkSize = 8192;
+
+    private final Charset charset;
+    private final ThreadLocal<Buffers> buffers = new ThreadLocal<Buffers>() {
+        @Override protected Buffers initialValue() { return new Buffers(charset); }
+    };
+
+    protected AbstractStreamingSerializer() { this(Charsets.UTF_8); }
+
+    protected AbstractStreamingSerializer(final Charset charset) { this.charset = charset; }
+
+    public Charset getCharset() { return charset; }
+
+    @Override public abstract void serialize(final T object, final Appendable out) throws IOException;
+
+    @Override public abstract T parse(final Reader in) throws IOException;
+
+    @Override public String serialize(final T jsonObject) {
+        final Buffers b = acquire();
+        try {
+            serialize(jsonObject, b.text);
+            return b.text.toString();
+        } catch (final IOException e) {
+            throw new SerializationException("I/O failure on in-memory buffer", e);
+        } finally {
+            release(b);
+        }
+    }
+
+    @Override public T parse(final String jsonData) {
+        final Buffers b = acquire();
+        try {
+            return parse(b.stringReader.reset(jsonData));
+        } catch (final IOException e) {
+            throw new SerializationException("I/O failure on in-memory buffer", e);
+        } finally {
+            release(b);
+        }
+    }
+
+    @Override public void serialize(final T object, final OutputStream out) throws IOException {
+        final Buffers b = acquire();
+        try {
+            serialize(object, b.text);
+            b.encode(out, null);
+        } finally {
+            release(b);
+        }
+    }
+
+    @Override public void serialize(final T object, final ByteBuffer out) {
+        final Buffers b = acquire();
+        try {
+            serialize(object, b.text);
+            b.encode(null, out);
+        } catch (final IOException e) {
+            throw new SerializationException("I/O failure on in-memory buffer", e);
+        } finally {
+            release(b);
+        }
+    }
+
+    @Override public T parse(final InputStream in) throws IOException {
+        final Buffers b = acquire();
+        try {
+            return parse(b.streamReader.reset(in));
+        } finally {
+            release(b);
+        }
+    }
+
+    @Override public T parse(final ByteBuffer in) {
+        final Buffers b = acquire();
+        try {
+            return parse(b.streamReader.reset(in));
+        } catch (final IOException e) {
+            throw new SerializationException("I/O failure on in-memory buffer", e);
+        } finally {
+            release(b);
+        }
+    }
+
+    /**
+     * Takes this thread's buffers.  If they're already in use further up the stack (a subclass serializing a nested
+     * value through one of the convenience methods, for example) a fresh, throwaway set is handed out instead.
+     */
+    private Buffers acquire() {
+        final Buffers b = buffers.get();
+        if (b.inUse) return new Buffers(charset);
+        b.inUse = true;
+        return b;
+    }
+
+    private void release(final Buffers b) {
+        b.inUse = false;
+        b.streamReader.close();
+        b.stringReader.close();
+        if (b.text.capacity() > MaxRetainedChars) buffers.remove();
+        else b.text.setLength(0);
+    }
+
+
+    private static final class Buffers {
+        final StringBuilder text = new StringBuilder(256);
+        final CharsetEncoder encoder;
+        final CharBuffer chars = CharBuffer.allocate(ChunkSize);
+        final ByteBuffer bytes = ByteBuffer.allocate(ChunkSize);
+        final DecodingReader streamReader;
+        final CharSequenceReader stringReader = new CharSequenceReader();
+        boolean inUse = false;
+
+        Buffers(final Charset charset) {
+            encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            streamReader = new DecodingReader(charset);
+        }
+
+        /**
+         * Encodes the contents of {@link #text} into either the stream or the buffer given, a chunk at a time.
+         */
+        void encode(@Nullable final OutputStream stream, @Nullable final ByteBuffer target) throws IOException {
+            final ByteBuffer out = (target == null) ? bytes : target;
+            final int length = text.length();
+            int pos = 0;
+
+            encoder.reset();
+            chars.clear();
+            while (true) {
+                final int n = Math.min(chars.remaining(), length - pos);
+                text.getChars(pos, pos + n, chars.array(), chars.position());
+                chars.position(chars.position() + n);
+                pos += n;
+                chars.flip();
+
+                final boolean endOfInput = (pos == length);
+                final CoderResult result = encoder.encode(chars, out, endOfInput);
+                chars.compact();
+
+                if (result.isError()) throwCodingException(result);
+                if (result.isOverflow()) {
+                    if (stream == null) throw new BufferOverflowException();
+                    drain(stream);
+                } else if (endOfInput) {
+                    while (encoder.flush(out).isOverflow()) {
+                        if (stream == null) throw new BufferOverflowException();
+                        drain(stream);
+                    }
+                    if (stream != null) drain(stream);
+                    return;
+                }
+            }
+        }
+
+        private void drain(final OutputStream stream) throws IOException {
+            bytes.flip();
+            stream.write(bytes.array(), 0, bytes.limit());
+            bytes.clear();
+        }
+
+        private static void throwCodingException(final CoderResult result) {
+            try {
+                result.throwException();
+            } catch (final CharacterCodingException e) {
+                throw new SerializationException("Could not encode serialized text", e);
+            }
+        }
+    }
+
+
+    /**
+     * Resettable {@link Reader} over a {@link CharSequence}; a reusable stand-in for {@link java.io.StringReader}.
+     */
+    private static final class CharSequenceReader extends Reader {
+        private CharSequence source = "";
+        private int pos = 0;
+
+        CharSequenceReader reset(final CharSequence s) {
+            source = s;
+            pos = 0;
+            return this;
+        }
+
+        @Override public int read(final char[] cbuf, final int off, final int len) {
+            if (len == 0) return 0;
+            final int n = Math.min(len, source.length() - pos);
+            if (n <= 0) return -1;
+            for (int i = 0; i < n; i++) cbuf[off + i] = source.charAt(pos + i);
+            pos += n;
+            return n;
+        }
+
+        @Override public int read() { return (pos < source.length()) ? source.charAt(pos++) : -1; }
+
+        @Override public void close() { source = ""; }
+    }
+}
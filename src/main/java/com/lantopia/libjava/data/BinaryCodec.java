@@ -0,0 +1,173 @@
+package com.lantopia.libjava.data;
+
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CharStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Base class for compact binary serializers.  Subclasses write an object's fields with a {@link BinaryWriter} and
+ * read them back with a {@link BinaryReader}, directly into and out of {@link ByteBuffer}s.
+ * <p/>
+ * If the codec is given a schema id, every message starts with that id as a varint, and decoding a message with a
+ * different id fails; this catches messages produced by an incompatible version of a codec.  Codecs built without
+ * one write no header at all.
+ * <p/>
+ * Being a {@link StreamingSerializer}, a codec can be used wherever an {@link ObjectSerializer} is expected.  Its
+ * text forms (strings, {@link Appendable}s and {@link Reader}s) carry the binary message as base64, so that it
+ * survives channels that only carry text; the byte forms carry it as-is.
+ */
+public abstract class BinaryCodec<T> implements StreamingSerializer<T> {
+    public static final int NoSchema = -1;
+
+    private static final int InitialBufferSize = 512;
+    private static final int MaxRetainedBufferSize = 64 * 1024;
+    private static final BaseEncoding Text = BaseEncoding.base64();
+    private static final ByteBuffer Empty = ByteBuffer.allocate(0).asReadOnlyBuffer();
+
+    private final int schemaId;
+    private final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>() {
+        @Override protected Scratch initialValue() { return new Scratch(); }
+    };
+
+    protected BinaryCodec() { this(NoSchema); }
+
+    /**
+     * @param schemaId non-negative id written at the start of each message, or {@link #NoSchema}
+     */
+    protected BinaryCodec(final int schemaId) {
+        if (schemaId < NoSchema) throw new IllegalArgumentException("Schema ids must not be negative");
+        this.schemaId = schemaId;
+    }
+
+    public int getSchemaId() { return schemaId; }
+
+    /**
+     * Writes the fields of the given object.
+     */
+    public abstract void encode(final T object, final BinaryWriter out);
+
+    /**
+     * Reads an object's fields, as written by {@link #encode(Object, BinaryWriter)}.
+     */
+    public abstract T decode(final BinaryReader in);
+
+    @Override public void serialize(final T object, final ByteBuffer out) {
+        final Scratch s = acquire();
+        try {
+            final BinaryWriter writer = s.writer.reset(out);
+            if (schemaId != NoSchema) writer.writeVarInt(schemaId);
+            encode(object, writer);
+        } finally {
+            release(s);
+        }
+    }
+
+    @Override public T parse(final ByteBuffer in) {
+        final Scratch s = acquire();
+        try {
+            final BinaryReader reader = s.reader.reset(in);
+            if (schemaId != NoSchema) {
+                final int id = reader.readVarInt();
+                if (id != schemaId)
+                    throw new SerializationException("Expected schema " + schemaId + " but message has schema " + id);
+            }
+            return decode(reader);
+        } finally {
+            release(s);
+        }
+    }
+
+    @Override public void serialize(final T object, final OutputStream out) throws IOException {
+        final Scratch s = acquire();
+        try {
+            final ByteBuffer bytes = encodeToScratch(object, s);
+            out.write(bytes.array(), bytes.arrayOffset(), bytes.limit());
+        } finally {
+            release(s);
+        }
+    }
+
+    /**
+     * Reads a single message that runs to the end of the stream.
+     */
+    @Override public T parse(final InputStream in) throws IOException {
+        return parse(ByteBuffer.wrap(ByteStreams.toByteArray(in)));
+    }
+
+    @Override public String serialize(final T jsonObject) {
+        final Scratch s = acquire();
+        try {
+            final ByteBuffer bytes = encodeToScratch(jsonObject, s);
+            return Text.encode(bytes.array(), bytes.arrayOffset(), bytes.limit());
+        } finally {
+            release(s);
+        }
+    }
+
+    @Override public void serialize(final T object, final Appendable out) throws IOException {
+        out.append(serialize(object));
+    }
+
+    @Override public T parse(final String jsonData) {
+        try {
+            return parse(ByteBuffer.wrap(Text.decode(jsonData)));
+        } catch (final IllegalArgumentException e) {
+            throw new SerializationException("Message is not valid base64", e);
+        }
+    }
+
+    @Override public T parse(final Reader in) throws IOException { return parse(CharStreams.toString(in)); }
+
+    /**
+     * Encodes into this thread's scratch buffer, growing it until the message fits.
+     *
+     * @return the scratch buffer, flipped so that it holds exactly the message
+     */
+    private ByteBuffer encodeToScratch(final T object, final Scratch s) {
+        while (true) {
+            s.bytes.clear();
+            try {
+                final BinaryWriter writer = s.writer.reset(s.bytes);
+                if (schemaId != NoSchema) writer.writeVarInt(schemaId);
+                encode(object, writer);
+                s.bytes.flip();
+                return s.bytes;
+            } catch (final BufferOverflowException ignored) {
+                s.bytes = ByteBuffer.allocate(s.bytes.capacity() * 2);
+            }
+        }
+    }
+
+    private Scratch acquire() {
+        final Scratch s = scratch.get();
+        if (s.inUse) return new Scratch();
+        s.inUse = true;
+        return s;
+    }
+
+    private void release(final Scratch s) {
+        s.inUse = false;
+        s.writer.reset(Empty);
+        s.reader.reset(Empty);
+        if (s.bytes.capacity() > MaxRetainedBufferSize) s.bytes = ByteBuffer.allocate(InitialBufferSize);
+    }
+
+
+    private static final class Scratch {
+        final BinaryWriter writer = BinaryWriter.make(Empty);
+        final BinaryReader reader = BinaryReader.make(Empty);
+        ByteBuffer bytes = ByteBuffer.allocate(InitialBufferSize);
+        boolean inUse = false;
+    }
+}
@@ -0,0 +1,170 @@
+package com.lantopia.libjava.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Reads the primitives written by {@link BinaryWriter} from a {@link ByteBuffer}.  Byte blocks and strings can be
+ * read as slices of the underlying buffer ({@link #readBytes()}, {@link #readUtf8Bytes()}), which share its storage
+ * rather than copying it; such slices are only valid for as long as the caller leaves the buffer's contents alone.
+ * <p/>
+ * Truncated or corrupt input surfaces as {@link SerializationException}.
+ */
+public final class BinaryReader {
+    private ByteBuffer in;
+
+    private BinaryReader(final ByteBuffer in) { this.in = in; }
+
+    public static BinaryReader make(final ByteBuffer in) { return new BinaryReader(in); }
+
+    public BinaryReader reset(final ByteBuffer in) {
+        this.in = in;
+        return this;
+    }
+
+    public ByteBuffer buffer() { return in; }
+
+    public int remaining() { return in.remaining(); }
+
+    public byte readByte() {
+        if (!in.hasRemaining()) throw truncated();
+        return in.get();
+    }
+
+    public boolean readBoolean() { return readByte() != 0; }
+
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = readByte();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) return value;
+        }
+        throw new SerializationException("Malformed varint at offset " + in.position());
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final byte b = readByte();
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) return value;
+        }
+        throw new SerializationException("Malformed varint at offset " + in.position());
+    }
+
+    public int readSignedVarInt() {
+        final int v = readVarInt();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    public long readSignedVarLong() {
+        final long v = readVarLong();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    public float readFloat() {
+        if (in.remaining() < 4) throw truncated();
+        return in.getFloat();
+    }
+
+    public double readDouble() {
+        if (in.remaining() < 8) throw truncated();
+        return in.getDouble();
+    }
+
+    /**
+     * @return a length-prefixed block of bytes, as a slice sharing the underlying buffer's storage
+     */
+    public ByteBuffer readBytes() {
+        final int length = readLength();
+        final ByteBuffer slice = in.duplicate();
+        slice.limit(in.position() + length);
+        in.position(in.position() + length);
+        return slice.slice();
+    }
+
+    /**
+     * @return the encoded bytes of a length-prefixed UTF-8 string, as a slice sharing the underlying buffer's
+     * storage.  Useful for comparing or forwarding strings without decoding them.
+     */
+    public ByteBuffer readUtf8Bytes() { return readBytes(); }
+
+    public String readUtf8() {
+        final int length = readLength();
+        final char[] chars = new char[length];
+        final int n = decodeUtf8(length, chars);
+        return new String(chars, 0, n);
+    }
+
+    /**
+     * Decodes a length-prefixed UTF-8 string onto the given destination, without creating a String for it.
+     */
+    public <A extends Appendable> A readUtf8(final A out) throws IOException {
+        final int end = in.position() + readLength();
+        while (in.position() < end) {
+            final int cp = nextCodePoint(end);
+            if (cp < 0x10000) {
+                out.append((char) cp);
+            } else {
+                out.append(Character.highSurrogate(cp));
+                out.append(Character.lowSurrogate(cp));
+            }
+        }
+        return out;
+    }
+
+    public BinaryReader skipBytes() {
+        final int length = readLength();
+        in.position(in.position() + length);
+        return this;
+    }
+
+    private int decodeUtf8(final int length, final char[] chars) {
+        final int end = in.position() + length;
+        int n = 0;
+        while (in.position() < end) {
+            final int cp = nextCodePoint(end);
+            if (cp < 0x10000) {
+                chars[n++] = (char) cp;
+            } else {
+                chars[n++] = Character.highSurrogate(cp);
+                chars[n++] = Character.lowSurrogate(cp);
+            }
+        }
+        return n;
+    }
+
+    private int nextCodePoint(final int end) {
+        final int b = in.get() & 0xff;
+        if (b < 0x80) return b;
+
+        final int extra = (b >= 0xf0) ? 3 : (b >= 0xe0) ? 2 : (b >= 0xc0) ? 1 : -1;
+        if (extra < 0 || in.position() + extra > end) return 0xfffd;
+
+        int cp = b & (0x3f >> extra);
+        for (int i = 0; i < extra; i++) {
+            final int c = in.get(in.position()) & 0xff;
+            if ((c & 0xc0) != 0x80) return 0xfffd;
+            in.get();
+            cp = (cp << 6) | (c & 0x3f);
+        }
+        return (cp > Character.MAX_CODE_POINT) ? 0xfffd : cp;
+    }
+
+    private int readLength() {
+        final int length = readVarInt();
+        if (length < 0 || length > in.remaining()) throw truncated();
+        return length;
+    }
+
+    private SerializationException truncated() {
+        return new SerializationException("Truncated input at offset " + in.position());
+    }
+
+    @Override public String toString() { return "BinaryReader{" + in + '}'; }
+}
@@ -0,0 +1,143 @@
+package com.lantopia.libjava.data;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Writes the primitives of the compact binary format straight into a {@link ByteBuffer}:
+ * <ul>
+ * <li>integers as base-128 varints, least significant group first; signed variants are zig-zag encoded first, so
+ * that small negative numbers stay small</li>
+ * <li>strings as a varint byte length followed by that many bytes of UTF-8</li>
+ * <li>byte blocks as a varint length followed by the bytes</li>
+ * <li>floating point numbers as fixed-width big-endian IEEE 754</li>
+ * </ul>
+ * All writes go through the buffer's relative put methods, so overruns surface as
+ * {@link BufferOverflowException}.  An instance can be pointed at a new buffer with {@link #reset(ByteBuffer)}.
+ *
+ * @see BinaryReader
+ */
+public final class BinaryWriter {
+    private ByteBuffer out;
+
+    private BinaryWriter(final ByteBuffer out) { this.out = out; }
+
+    public static BinaryWriter make(final ByteBuffer out) { return new BinaryWriter(out); }
+
+    public BinaryWriter reset(final ByteBuffer out) {
+        this.out = out;
+        return this;
+    }
+
+    public ByteBuffer buffer() { return out; }
+
+    public BinaryWriter writeByte(final int v) {
+        out.put((byte) v);
+        return this;
+    }
+
+    public BinaryWriter writeBoolean(final boolean v) { return writeByte(v ? 1 : 0); }
+
+    /**
+     * Writes an unsigned varint; negative values take the full five bytes.  Use {@link #writeSignedVarInt(int)} for
+     * values that are often negative.
+     */
+    public BinaryWriter writeVarInt(final int v) {
+        int value = v;
+        while ((value & ~0x7f) != 0) {
+            out.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+        return this;
+    }
+
+    public BinaryWriter writeVarLong(final long v) {
+        long value = v;
+        while ((value & ~0x7fL) != 0) {
+            out.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+        return this;
+    }
+
+    public BinaryWriter writeSignedVarInt(final int v) { return writeVarInt((v << 1) ^ (v >> 31)); }
+
+    public BinaryWriter writeSignedVarLong(final long v) { return writeVarLong((v << 1) ^ (v >> 63)); }
+
+    public BinaryWriter writeFloat(final float v) {
+        out.putFloat(v);
+        return this;
+    }
+
+    public BinaryWriter writeDouble(final double v) {
+        out.putDouble(v);
+        return this;
+    }
+
+    /**
+     * Writes the remaining bytes of the given buffer, prefixed by their count.  The source buffer's position is not
+     * changed.
+     */
+    public BinaryWriter writeBytes(final ByteBuffer bytes) {
+        writeVarInt(bytes.remaining());
+        out.put(bytes.duplicate());
+        return this;
+    }
+
+    /**
+     * Writes the given text as length-prefixed UTF-8, encoding directly into the buffer.  Unpaired surrogates are
+     * written as '?', as {@link String#getBytes} would.
+     */
+    public BinaryWriter writeUtf8(final CharSequence s) {
+        final int length = s.length();
+        writeVarInt(utf8Length(s));
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xc0 | (c >> 6)));
+                out.put((byte) (0x80 | (c & 0x3f)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, s.charAt(++i));
+                out.put((byte) (0xf0 | (cp >> 18)));
+                out.put((byte) (0x80 | ((cp >> 12) & 0x3f)));
+                out.put((byte) (0x80 | ((cp >> 6) & 0x3f)));
+                out.put((byte) (0x80 | (cp & 0x3f)));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?');
+            } else {
+                out.put((byte) (0xe0 | (c >> 12)));
+                out.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+                out.put((byte) (0x80 | (c & 0x3f)));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of bytes the given text occupies in UTF-8, as written by {@link #writeUtf8(CharSequence)}
+     */
+    public static int utf8Length(final CharSequence s) {
+        final int length = s.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c < 0x80) continue;
+            if (c < 0x800) bytes += 1;
+            else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                bytes += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) bytes += 2;
+        }
+        return bytes;
+    }
+
+    @Override public String toString() { return "BinaryWriter{" + out + '}'; }
+}
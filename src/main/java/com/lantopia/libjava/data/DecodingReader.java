@@ -0,0 +1,107 @@
+package com.lantopia.libjava.data;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * A resettable {@link Reader} that decodes characters from either an {@link InputStream} or a {@link ByteBuffer}.
+ * Unlike {@link java.io.InputStreamReader}, one instance (and its buffers) can be pointed at a new source any number
+ * of times, so it can be kept per-thread and reused for every message.  Buffer sources are decoded in place, without
+ * copying.
+ */
+class DecodingReader extends Reader {
+    private static final int BufferSize = 8192;
+
+    private final CharsetDecoder decoder;
+    private final ByteBuffer bytes = ByteBuffer.allocate(BufferSize);
+    private final CharBuffer chars = CharBuffer.allocate(BufferSize);
+
+    @Nullable private InputStream stream = null;
+    @Nullable private ByteBuffer buffer = null;
+    private boolean eof = true;
+    private boolean finished = true;
+
+    DecodingReader(final Charset charset) {
+        decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    DecodingReader reset(final InputStream in) {
+        restart();
+        stream = in;
+        buffer = null;
+        eof = false;
+        return this;
+    }
+
+    DecodingReader reset(final ByteBuffer in) {
+        restart();
+        stream = null;
+        buffer = in;
+        eof = true;
+        return this;
+    }
+
+    private void restart() {
+        decoder.reset();
+        bytes.clear().flip();
+        chars.clear().flip();
+        finished = false;
+    }
+
+    @Override public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (len == 0) return 0;
+        if (!chars.hasRemaining() && !fill()) return -1;
+        final int n = Math.min(len, chars.remaining());
+        chars.get(cbuf, off, n);
+        return n;
+    }
+
+    @Override public int read() throws IOException {
+        if (!chars.hasRemaining() && !fill()) return -1;
+        return chars.get();
+    }
+
+    private boolean fill() throws IOException {
+        chars.clear();
+        while (chars.position() == 0 && !finished) {
+            if (!eof) readMore();
+            final ByteBuffer source = (stream == null) ? buffer : bytes;
+            final CoderResult result = decoder.decode(source, chars, eof);
+            if (result.isError()) result.throwException();
+            if (result.isUnderflow() && eof && decoder.flush(chars).isUnderflow()) finished = true;
+        }
+        chars.flip();
+        return chars.hasRemaining();
+    }
+
+    private void readMore() throws IOException {
+        bytes.compact();
+        final int n = stream.read(bytes.array(), bytes.position(), bytes.remaining());
+        if (n < 0) eof = true;
+        else bytes.position(bytes.position() + n);
+        bytes.flip();
+    }
+
+    /**
+     * Detaches this reader from its source; the source itself is left open, since it belongs to the caller.
+     */
+    @Override public void close() {
+        stream = null;
+        buffer = null;
+        finished = true;
+    }
+}
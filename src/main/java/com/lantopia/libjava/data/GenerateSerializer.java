@@ -0,0 +1,27 @@
+package com.lantopia.libjava.data;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Marks a value class for which a JSON {@link ObjectSerializer} should be generated at build time.  With the
+ * lib-java-codegen annotation processor on the compiler's classpath, a class named {@code FooSerializer} is generated
+ * next to each annotated class {@code Foo}.  The generated class extends
+ * {@link com.lantopia.libjava.json.AbstractJsonSerializer}, so it is also a {@link StreamingSerializer}.
+ * <p/>
+ * The annotated class needs a non-private no-argument constructor.  Every non-private, non-static, non-final,
+ * non-transient field is serialized under its own name; fields may be primitives, Strings, enums, or other annotated
+ * value classes.  The generated code reads and writes the fields directly: there is no reflection and no boxing.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateSerializer {
+}
@@ -0,0 +1,588 @@
+package com.lantopia.libjava.data;
+
+import com.google.common.base.Charsets;
+
+import javax.annotation.Nullable;
+import javax.inject.Provider;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+import static com.lantopia.libjava.util.BuilderTools.require;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * {@link ObjectStore} that appends every write to memory-mapped segment files and keeps an in-memory hash index from
+ * key to the location of its latest record, so a write is a sequential append and a read is one lookup and one copy
+ * out of the mapping.  Removals append a tombstone.
+ * <p/>
+ * Each record is a header (CRC32, key length, value length or -1 for a tombstone) followed by the UTF-8 key and the
+ * serialized value.  When the active segment fills up it is sealed and a hint file written beside it, listing each
+ * record's key and offset; at startup the index is rebuilt from hint files where they exist, and by scanning segments
+ * where they don't.  A scan stops at the first zeroed or corrupt record, which discards a write torn by a crash.
+ * <p/>
+ * Overwritten and removed records are dead weight.  {@link #compact()} copies the live records of each sealed segment
+ * whose dead fraction exceeds the compaction threshold to the end of the log, then deletes the segment; it can also be
+ * run periodically on a background thread.
+ * <p/>
+ * Writes reach the page cache immediately, and the disk when the OS gets round to it or on {@link #force()}.
+ */
+public final class LogStructuredStore<T> implements ObjectStore<T> {
+    private static final int HeaderSize = 12;
+    private static final int Tombstone = -1;
+    private static final String SegmentSuffix = ".seg";
+    private static final String HintSuffix = ".hint";
+
+    private final Path directory;
+    private final ObjectSerializer<T> serializer;
+    private final int segmentSize;
+    private final double compactionThreshold;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /**
+     * Segment id in the high 32 bits, offset within the segment in the low 32.
+     */
+    private final HashMap<String, Long> index = new HashMap<>();
+    /**
+     * Location of the latest tombstone for each removed key, in the same form as the index.
+     */
+    private final HashMap<String, Long> tombstones = new HashMap<>();
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private final CRC32 crc = new CRC32();
+    @Nullable private final ScheduledExecutorService compactor;
+    private Segment active;
+
+    private LogStructuredStore(final Builder<T> builder) throws IOException {
+        this.directory = require(builder.directory, "directory");
+        this.serializer = require(builder.serializer, "serializer");
+        this.segmentSize = builder.segmentSize;
+        this.compactionThreshold = builder.compactionThreshold;
+
+        Files.createDirectories(directory);
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SegmentSuffix)) {
+            for (final Path file : files) {
+                final String name = file.getFileName().toString();
+                final int id = Integer.parseInt(name.substring(0, name.length() - SegmentSuffix.length()));
+                segments.put(id, Segment.open(id, file, FileChannel.MapMode.READ_ONLY, 0));
+            }
+        }
+        for (final Segment s : new ArrayList<>(segments.values())) load(s);
+        active = newSegment();
+
+        if (builder.compactEveryMillis > 0) {
+            compactor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override public Thread newThread(final Runnable r) {
+                    final Thread t = new Thread(r, "LogStructuredStore-compactor " + directory.getFileName());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+            compactor.scheduleWithFixedDelay(new Runnable() {
+                @Override public void run() { backgroundCompact(); }
+            }, builder.compactEveryMillis, builder.compactEveryMillis, TimeUnit.MILLISECONDS);
+        } else {
+            compactor = null;
+        }
+    }
+
+    public static <T> Builder<T> builder(final Path directory, final ObjectSerializer<T> serializer) {
+        return new Builder<T>().directory(directory).serializer(serializer);
+    }
+
+    @Nullable @Override public T get(final String key) {
+        lock.readLock().lock();
+        try {
+            final Long location = index.get(key);
+            return (location == null) ? null : read(location);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override public Map<String, T> getAll(final Iterable<String> keys) {
+        final Map<String, T> found = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (final String key : keys) {
+                final Long location = index.get(key);
+                if (location != null) found.put(key, read(location));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    @Override public void put(final String key, final T value) {
+        final byte[] k = key.getBytes(Charsets.UTF_8);
+        final byte[] v = serializer.serialize(value).getBytes(Charsets.UTF_8);
+        lock.writeLock().lock();
+        try {
+            append(key, k, v);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override public void putAll(final Map<String, ? extends T> entries) {
+        final List<byte[]> encoded = new ArrayList<>(entries.size() * 2);
+        for (final Map.Entry<String, ? extends T> e : entries.entrySet()) {
+            encoded.add(e.getKey().getBytes(Charsets.UTF_8));
+            encoded.add(serializer.serialize(e.getValue()).getBytes(Charsets.UTF_8));
+        }
+        lock.writeLock().lock();
+        try {
+            int i = 0;
+            for (final String key : entries.keySet()) {
+                append(key, encoded.get(i), encoded.get(i + 1));
+                i += 2;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override public boolean remove(final String key) {
+        lock.writeLock().lock();
+        try {
+            if (!index.containsKey(key)) return false;
+            append(key, key.getBytes(Charsets.UTF_8), null);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override public void removeAll(final Iterable<String> keys) {
+        lock.writeLock().lock();
+        try {
+            for (final String key : keys) if (index.containsKey(key)) append(key, key.getBytes(Charsets.UTF_8), null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forces the active segment's contents to disk.  Sealed segments are forced as they're sealed.
+     */
+    public void force() {
+        lock.writeLock().lock();
+        try {
+            active.map.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites every sealed segment whose dead fraction exceeds the compaction threshold.  Tombstones count as dead
+     * once they're superseded, or in the oldest segment, where there is nothing older left for them to hide.
+     *
+     * @return the number of segments reclaimed
+     */
+    public int compact() {
+        lock.writeLock().lock();
+        try {
+            final int oldest = segments.firstKey();
+            final List<Segment> candidates = new ArrayList<>();
+            for (final Segment s : segments.values()) {
+                final long needed = (s.id == oldest) ? s.live - s.tombstones : s.live;
+                if (s != active && s.end > 0 && 1.0 - (double) needed / s.end > compactionThreshold) candidates.add(s);
+            }
+
+            for (final Segment s : candidates) compact(s);
+            return candidates.size();
+        } catch (final IOException e) {
+            throw new StorageException("Compaction failed in " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compacts on the background thread.  A failure is reported rather than thrown, since an exception escaping the
+     * task would cancel every later run.  A segment that failed to compact stays in place and is tried again next time.
+     */
+    @SuppressWarnings({"UseOfSystemOutOrSystemErr", "CallToPrintStackTrace"})
+    private void backgroundCompact() {
+        try {
+            compact();
+        } catch (final RuntimeException e) {
+            System.err.println("*** BACKGROUND COMPACTION FAILED: " + e);
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @return the number of live keys
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override public void close() {
+        if (compactor != null) compactor.shutdown();
+        lock.writeLock().lock();
+        try {
+            active.map.force();
+            for (final Segment s : segments.values()) s.channel.close();
+        } catch (final IOException e) {
+            throw new StorageException("Can't close " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // --- Everything below is called with the write lock held, except read(), which needs at least the read lock.
+
+    private T read(final long location) {
+        final Segment s = segments.get((int) (location >>> 32));
+        final ByteBuffer b = s.map.duplicate();
+        final int offset = (int) location;
+        final int keyLength = b.getInt(offset + 4);
+        final byte[] value = new byte[b.getInt(offset + 8)];
+        b.position(offset + HeaderSize + keyLength);
+        b.get(value);
+        return serializer.parse(new String(value, Charsets.UTF_8));
+    }
+
+    /**
+     * Appends a record to the active segment, sealing it first if there isn't room, and updates the index.
+     *
+     * @param value the serialized value, or null for a tombstone
+     */
+    private void append(final String key, final byte[] k, @Nullable final byte[] value) {
+        final int valueLength = (value == null) ? Tombstone : value.length;
+        final int size = HeaderSize + k.length + ((value == null) ? 0 : value.length);
+        if (size > segmentSize) throw new StorageException("Record for '" + key + "' is larger than a segment");
+
+        try {
+            if (active.end + size > segmentSize) {
+                seal(active);
+                active = newSegment();
+            }
+        } catch (final IOException e) {
+            throw new StorageException("Can't start a new segment in " + directory, e);
+        }
+
+        final int offset = active.end;
+        final ByteBuffer b = active.map;
+        b.position(offset + 4);
+        b.putInt(k.length).putInt(valueLength).put(k);
+        if (value != null) b.put(value);
+        b.putInt(offset, checksum(b, offset, size));
+        active.end += size;
+
+        link(active, key, offset, size, valueLength);
+    }
+
+    /**
+     * Makes the record the latest for its key, in the index or, for a tombstone, in the tombstones.  A tombstone is
+     * kept live while older segments may hold the key; see compact(Segment).
+     */
+    private void link(final Segment s, final String key, final int offset, final int size, final int valueLength) {
+        final long location = ((long) s.id << 32) | offset;
+        s.live += size;
+        if (valueLength == Tombstone) {
+            s.tombstones += size;
+            unlink(index.remove(key));
+            unlinkTombstone(tombstones.put(key, location));
+        } else {
+            unlink(index.put(key, location));
+            unlinkTombstone(tombstones.remove(key));
+        }
+    }
+
+    /**
+     * Accounts for a record that is no longer the latest for its key.
+     */
+    private void unlink(@Nullable final Long location) {
+        if (location == null) return;
+        final Segment s = segments.get((int) (location >>> 32));
+        s.live -= recordSize(s.map, (int) (long) location);
+    }
+
+    private void unlinkTombstone(@Nullable final Long location) {
+        if (location == null) return;
+        final Segment s = segments.get((int) (location >>> 32));
+        final int size = recordSize(s.map, (int) (long) location);
+        s.live -= size;
+        s.tombstones -= size;
+    }
+
+    private int checksum(final ByteBuffer b, final int offset, final int size) {
+        // CRC32 has no ByteBuffer overload before Java 8, so the record is checksummed through a copy
+        final byte[] bytes = new byte[size - 4];
+        final ByteBuffer d = b.duplicate();
+        d.position(offset + 4);
+        d.get(bytes);
+        crc.reset();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Copies the segment's live records to the active segment, forces them to disk, and deletes the segment.
+     * Tombstones are copied too, unless this is the oldest segment.
+     */
+    private void compact(final Segment s) throws IOException {
+        final boolean oldest = s.id == segments.firstKey();
+        final ByteBuffer b = s.map.duplicate();
+        for (int offset = 0; offset < s.end; offset += recordSize(b, offset)) {
+            final String key = key(b, offset);
+            final int valueLength = b.getInt(offset + 8);
+            final long here = ((long) s.id << 32) | offset;
+            final Long location = (valueLength == Tombstone) ? tombstones.get(key) : index.get(key);
+            if (location == null || location != here) continue;
+            if (valueLength == Tombstone && oldest) {
+                tombstones.remove(key);
+                continue;
+            }
+
+            final byte[] k = key.getBytes(Charsets.UTF_8);
+            byte[] value = null;
+            if (valueLength != Tombstone) {
+                value = new byte[valueLength];
+                final ByteBuffer d = b.duplicate();
+                d.position(offset + HeaderSize + k.length);
+                d.get(value);
+            }
+            append(key, k, value);
+        }
+
+        // The copies must be on disk before the originals go; a segment sealed along the way was forced as it was
+        active.map.force();
+        segments.remove(s.id);
+        s.channel.close();
+        Files.deleteIfExists(hintFile(s.id));
+        Files.delete(s.file);
+    }
+
+    private Segment newSegment() throws IOException {
+        final int id = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+        final Segment s = Segment.open(id, directory.resolve(String.format("%08d%s", id, SegmentSuffix)),
+                FileChannel.MapMode.READ_WRITE, segmentSize);
+        segments.put(id, s);
+        return s;
+    }
+
+    /**
+     * Flushes a full segment to disk and writes its hint file: offset, key length, value length and key of every
+     * record, in order.
+     */
+    private void seal(final Segment s) throws IOException {
+        s.map.force();
+        final ByteBuffer b = s.map.duplicate();
+        final ByteBuffer hint = ByteBuffer.allocate(s.end);
+        for (int offset = 0; offset < s.end; offset += recordSize(b, offset)) {
+            final int keyLength = b.getInt(offset + 4);
+            hint.putInt(offset).putInt(keyLength).putInt(b.getInt(offset + 8));
+            final ByteBuffer key = b.duplicate();
+            key.limit(offset + HeaderSize + keyLength).position(offset + HeaderSize);
+            hint.put(key);
+        }
+        hint.flip();
+
+        final Path target = hintFile(s.id);
+        final Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (final FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (hint.hasRemaining()) out.write(hint);
+            out.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Adds a sealed segment's records to the index, from its hint file if there is one.  A segment without a hint was
+     * being written when the store last closed, so it is scanned, and sealed now that its extent is known (or deleted,
+     * if nothing was written to it).
+     */
+    private void load(final Segment s) throws IOException {
+        final Path hintFile = hintFile(s.id);
+        if (Files.exists(hintFile)) {
+            final ByteBuffer hint = ByteBuffer.wrap(Files.readAllBytes(hintFile));
+            while (hint.hasRemaining()) {
+                final int offset = hint.getInt();
+                final byte[] key = new byte[hint.getInt()];
+                final int valueLength = hint.getInt();
+                hint.get(key);
+                replay(s, new String(key, Charsets.UTF_8), offset, HeaderSize + key.length + Math.max(valueLength, 0),
+                        valueLength);
+            }
+        } else {
+            final ByteBuffer b = s.map.duplicate();
+            int offset = 0;
+            while (offset + HeaderSize <= b.limit()) {
+                final int keyLength = b.getInt(offset + 4);
+                final int valueLength = b.getInt(offset + 8);
+                if (keyLength < 0 || valueLength < Tombstone) break;
+                final int size = HeaderSize + keyLength + Math.max(valueLength, 0);
+                if (offset + size > b.limit() || (keyLength == 0 && valueLength == 0 && b.getInt(offset) == 0)) break;
+                if (b.getInt(offset) != checksum(b, offset, size)) break;
+
+                replay(s, key(b, offset), offset, size, valueLength);
+                offset += size;
+            }
+            if (offset == 0) {
+                segments.remove(s.id);
+                s.channel.close();
+                Files.delete(s.file);
+                return;
+            }
+            s.end = offset;
+            seal(s);
+        }
+    }
+
+    private void replay(final Segment s, final String key, final int offset, final int size, final int valueLength) {
+        s.end = Math.max(s.end, offset + size);
+        link(s, key, offset, size, valueLength);
+    }
+
+    private Path hintFile(final int id) { return directory.resolve(String.format("%08d%s", id, HintSuffix)); }
+
+    private static int recordSize(final ByteBuffer b, final int offset) {
+        return HeaderSize + b.getInt(offset + 4) + Math.max(b.getInt(offset + 8), 0);
+    }
+
+    private static String key(final ByteBuffer b, final int offset) {
+        final byte[] key = new byte[b.getInt(offset + 4)];
+        final ByteBuffer d = b.duplicate();
+        d.position(offset + HeaderSize);
+        d.get(key);
+        return new String(key, Charsets.UTF_8);
+    }
+
+    @Override public String toString() { return "LogStructuredStore{" + directory + ", segments=" + segments.size() + '}'; }
+
+
+    private static final class Segment {
+        final int id;
+        final Path file;
+        final FileChannel channel;
+        final MappedByteBuffer map;
+        /**
+         * End of the last record written.
+         */
+        int end = 0;
+        /**
+         * Bytes taken by records and tombstones that are still the latest for their key.
+         */
+        long live = 0;
+        /**
+         * Bytes of {@link #live} taken by tombstones.
+         */
+        long tombstones = 0;
+
+        private Segment(final int id, final Path file, final FileChannel channel, final MappedByteBuffer map) {
+            this.id = id;
+            this.file = file;
+            this.channel = channel;
+            this.map = map;
+        }
+
+        /**
+         * @param size the size to map; 0 maps the whole of an existing file
+         */
+        static Segment open(final int id, final Path file, final FileChannel.MapMode mode, final int size)
+                throws IOException {
+            final FileChannel channel = (mode == FileChannel.MapMode.READ_ONLY)
+                    ? FileChannel.open(file, StandardOpenOption.READ)
+                    : FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                return new Segment(id, file, channel, channel.map(mode, 0, (size == 0) ? channel.size() : size));
+            } catch (final IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        @Override public String toString() { return "Segment{" + file + ", end=" + end + ", live=" + live + '}'; }
+    }
+
+    @SuppressWarnings("PackageVisibleField")
+    public static final class Builder<T> implements Provider<LogStructuredStore<T>> {
+        @Nullable Path directory = null;
+        @Nullable ObjectSerializer<T> serializer = null;
+        int segmentSize = 64 * 1024 * 1024;
+        double compactionThreshold = 0.5;
+        long compactEveryMillis = 0;
+
+        Builder() { }
+
+        public Builder<T> directory(final Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        public Builder<T> serializer(final ObjectSerializer<T> serializer) {
+            this.serializer = serializer;
+            return this;
+        }
+
+        /**
+         * Size of each segment file, which bounds the size of a single record.
+         */
+        public Builder<T> segmentSize(final int segmentSize) {
+            if (segmentSize <= HeaderSize) throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Fraction of a segment that must be dead before {@link LogStructuredStore#compact()} rewrites it.
+         */
+        public Builder<T> compactionThreshold(final double threshold) {
+            if (threshold < 0 || threshold >= 1) throw new IllegalArgumentException("Threshold must be in [0, 1)");
+            this.compactionThreshold = threshold;
+            return this;
+        }
+
+        /**
+         * Runs compaction on a background thread at the given interval.  By default it only runs when asked.
+         */
+        public Builder<T> compactEvery(final long interval, final TimeUnit unit) {
+            this.compactEveryMillis = unit.toMillis(interval);
+            return this;
+        }
+
+        /**
+         * @throws StorageException if the store's directory can't be opened or its index rebuilt
+         */
+        @Override public LogStructuredStore<T> get() {
+            try {
+                return new LogStructuredStore<>(this);
+            } catch (final IOException e) {
+                throw new StorageException("Can't open store in " + directory, e);
+            }
+        }
+
+        @Override public String toString() { return "LogStructuredStore.Builder{" + directory + '}'; }
+    }
+}
@@ -0,0 +1,41 @@
+package com.lantopia.libjava.data;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.util.Map;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Persistent mapping from string keys to objects.  The bulk methods exist so that implementations can amortise
+ * per-operation costs (round trips, transactions, syncs) over many entries, and should be preferred to loops over the
+ * single-entry ones.
+ * <p/>
+ * Failures of the underlying storage surface as {@link StorageException}.
+ */
+public interface ObjectStore<T> extends Closeable {
+    @Nullable T get(final String key);
+
+    /**
+     * @return the stored value of each of the given keys that is present; absent keys are left out
+     */
+    Map<String, T> getAll(final Iterable<String> keys);
+
+    void put(final String key, final T value);
+
+    /**
+     * Stores all of the given entries; implementations apply them atomically where the storage allows.
+     */
+    void putAll(final Map<String, ? extends T> entries);
+
+    /**
+     * @return true if the key was present
+     */
+    boolean remove(final String key);
+
+    void removeAll(final Iterable<String> keys);
+
+    @Override void close();
+}
@@ -0,0 +1,15 @@
+package com.lantopia.libjava.data;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Thrown when an object can't be converted to or from its serial form, including when an underlying I/O operation
+ * fails in a context that can't throw {@link java.io.IOException}.
+ */
+public class SerializationException extends RuntimeException {
+    public SerializationException(final String s) { super(s); }
+
+    public SerializationException(final String s, final Throwable e) { super(s, e); }
+}
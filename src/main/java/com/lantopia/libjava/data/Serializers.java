@@ -0,0 +1,61 @@
+package com.lantopia.libjava.data;
+
+import com.google.common.io.CharStreams;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Adapters between {@link ObjectSerializer} and {@link StreamingSerializer}.
+ */
+public final class Serializers {
+    private Serializers() {}
+
+    /**
+     * Wraps an existing string-based serializer so that it can be used as a {@link StreamingSerializer}, encoding and
+     * decoding with UTF-8.  If the serializer is already a streaming one it is returned as-is.
+     * <p/>
+     * The wrapped serializer still produces and consumes whole strings, so this gains nothing in allocation terms;
+     * it exists so that old implementations can be handed to APIs that take the streaming interface.
+     */
+    public static <T> StreamingSerializer<T> streaming(final ObjectSerializer<T> serializer) {
+        if (serializer instanceof StreamingSerializer) return (StreamingSerializer<T>) serializer;
+        return new StringSerializerAdapter<>(serializer);
+    }
+
+    /**
+     * As {@link #streaming(ObjectSerializer)}, but encoding and decoding with the given character set.
+     */
+    public static <T> StreamingSerializer<T> streaming(final ObjectSerializer<T> serializer, final Charset charset) {
+        return new StringSerializerAdapter<>(serializer, charset);
+    }
+
+
+    private static final class StringSerializerAdapter<T> extends AbstractStreamingSerializer<T> {
+        private final ObjectSerializer<T> delegate;
+
+        StringSerializerAdapter(final ObjectSerializer<T> delegate) { this.delegate = delegate; }
+
+        StringSerializerAdapter(final ObjectSerializer<T> delegate, final Charset charset) {
+            super(charset);
+            this.delegate = delegate;
+        }
+
+        @Override public void serialize(final T object, final Appendable out) throws IOException {
+            out.append(delegate.serialize(object));
+        }
+
+        @Override public T parse(final Reader in) throws IOException { return delegate.parse(CharStreams.toString(in)); }
+
+        @Override public String serialize(final T jsonObject) { return delegate.serialize(jsonObject); }
+
+        @Override public T parse(final String jsonData) { return delegate.parse(jsonData); }
+
+        @Override public String toString() { return "Serializers.streaming(" + delegate + ')'; }
+    }
+}
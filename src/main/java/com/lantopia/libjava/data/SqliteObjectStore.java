@@ -0,0 +1,256 @@
+package com.lantopia.libjava.data;
+
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * {@link ObjectStore} keeping serialized objects in a two-column SQLite table.  The database runs in WAL mode with
+ * {@code synchronous=NORMAL}, so a commit costs an append to the log rather than a sync of the whole database.
+ * <p/>
+ * {@link #putAll(Map)} and {@link #removeAll(Iterable)} run in a single transaction and send rows in multi-row
+ * statements; {@link #getAll(Iterable)} fetches keys with {@code IN} lists.  Batches are always a power of two in
+ * size (the remainder of a large batch is broken down into smaller powers of two), so a handful of prepared statements
+ * covers every batch, and those are kept in a small cache rather than re-prepared for each call.
+ * <p/>
+ * All access goes through one connection, so calls are serialized on the store.
+ */
+public final class SqliteObjectStore<T> implements ObjectStore<T> {
+    /**
+     * Largest number of rows per statement: 256 key/value pairs stays under SQLite's default limit of 999 bound
+     * parameters.
+     */
+    private static final int MaxBatch = 256;
+    private static final int MaxCachedStatements = 32;
+    private static final Pattern Identifier = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private final Connection connection;
+    private final String table;
+    private final ObjectSerializer<T> serializer;
+    private final LinkedHashMap<String, PreparedStatement> statements =
+            new LinkedHashMap<String, PreparedStatement>(MaxCachedStatements, 0.75f, true) {
+                @Override protected boolean removeEldestEntry(final Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() <= MaxCachedStatements) return false;
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+            };
+
+    private SqliteObjectStore(final Connection connection, final String table, final ObjectSerializer<T> serializer) {
+        this.connection = connection;
+        this.table = table;
+        this.serializer = serializer;
+    }
+
+    /**
+     * Opens (creating if necessary) the given database file, and the named table within it.
+     */
+    public static <T> SqliteObjectStore<T> make(final Path file, final String table,
+                                                final ObjectSerializer<T> serializer) {
+        if (!Identifier.matcher(table).matches()) throw new IllegalArgumentException("Invalid table name: " + table);
+        try {
+            final Connection connection = DriverManager.getConnection("jdbc:sqlite:" + file);
+            try (final Statement s = connection.createStatement()) {
+                s.execute("PRAGMA journal_mode=WAL");
+                s.execute("PRAGMA synchronous=NORMAL");
+                s.execute("CREATE TABLE IF NOT EXISTS " + table + " (key TEXT PRIMARY KEY NOT NULL, value TEXT NOT NULL)");
+            } catch (final SQLException e) {
+                connection.close();
+                throw e;
+            }
+            return new SqliteObjectStore<>(connection, table, serializer);
+        } catch (final SQLException e) {
+            throw new StorageException("Can't open " + table + " in " + file, e);
+        }
+    }
+
+    @Nullable @Override public synchronized T get(final String key) {
+        try {
+            final PreparedStatement s = statement("SELECT value FROM " + table + " WHERE key = ?");
+            s.setString(1, key);
+            try (final ResultSet r = s.executeQuery()) {
+                return r.next() ? serializer.parse(r.getString(1)) : null;
+            }
+        } catch (final SQLException e) {
+            throw new StorageException("Can't read '" + key + "' from " + table, e);
+        }
+    }
+
+    @Override public synchronized Map<String, T> getAll(final Iterable<String> keys) {
+        final List<String> remaining = toList(keys);
+        final Map<String, T> found = new HashMap<>(remaining.size() * 2);
+        try {
+            for (int i = 0; i < remaining.size(); ) {
+                final int n = batchSize(remaining.size() - i);
+                final PreparedStatement s = statement("SELECT key, value FROM " + table + " WHERE key IN " + placeholders(n, 1));
+                for (int j = 0; j < n; j++) s.setString(j + 1, remaining.get(i + j));
+                try (final ResultSet r = s.executeQuery()) {
+                    while (r.next()) found.put(r.getString(1), serializer.parse(r.getString(2)));
+                }
+                i += n;
+            }
+        } catch (final SQLException e) {
+            throw new StorageException("Can't read from " + table, e);
+        }
+        return found;
+    }
+
+    @Override public synchronized void put(final String key, final T value) {
+        try {
+            final PreparedStatement s = statement("INSERT OR REPLACE INTO " + table + " (key, value) VALUES (?, ?)");
+            s.setString(1, key);
+            s.setString(2, serializer.serialize(value));
+            s.executeUpdate();
+        } catch (final SQLException e) {
+            throw new StorageException("Can't write '" + key + "' to " + table, e);
+        }
+    }
+
+    @Override public synchronized void putAll(final Map<String, ? extends T> entries) {
+        if (entries.isEmpty()) return;
+        try {
+            begin();
+            try {
+                final Iterator<? extends Map.Entry<String, ? extends T>> it = entries.entrySet().iterator();
+                for (int remaining = entries.size(); remaining > 0; ) {
+                    final int n = batchSize(remaining);
+                    final PreparedStatement s = statement("INSERT OR REPLACE INTO " + table + " (key, value) VALUES "
+                            + placeholders(n, 2));
+                    for (int j = 0; j < n; j++) {
+                        final Map.Entry<String, ? extends T> e = it.next();
+                        s.setString(2 * j + 1, e.getKey());
+                        s.setString(2 * j + 2, serializer.serialize(e.getValue()));
+                    }
+                    s.executeUpdate();
+                    remaining -= n;
+                }
+                connection.commit();
+            } finally {
+                end();
+            }
+        } catch (final SQLException e) {
+            throw new StorageException("Can't write to " + table, e);
+        }
+    }
+
+    @Override public synchronized boolean remove(final String key) {
+        try {
+            final PreparedStatement s = statement("DELETE FROM " + table + " WHERE key = ?");
+            s.setString(1, key);
+            return s.executeUpdate() > 0;
+        } catch (final SQLException e) {
+            throw new StorageException("Can't remove '" + key + "' from " + table, e);
+        }
+    }
+
+    @Override public synchronized void removeAll(final Iterable<String> keys) {
+        final List<String> remaining = toList(keys);
+        if (remaining.isEmpty()) return;
+        try {
+            begin();
+            try {
+                for (int i = 0; i < remaining.size(); ) {
+                    final int n = batchSize(remaining.size() - i);
+                    final PreparedStatement s = statement("DELETE FROM " + table + " WHERE key IN " + placeholders(n, 1));
+                    for (int j = 0; j < n; j++) s.setString(j + 1, remaining.get(i + j));
+                    s.executeUpdate();
+                    i += n;
+                }
+                connection.commit();
+            } finally {
+                end();
+            }
+        } catch (final SQLException e) {
+            throw new StorageException("Can't remove from " + table, e);
+        }
+    }
+
+    @Override public synchronized void close() {
+        for (final PreparedStatement s : statements.values()) closeQuietly(s);
+        statements.clear();
+        try {
+            connection.close();
+        } catch (final SQLException e) {
+            throw new StorageException("Can't close " + table, e);
+        }
+    }
+
+    private PreparedStatement statement(final String sql) throws SQLException {
+        PreparedStatement s = statements.get(sql);
+        if (s == null) {
+            s = connection.prepareStatement(sql);
+            statements.put(sql, s);
+        }
+        return s;
+    }
+
+    private void begin() throws SQLException { connection.setAutoCommit(false); }
+
+    /**
+     * Rolls back anything left uncommitted, and returns the connection to auto-commit mode.
+     */
+    private void end() throws SQLException {
+        try {
+            if (!connection.getAutoCommit()) connection.rollback();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static int batchSize(final int remaining) {
+        return (remaining >= MaxBatch) ? MaxBatch : Integer.highestOneBit(remaining);
+    }
+
+    /**
+     * @return {@code (?)} groups for a list of rows, e.g. {@code (?, ?), (?, ?)} for two rows of two
+     */
+    private static String placeholders(final int rows, final int columns) {
+        final StringBuilder s = new StringBuilder(rows * (columns * 3 + 2));
+        if (columns == 1) s.append('(');
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) s.append(", ");
+            if (columns == 1) {
+                s.append('?');
+                continue;
+            }
+            s.append('(');
+            for (int j = 0; j < columns; j++) s.append((j == 0) ? "?" : ", ?");
+            s.append(')');
+        }
+        if (columns == 1) s.append(')');
+        return s.toString();
+    }
+
+    private static List<String> toList(final Iterable<String> keys) {
+        if (keys instanceof List) return (List<String>) keys;
+        final List<String> list = new ArrayList<>();
+        for (final String key : keys) list.add(key);
+        return list;
+    }
+
+    private static void closeQuietly(final Statement s) {
+        try {
+            s.close();
+        } catch (final SQLException ignored) {
+            // Nothing useful to do; the connection will release it on close
+        }
+    }
+
+    @Override public String toString() { return "SqliteObjectStore{" + table + '}'; }
+}
@@ -0,0 +1,404 @@
+package com.lantopia.libjava.data;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.sqlite.SQLiteConfig;
+
+import javax.annotation.Nullable;
+import javax.inject.Provider;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.lantopia.libjava.util.BuilderTools.require;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Connection pool for a single SQLite database in WAL mode, shaped around SQLite's one-writer, many-readers model.
+ * <p/>
+ * Reads borrow one of a fixed set of read-only connections, so they run in parallel with each other and with the
+ * writer.  Writes are queued to a single writer thread owning the only writable connection; it takes everything queued
+ * (up to a batch limit) and runs it in one transaction, so a burst of small writes costs one commit.  Each write runs
+ * inside its own savepoint, so one that fails is rolled back alone and the rest of its batch still commits.  A write's
+ * future completes once its batch has committed.
+ * <p/>
+ * Read connections left idle for longer than the validation interval are checked with a trivial query before being
+ * handed out, and replaced if that fails.  {@link #stats()} reports how long callers have waited for read connections
+ * and how long writes have spent queued.
+ */
+public final class SqlitePool implements AutoCloseable {
+    /**
+     * Work to be done on a pooled connection.  Implementations must not change the connection's transaction or
+     * auto-commit state.
+     */
+    public interface Work<R> {
+        R run(final Connection connection) throws SQLException;
+    }
+
+    private final String url;
+    private final SQLiteConfig readConfig;
+    private final long validateAfterNanos;
+    private final int maxWriteBatch;
+    private final int readerCount;
+    private final BlockingQueue<Reader> readers;
+    private final BlockingQueue<Write<?>> writes = new LinkedBlockingQueue<>();
+    private final Connection writer;
+    private final Thread writerThread;
+    /**
+     * Held while checking {@link #closed} and queueing a write, so that nothing can be queued behind the stop marker.
+     */
+    private final Object queueLock = new Object();
+    private volatile boolean closed = false;
+
+    private final AtomicLong readCount = new AtomicLong();
+    private final AtomicLong readWaitNanos = new AtomicLong();
+    private final AtomicLong maxReadWaitNanos = new AtomicLong();
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong writeBatches = new AtomicLong();
+    private final AtomicLong writeQueueNanos = new AtomicLong();
+    private final AtomicLong maxWriteQueueNanos = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+
+    private SqlitePool(final Builder builder) throws SQLException {
+        final Path file = require(builder.file, "file");
+        this.url = "jdbc:sqlite:" + file;
+        this.validateAfterNanos = builder.validateAfterNanos;
+        this.maxWriteBatch = builder.maxWriteBatch;
+
+        final SQLiteConfig writeConfig = new SQLiteConfig();
+        writeConfig.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        writeConfig.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        writeConfig.setBusyTimeout(Long.toString(builder.busyTimeoutMillis));
+        this.writer = writeConfig.createConnection(url);
+
+        readConfig = new SQLiteConfig();
+        readConfig.setReadOnly(true);
+        readConfig.setBusyTimeout(Long.toString(builder.busyTimeoutMillis));
+        readerCount = builder.readers;
+        readers = new ArrayBlockingQueue<>(readerCount);
+        try {
+            for (int i = 0; i < readerCount; i++) readers.add(new Reader(readConfig.createConnection(url)));
+        } catch (final SQLException e) {
+            for (final Reader r : readers) closeQuietly(r.connection);
+            closeQuietly(writer);
+            throw e;
+        }
+
+        writerThread = new Thread(new Runnable() {
+            @Override public void run() { writeLoop(); }
+        }, "SqlitePool-writer " + file.getFileName());
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public static Builder builder(final Path file) { return new Builder().file(file); }
+
+    /**
+     * Runs the given work on a read-only connection, waiting for one to become free if necessary.
+     *
+     * @throws StorageException if the work fails or the wait is interrupted
+     */
+    public <R> R read(final Work<R> work) {
+        if (closed) throw new IllegalStateException("Pool is closed");
+
+        final long start = System.nanoTime();
+        final Reader reader;
+        try {
+            reader = readers.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted waiting for a read connection", e);
+        }
+        record(System.nanoTime() - start, readCount, readWaitNanos, maxReadWaitNanos);
+
+        try {
+            final Connection c = validated(reader).connection;
+            assert c != null;
+            return work.run(c);
+        } catch (final SQLException e) {
+            throw new StorageException("Read failed on " + url, e);
+        } finally {
+            reader.lastUsed = System.nanoTime();
+            readers.add(reader);
+        }
+    }
+
+    /**
+     * Queues the given work for the writer thread.
+     *
+     * @return a future that completes with the work's result once the batch it ran in has committed, or fails with a
+     * {@link StorageException}
+     */
+    public <R> ListenableFuture<R> write(final Work<R> work) {
+        final Write<R> w = new Write<>(work);
+        synchronized (queueLock) {
+            if (closed) throw new IllegalStateException("Pool is closed");
+            writes.add(w);
+        }
+        return w.result;
+    }
+
+    public Stats stats() {
+        return new Stats(readCount.get(), readWaitNanos.get(), maxReadWaitNanos.get(), writeCount.get(),
+                writeBatches.get(), writeQueueNanos.get(), maxWriteQueueNanos.get(), validationFailures.get());
+    }
+
+    /**
+     * Stops accepting work, waits for queued writes to commit, and closes every connection.  Reads in progress are
+     * allowed to finish.
+     */
+    @Override public void close() {
+        synchronized (queueLock) {
+            if (closed) return;
+            closed = true;
+            writes.add(Write.Stop);
+        }
+        try {
+            writerThread.join();
+            for (int i = 0; i < readerCount; i++) {
+                final Connection c = readers.take().connection;
+                if (c != null) closeQuietly(c);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted closing " + url, e);
+        } finally {
+            closeQuietly(writer);
+        }
+    }
+
+    /**
+     * @return the reader, with its connection checked if it has been idle, and replaced if that check fails or an
+     * earlier replacement did.  A reader whose replacement fails goes back to the pool without a connection, and the
+     * next checkout tries again.
+     */
+    private Reader validated(final Reader reader) {
+        final Connection c = reader.connection;
+        if (c != null) {
+            if (System.nanoTime() - reader.lastUsed < validateAfterNanos) return reader;
+            try (final Statement s = c.createStatement()) {
+                s.executeQuery("SELECT 1").close();
+                return reader;
+            } catch (final SQLException e) {
+                validationFailures.incrementAndGet();
+                reader.connection = null;
+                closeQuietly(c);
+            }
+        }
+        try {
+            reader.connection = readConfig.createConnection(url);
+        } catch (final SQLException reopen) {
+            throw new StorageException("Can't reopen read connection to " + url, reopen);
+        }
+        return reader;
+    }
+
+    private void writeLoop() {
+        final List<Write<?>> batch = new ArrayList<>(maxWriteBatch);
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                batch.add(writes.take());
+            } catch (final InterruptedException e) {
+                break;
+            }
+            writes.drainTo(batch, maxWriteBatch - 1);
+
+            // close() queues the stop marker last, so everything before it is in this batch or an earlier one
+            stopping = batch.remove(Write.Stop);
+            if (!batch.isEmpty()) commit(batch);
+            batch.clear();
+        }
+    }
+
+    private void commit(final List<Write<?>> batch) {
+        final long now = System.nanoTime();
+        for (final Write<?> w : batch) record(now - w.queued, writeCount, writeQueueNanos, maxWriteQueueNanos);
+        writeBatches.incrementAndGet();
+
+        try {
+            writer.setAutoCommit(false);
+            try (final Statement s = writer.createStatement()) {
+                for (final Write<?> w : batch) w.runIn(writer, s);
+                writer.commit();
+            } catch (final SQLException e) {
+                writer.rollback();
+                for (final Write<?> w : batch) w.fail(e);
+                return;
+            } finally {
+                writer.setAutoCommit(true);
+            }
+        } catch (final SQLException e) {
+            for (final Write<?> w : batch) w.fail(e);
+            return;
+        }
+        for (final Write<?> w : batch) w.complete();
+    }
+
+    private static void record(final long nanos, final AtomicLong count, final AtomicLong total, final AtomicLong max) {
+        count.incrementAndGet();
+        total.addAndGet(nanos);
+        long m = max.get();
+        while (nanos > m && !max.compareAndSet(m, nanos)) m = max.get();
+    }
+
+    private static void closeQuietly(final Connection c) {
+        try {
+            c.close();
+        } catch (final SQLException ignored) {
+            // Closing anyway; nothing useful to do
+        }
+    }
+
+    @Override public String toString() { return "SqlitePool{" + url + ", readers=" + readerCount + '}'; }
+
+
+    private static final class Reader {
+        /**
+         * Null after a failed reopen, until the next checkout reopens it.
+         */
+        @Nullable Connection connection;
+        long lastUsed = System.nanoTime();
+
+        Reader(final Connection connection) { this.connection = connection; }
+    }
+
+    private static final class Write<R> {
+        static final Write<Void> Stop = new Write<>(null);
+
+        @Nullable final Work<R> work;
+        final SettableFuture<R> result = SettableFuture.create();
+        final long queued = System.nanoTime();
+        @Nullable R value = null;
+        @Nullable Throwable failure = null;
+
+        Write(@Nullable final Work<R> work) { this.work = work; }
+
+        /**
+         * Runs the work in a savepoint, rolling back to it if the work fails.  Only a failure to manage the
+         * savepoint itself propagates, failing the whole batch.
+         */
+        void runIn(final Connection connection, final Statement s) throws SQLException {
+            s.execute("SAVEPOINT write");
+            try {
+                value = work.run(connection);
+            } catch (final SQLException | RuntimeException e) {
+                failure = e;
+                s.execute("ROLLBACK TO write");
+            }
+            s.execute("RELEASE write");
+        }
+
+        void fail(final Throwable t) { result.setException(new StorageException("Write batch failed", t)); }
+
+        void complete() {
+            if (failure == null) result.set(value);
+            else result.setException(new StorageException("Write failed", failure));
+        }
+    }
+
+    /**
+     * Counters accumulated since the pool was opened.  Wait times are in nanoseconds.
+     */
+    public static final class Stats {
+        public final long reads;
+        public final long readWaitNanos;
+        public final long maxReadWaitNanos;
+        public final long writes;
+        public final long writeBatches;
+        public final long writeQueueNanos;
+        public final long maxWriteQueueNanos;
+        public final long validationFailures;
+
+        Stats(final long reads, final long readWaitNanos, final long maxReadWaitNanos, final long writes,
+              final long writeBatches, final long writeQueueNanos, final long maxWriteQueueNanos,
+              final long validationFailures) {
+            this.reads = reads;
+            this.readWaitNanos = readWaitNanos;
+            this.maxReadWaitNanos = maxReadWaitNanos;
+            this.writes = writes;
+            this.writeBatches = writeBatches;
+            this.writeQueueNanos = writeQueueNanos;
+            this.maxWriteQueueNanos = maxWriteQueueNanos;
+            this.validationFailures = validationFailures;
+        }
+
+        public double meanReadWaitNanos() { return (reads == 0) ? 0 : (double) readWaitNanos / reads; }
+
+        public double meanWriteQueueNanos() { return (writes == 0) ? 0 : (double) writeQueueNanos / writes; }
+
+        public double meanWriteBatchSize() { return (writeBatches == 0) ? 0 : (double) writes / writeBatches; }
+
+        @Override public String toString() {
+            return String.format("SqlitePool.Stats{reads=%d, meanReadWait=%.0fns, maxReadWait=%dns, writes=%d, "
+                            + "batches=%d, meanWriteQueue=%.0fns, maxWriteQueue=%dns, validationFailures=%d}",
+                    reads, meanReadWaitNanos(), maxReadWaitNanos, writes, writeBatches, meanWriteQueueNanos(),
+                    maxWriteQueueNanos, validationFailures);
+        }
+    }
+
+    @SuppressWarnings("PackageVisibleField")
+    public static final class Builder implements Provider<SqlitePool> {
+        @Nullable Path file = null;
+        int readers = Runtime.getRuntime().availableProcessors();
+        int maxWriteBatch = 1000;
+        long validateAfterNanos = TimeUnit.SECONDS.toNanos(30);
+        long busyTimeoutMillis = 5000;
+
+        Builder() { }
+
+        public Builder file(final Path file) {
+            this.file = file;
+            return this;
+        }
+
+        public Builder readers(final int readers) {
+            if (readers <= 0) throw new IllegalArgumentException("Need at least one reader: " + readers);
+            this.readers = readers;
+            return this;
+        }
+
+        public Builder maxWriteBatch(final int maxWriteBatch) {
+            if (maxWriteBatch <= 0) throw new IllegalArgumentException("Batch size must be positive: " + maxWriteBatch);
+            this.maxWriteBatch = maxWriteBatch;
+            return this;
+        }
+
+        /**
+         * Read connections idle for longer than this are validated before reuse.
+         */
+        public Builder validateAfter(final long idle, final TimeUnit unit) {
+            this.validateAfterNanos = unit.toNanos(idle);
+            return this;
+        }
+
+        public Builder busyTimeout(final long timeout, final TimeUnit unit) {
+            this.busyTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * @throws StorageException if the database can't be opened
+         */
+        @Override public SqlitePool get() {
+            try {
+                return new SqlitePool(this);
+            } catch (final SQLException e) {
+                throw new StorageException("Can't open " + file, e);
+            }
+        }
+
+        @Override public String toString() { return "SqlitePool.Builder{" + file + '}'; }
+    }
+}
@@ -0,0 +1,14 @@
+package com.lantopia.libjava.data;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Thrown when an {@link ObjectStore} can't read or write its underlying storage.
+ */
+public class StorageException extends RuntimeException {
+    public StorageException(final String s) { super(s); }
+
+    public StorageException(final String s, final Throwable e) { super(s, e); }
+}
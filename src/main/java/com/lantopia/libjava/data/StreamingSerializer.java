@@ -0,0 +1,54 @@
+package com.lantopia.libjava.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Streaming counterpart to {@link ObjectSerializer}.  Implementations write their serial form directly to a
+ * destination and read it directly from a source, rather than passing every message through an intermediate
+ * {@link String}.  Because this extends {@link ObjectSerializer} it can be used anywhere one of those is expected.
+ * <p/>
+ * Most text-based implementations should extend {@link AbstractStreamingSerializer}, which supplies all of the byte
+ * oriented methods in terms of the character oriented ones.  Existing {@link ObjectSerializer} implementations can be
+ * adapted with {@link Serializers#streaming(ObjectSerializer)}.
+ */
+public interface StreamingSerializer<T> extends ObjectSerializer<T> {
+    /**
+     * Appends the serial form of the object to the given destination.
+     */
+    void serialize(final T object, final Appendable out) throws IOException;
+
+    /**
+     * Writes the encoded serial form of the object to the given stream.  The stream is neither flushed nor closed.
+     */
+    void serialize(final T object, final OutputStream out) throws IOException;
+
+    /**
+     * Writes the encoded serial form of the object into the given buffer, starting at its current position.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough space remaining
+     */
+    void serialize(final T object, final ByteBuffer out);
+
+    /**
+     * Reads one object from the given source.  The reader is not closed.
+     */
+    T parse(final Reader in) throws IOException;
+
+    /**
+     * Reads one object from the given stream.  The stream is not closed.
+     */
+    T parse(final InputStream in) throws IOException;
+
+    /**
+     * Reads one object from the remaining content of the given buffer, advancing its position past what was read.
+     */
+    T parse(final ByteBuffer in);
+}
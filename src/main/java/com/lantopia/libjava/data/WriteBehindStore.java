@@ -0,0 +1,443 @@
+package com.lantopia.libjava.data;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+
+import javax.annotation.Nullable;
+import javax.inject.Provider;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.lantopia.libjava.util.BuilderTools.require;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Caching {@link ObjectStore} that sits in front of another.  Reads are served from an in-memory cache bounded by total
+ * weight, where an entry's weight is the length of its key plus the length of its serialized value, so that a few large
+ * objects can't crowd out everything else.  Values aren't serialized on the caller's thread to weigh them: an entry
+ * starts out weighed at the running average length, and is reweighed with its own length once a flush has serialized
+ * it, whether it was written or read from the backing store.  Writes and removals go into a pending set, where
+ * repeated writes to a key collapse into the latest one, and reach the backing store in batches from a background
+ * thread every flush interval, or sooner once a batch's worth has built up.
+ * <p/>
+ * {@link #flush()} is the durability fence: when it returns, every write made before it was called has been handed
+ * to the backing store.  A failed background flush leaves its writes pending, to be retried on the next one, and its
+ * exception is rethrown from the next call to {@link #flush()}.  {@link #close()} flushes, then closes the backing
+ * store.
+ */
+public final class WriteBehindStore<T> implements ObjectStore<T> {
+    /**
+     * Pending-set marker for a key removed since the last flush.
+     */
+    private static final Object Removed = new Object();
+    /**
+     * Serialized length assumed for a value before any have been measured.
+     */
+    private static final int InitialValueWeight = 256;
+    /**
+     * Keys are spread over this many write counters; see {@link #cacheLoaded}.
+     */
+    private static final int VersionStripes = 64;
+    /**
+     * The cache's concurrency level, which splits its weight limit evenly between this many segments.
+     */
+    private static final int CacheSegments = 4;
+
+    private final ObjectStore<T> backend;
+    private final ObjectSerializer<T> serializer;
+    private final Cache<String, Weighed<T>> cache;
+    private final int maxBatch;
+    private final int maxPending;
+    private final long maxEntryWeight;
+    private final ConcurrentHashMap<String, Object> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushQueued = new AtomicBoolean(false);
+    private final ScheduledExecutorService flusher;
+    private final Runnable flushTask = new Runnable() {
+        @Override public void run() { backgroundFlush(); }
+    };
+    @Nullable private volatile RuntimeException lastFailure = null;
+    private volatile int valueWeight = InitialValueWeight;
+    /**
+     * Keys read from the backing store whose cache entries are still weighed at the average; see {@link #weighLoaded}.
+     */
+    private final ConcurrentLinkedQueue<String> unweighed = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger unweighedCount = new AtomicInteger();
+    /**
+     * For each stripe of keys, writes started (at 2i) and finished (at 2i + 1).
+     */
+    private final AtomicLongArray versions = new AtomicLongArray(VersionStripes * 2);
+
+    private WriteBehindStore(final Builder<T> builder) {
+        this.serializer = require(builder.serializer, "serializer");
+        this.backend = require(builder.backend, "backend");
+        this.maxBatch = builder.maxBatch;
+        this.maxPending = builder.maxBatch * 8;
+        this.maxEntryWeight = builder.maxWeight / CacheSegments;
+        this.cache = CacheBuilder.newBuilder()
+                .concurrencyLevel(CacheSegments)
+                .maximumWeight(builder.maxWeight)
+                .weigher(new Weigher<String, Weighed<T>>() {
+                    @Override public int weigh(final String key, final Weighed<T> entry) {
+                        return key.length() + entry.weight;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override public Thread newThread(final Runnable r) {
+                final Thread t = new Thread(r, "WriteBehindStore-flusher");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        flusher.scheduleWithFixedDelay(flushTask, builder.flushIntervalMillis, builder.flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public static <T> Builder<T> builder(final ObjectStore<T> backend, final ObjectSerializer<T> serializer) {
+        return new Builder<T>().backend(backend).serializer(serializer);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable @Override public T get(final String key) {
+        final Object p = pending.get(key);
+        if (p != null) return (p == Removed) ? null : (T) p;
+
+        final Weighed<T> cached = cache.getIfPresent(key);
+        if (cached != null) return cached.value;
+
+        final long version = version(key);
+        final T loaded = backend.get(key);
+        if (loaded != null) cacheLoaded(key, version, loaded);
+        return loaded;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public Map<String, T> getAll(final Iterable<String> keys) {
+        final Map<String, T> found = new HashMap<>();
+        final List<String> missing = new ArrayList<>();
+        for (final String key : keys) {
+            final Object p = pending.get(key);
+            if (p != null) {
+                if (p != Removed) found.put(key, (T) p);
+                continue;
+            }
+            final Weighed<T> cached = cache.getIfPresent(key);
+            if (cached != null) found.put(key, cached.value);
+            else missing.add(key);
+        }
+
+        if (!missing.isEmpty()) {
+            final long[] before = new long[missing.size()];
+            for (int i = 0; i < before.length; i++) before[i] = version(missing.get(i));
+            final Map<String, T> loaded = backend.getAll(missing);
+            for (int i = 0; i < before.length; i++) {
+                final String key = missing.get(i);
+                final T value = loaded.get(key);
+                if (value == null) continue;
+                found.put(key, value);
+                cacheLoaded(key, before[i], value);
+            }
+        }
+        return found;
+    }
+
+    @Override public void put(final String key, final T value) {
+        startWrite(key);
+        try {
+            pending.put(key, value);
+            cache.put(key, new Weighed<>(value, valueWeight, false));
+        } finally {
+            finishWrite(key);
+        }
+        written();
+    }
+
+    @Override public void putAll(final Map<String, ? extends T> entries) {
+        for (final String key : entries.keySet()) startWrite(key);
+        try {
+            pending.putAll(entries);
+            final int weight = valueWeight;
+            for (final Map.Entry<String, ? extends T> e : entries.entrySet())
+                cache.put(e.getKey(), new Weighed<T>(e.getValue(), weight, false));
+        } finally {
+            for (final String key : entries.keySet()) finishWrite(key);
+        }
+        written();
+    }
+
+    /**
+     * @return true if the key was present, which may mean a read from the backing store
+     */
+    @Override public boolean remove(final String key) {
+        final boolean present = get(key) != null;
+        startWrite(key);
+        try {
+            pending.put(key, Removed);
+            cache.invalidate(key);
+        } finally {
+            finishWrite(key);
+        }
+        written();
+        return present;
+    }
+
+    @Override public void removeAll(final Iterable<String> keys) {
+        for (final String key : keys) {
+            startWrite(key);
+            try {
+                pending.put(key, Removed);
+                cache.invalidate(key);
+            } finally {
+                finishWrite(key);
+            }
+        }
+        written();
+    }
+
+    /**
+     * Writes everything pending to the backing store, waiting for any flush already in progress to finish first.
+     *
+     * @throws StorageException if this or an earlier background flush failed
+     */
+    public void flush() {
+        final RuntimeException earlier = lastFailure;
+        lastFailure = null;
+
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+        if (earlier != null) throw new StorageException("Background flush failed", earlier);
+    }
+
+    /**
+     * @return hit, miss and eviction counts for the read cache
+     */
+    public CacheStats stats() { return cache.stats(); }
+
+    /**
+     * @return the number of keys written or removed since they were last flushed
+     */
+    public int pendingCount() { return pending.size(); }
+
+    @Override public void close() {
+        flusher.shutdown();
+        try {
+            flush();
+        } finally {
+            backend.close();
+        }
+    }
+
+    private static int stripe(final String key) {
+        final int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (VersionStripes - 1);
+    }
+
+    private void startWrite(final String key) { versions.incrementAndGet(stripe(key) * 2); }
+
+    private void finishWrite(final String key) { versions.incrementAndGet(stripe(key) * 2 + 1); }
+
+    /**
+     * @return the number of writes started on the key's stripe, or -1 if any of them hasn't finished
+     */
+    private long version(final String key) {
+        final int i = stripe(key) * 2;
+        final long started = versions.get(i);
+        return (versions.get(i + 1) == started) ? started : -1;
+    }
+
+    /**
+     * Caches a value read from the backing store, unless a write to a key on its stripe was in progress when the read
+     * began or has started since.  Such a write may have put or invalidated the key before the value was cached, in
+     * which case the value is stale, so it is taken back out.
+     */
+    private void cacheLoaded(final String key, final long version, final T value) {
+        if (version < 0) return;
+        final Weighed<T> entry = new Weighed<>(value, valueWeight, false);
+        if (cache.asMap().putIfAbsent(key, entry) != null) return;
+        if (versions.get(stripe(key) * 2) != version) cache.asMap().remove(key, entry);
+        else if (unweighedCount.get() < maxPending) {
+            unweighedCount.incrementAndGet();
+            unweighed.add(key);
+        }
+    }
+
+    private void written() {
+        final int n = pending.size();
+        if (n >= maxPending) {
+            flushLock.lock();
+            try {
+                flushPending();
+            } finally {
+                flushLock.unlock();
+            }
+        } else if (n >= maxBatch && flushQueued.compareAndSet(false, true)) {
+            flusher.execute(flushTask);
+        }
+    }
+
+    private void backgroundFlush() {
+        flushQueued.set(false);
+        if (!flushLock.tryLock()) return;
+        try {
+            flushPending();
+        } catch (final RuntimeException e) {
+            lastFailure = e;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Called with the flush lock held.  Entries are only taken out of the pending set once written, and only if
+     * they haven't been overwritten in the meantime.
+     */
+    @SuppressWarnings("unchecked")
+    private void flushPending() {
+        final Map<String, T> puts = new HashMap<>();
+        final List<String> removes = new ArrayList<>();
+        final Map<String, Object> batch = new HashMap<>();
+
+        for (final Map.Entry<String, Object> e : pending.entrySet()) {
+            batch.put(e.getKey(), e.getValue());
+            if (e.getValue() == Removed) removes.add(e.getKey());
+            else puts.put(e.getKey(), (T) e.getValue());
+
+            if (batch.size() >= maxBatch) {
+                write(puts, removes, batch);
+                puts.clear();
+                removes.clear();
+                batch.clear();
+            }
+        }
+        write(puts, removes, batch);
+        weighLoaded();
+    }
+
+    private void write(final Map<String, T> puts, final List<String> removes, final Map<String, Object> batch) {
+        if (!puts.isEmpty()) {
+            backend.putAll(puts);
+            for (final Map.Entry<String, T> e : puts.entrySet()) reweigh(e.getKey(), e.getValue());
+        }
+        if (!removes.isEmpty()) backend.removeAll(removes);
+        for (final Map.Entry<String, Object> e : batch.entrySet()) pending.remove(e.getKey(), e.getValue());
+    }
+
+    /**
+     * Reweighs the cache entries of values read from the backing store since the last flush.  Only so many are
+     * queued between flushes; the rest keep the weight they were cached with.
+     */
+    private void weighLoaded() {
+        for (String key; (key = unweighed.poll()) != null; ) {
+            unweighedCount.decrementAndGet();
+            final Weighed<T> entry = cache.getIfPresent(key);
+            if (entry != null) reweigh(key, entry.value);
+        }
+    }
+
+    /**
+     * Replaces the key's cache entry, if it still holds the value and hasn't been measured yet, with one weighed at
+     * the value's serialized length, and folds that length into the average new entries start out with.  An entry
+     * too heavy for its cache segment is dropped instead, as the cache would evict everything else in the segment
+     * before it.
+     */
+    private void reweigh(final String key, final T value) {
+        final Weighed<T> entry = cache.getIfPresent(key);
+        if (entry == null || entry.value != value || entry.measured) return;
+
+        final int weight = serializer.serialize(value).length();
+        valueWeight = (int) ((valueWeight * 15L + weight) / 16);
+        if (key.length() + (long) weight > maxEntryWeight) cache.asMap().remove(key, entry);
+        else cache.asMap().replace(key, entry, new Weighed<>(value, weight, true));
+    }
+
+    @Override public String toString() { return "WriteBehindStore{" + backend + ", pending=" + pending.size() + '}'; }
+
+    /**
+     * A cached value and the weight it was cached with: the serialized length once measured, an average until then.
+     */
+    private static final class Weighed<T> {
+        final T value;
+        final int weight;
+        final boolean measured;
+
+        Weighed(final T value, final int weight, final boolean measured) {
+            this.value = value;
+            this.weight = weight;
+            this.measured = measured;
+        }
+    }
+
+    @SuppressWarnings("PackageVisibleField")
+    public static final class Builder<T> implements Provider<WriteBehindStore<T>> {
+        @Nullable ObjectStore<T> backend = null;
+        @Nullable ObjectSerializer<T> serializer = null;
+        long maxWeight = 64L * 1024 * 1024;
+        long flushIntervalMillis = 1000;
+        int maxBatch = 1024;
+
+        Builder() { }
+
+        public Builder<T> backend(final ObjectStore<T> backend) {
+            this.backend = backend;
+            return this;
+        }
+
+        public Builder<T> serializer(final ObjectSerializer<T> serializer) {
+            this.serializer = serializer;
+            return this;
+        }
+
+        /**
+         * Upper bound on the total weight of cached entries: characters of key and serialized value, with the value's
+         * length estimated from recent ones until a flush has measured it.
+         */
+        public Builder<T> maxWeight(final long maxWeight) {
+            this.maxWeight = maxWeight;
+            return this;
+        }
+
+        public Builder<T> flushInterval(final long interval, final TimeUnit unit) {
+            if (interval <= 0) throw new IllegalArgumentException("Flush interval must be positive: " + interval);
+            this.flushIntervalMillis = Math.max(1, unit.toMillis(interval));
+            return this;
+        }
+
+        /**
+         * Number of pending writes that triggers an early flush, and the most sent to the backing store in one call.
+         * Writers flush inline when eight times this many are pending.
+         */
+        public Builder<T> maxBatch(final int maxBatch) {
+            if (maxBatch <= 0) throw new IllegalArgumentException("Batch size must be positive: " + maxBatch);
+            this.maxBatch = maxBatch;
+            return this;
+        }
+
+        @Override public WriteBehindStore<T> get() { return new WriteBehindStore<>(this); }
+
+        @Override public String toString() { return "WriteBehindStore.Builder{" + backend + '}'; }
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ *
+ * Conversion of objects to and from their serial forms, and stores that persist them by key.
+ */
+@ParametersAreNonnullByDefault package com.lantopia.libjava.data;
+
+import javax.annotation.ParametersAreNonnullByDefault;
\ No newline at end of file
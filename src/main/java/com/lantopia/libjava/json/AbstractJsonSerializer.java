@@ -0,0 +1,55 @@
+package com.lantopia.libjava.json;
+
+import com.lantopia.libjava.data.AbstractStreamingSerializer;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Base class for JSON serializers built on {@link JsonWriter} and {@link JsonReader}.  Subclasses write and read a
+ * single value; nested values of other types are handled by calling the nested type's serializer with the same
+ * destination or reader.  This is the base class for serializers generated from
+ * {@link com.lantopia.libjava.data.GenerateSerializer}.
+ */
+public abstract class AbstractJsonSerializer<T> extends AbstractStreamingSerializer<T> {
+    private final ThreadLocal<LocalReader> readers = new ThreadLocal<LocalReader>() {
+        @Override protected LocalReader initialValue() { return new LocalReader(); }
+    };
+
+    /**
+     * Reads one value of this serializer's type from the reader's current position.
+     */
+    public abstract T read(final JsonReader reader) throws IOException;
+
+    @Override public T parse(final Reader in) throws IOException {
+        final LocalReader local = readers.get();
+        if (local.inUse) return read(JsonReader.make(in));
+
+        local.inUse = true;
+        try {
+            return read(local.reader.reset(in));
+        } finally {
+            local.reader.reset(EmptyReader.Instance);
+            local.inUse = false;
+        }
+    }
+
+
+    private static final class LocalReader {
+        final JsonReader reader = JsonReader.make(EmptyReader.Instance);
+        boolean inUse = false;
+    }
+
+
+    private static final class EmptyReader extends Reader {
+        static final EmptyReader Instance = new EmptyReader();
+
+        @Override public int read(final char[] cbuf, final int off, final int len) { return -1; }
+
+        @Override public void close() {}
+    }
+}
@@ -1,12 +1,7 @@
 package com.lantopia.libjava.json;
 
-import com.google.common.base.Charsets;
 import com.google.common.base.Optional;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
-import java.net.URLEncoder;
-
 /**
  * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
  * @version 0.1
@@ -24,37 +19,30 @@ public class Json {
     public static String emptyArray() { return "[]"; }
 
     /**
-     * URLencodes the given string using UTF8 encoding (since the JSON spec requires it).  All Java implementations
-     * should support this encoding, so {@link java.io.UnsupportedEncodingException} should be impossible.
+     * URLencodes the given string using UTF8 encoding (since the JSON spec requires it).  The result is the same as
+     * {@link java.net.URLEncoder}'s, but see {@link PercentCodec} for variants that avoid building a new String.
      *
      * @param jsonString The JSON string to encode
      * @return The URLEncoded equivalent of the JSON string
      */
     public static String urlEncode(final String jsonString) {
-        try {
-            return URLEncoder.encode(jsonString, Charsets.UTF_8.name());
-        } catch (final UnsupportedEncodingException e) {
-            return e.getMessage();
-        }
+        return PercentCodec.form().encode(jsonString);
     }
 
     /**
-     * URLdecodes the given string using UTF8 encoding (since the JSON spec requires it).  All Java implementations
-     * should support this encoding, so {@link java.io.UnsupportedEncodingException} should be impossible.
+     * URLdecodes the given string using UTF8 encoding (since the JSON spec requires it).  The result is the same as
+     * {@link java.net.URLDecoder}'s.
      *
      * @param urlEncodedJsonString The JSON string to encode
      * @return The bare equivalent of the URLDecoded JSON string
+     * @throws IllegalArgumentException if the string contains an incomplete or non-hexadecimal escape
      */
     public static String urlDecode(final String urlEncodedJsonString) {
-        try {
-            return URLDecoder.decode(urlEncodedJsonString, Charsets.UTF_8.name());
-        } catch (final UnsupportedEncodingException e) {
-            return e.getMessage();
-        }
+        return PercentCodec.form().decode(urlEncodedJsonString);
     }
 
     public static Optional<String> urlEncode(final Optional<String> jsonString) {
-        if (jsonString.isPresent()) return Optional.of(urlDecode(jsonString.get()));
+        if (jsonString.isPresent()) return Optional.of(urlEncode(jsonString.get()));
         else return jsonString;
     }
 
@@ -0,0 +1,393 @@
+package com.lantopia.libjava.json;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Structural index over a JSON document, for reading a few values out of a large document without parsing all of it.
+ * <p/>
+ * Building the index is a single pass that records the position of every structural character (braces, brackets,
+ * colons and commas outside strings, plus the quotes delimiting each string) in a flat int array, and pairs each
+ * opening bracket and quote with its partner.  Field access through {@link LazyJsonObject} and
+ * {@link LazyJsonArray} then hops from field to field using the index, stepping over nested containers and strings in
+ * constant time, and decodes only the values actually asked for.
+ * <p/>
+ * The index pass checks nesting and string termination only; a malformed value is reported when (and if) it is read.
+ * The document text must not change while the index is in use.
+ */
+public final class JsonIndex {
+    private final CharSequence text;
+    private int[] positions;
+    private int[] partners;
+    private int count = 0;
+
+    private JsonIndex(final CharSequence text) {
+        this.text = text;
+        final int capacity = Math.max(16, text.length() / 6);
+        positions = new int[capacity];
+        partners = new int[capacity];
+    }
+
+    /**
+     * Indexes the given document.
+     *
+     * @throws MalformedJsonException if brackets are unbalanced or a string is unterminated
+     */
+    public static JsonIndex build(final CharSequence text) throws MalformedJsonException {
+        final JsonIndex index = new JsonIndex(text);
+        index.scan();
+        return index;
+    }
+
+    /**
+     * @return the document's top-level object
+     * @throws IllegalStateException if the document isn't an object
+     */
+    public LazyJsonObject object() {
+        if (count == 0 || text.charAt(positions[0]) != '{' || !isBlank(0, positions[0]))
+            throw new IllegalStateException("Document is not a JSON object");
+        return new LazyJsonObject(this, 0);
+    }
+
+    /**
+     * @return the document's top-level array
+     * @throws IllegalStateException if the document isn't an array
+     */
+    public LazyJsonArray array() {
+        if (count == 0 || text.charAt(positions[0]) != '[' || !isBlank(0, positions[0]))
+            throw new IllegalStateException("Document is not a JSON array");
+        return new LazyJsonArray(this, 0);
+    }
+
+    public CharSequence getText() { return text; }
+
+    /**
+     * @return the number of structural characters recorded
+     */
+    public int size() { return count; }
+
+    private void scan() throws MalformedJsonException {
+        final CharSequence s = text;
+        final int length = s.length();
+        int[] open = new int[32];
+        int depth = 0;
+
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            switch (c) {
+                case '"': {
+                    final int start = add(i);
+                    i = closingQuote(i + 1);
+                    if (i < 0) throw new MalformedJsonException("Unterminated string at offset " + positions[start]);
+                    final int end = add(i);
+                    partners[start] = end;
+                    break;
+                }
+                case '{':
+                case '[':
+                    if (depth == open.length) open = Arrays.copyOf(open, depth * 2);
+                    open[depth++] = add(i);
+                    break;
+                case '}':
+                case ']': {
+                    if (depth == 0) throw new MalformedJsonException("Unbalanced '" + c + "' at offset " + i);
+                    final int start = open[--depth];
+                    if (s.charAt(positions[start]) != ((c == '}') ? '{' : '['))
+                        throw new MalformedJsonException("Mismatched '" + c + "' at offset " + i);
+                    final int close = add(i);
+                    partners[start] = close;
+                    break;
+                }
+                case ':':
+                case ',':
+                    add(i);
+                    break;
+                default:
+            }
+        }
+        if (depth != 0) throw new MalformedJsonException("Unclosed '" + s.charAt(positions[open[depth - 1]]) + '\'');
+    }
+
+    /**
+     * @return the position of the quote closing the string whose contents begin at the given position, or -1
+     */
+    private int closingQuote(final int from) {
+        if (text instanceof String) {
+            // indexOf is an intrinsic, and much faster than stepping through escapes one character at a time
+            final String s = (String) text;
+            int quote = s.indexOf('"', from);
+            while (quote >= 0) {
+                int slashes = 0;
+                while (s.charAt(quote - 1 - slashes) == '\\') slashes++;
+                if ((slashes & 1) == 0) return quote;
+                quote = s.indexOf('"', quote + 1);
+            }
+            return -1;
+        }
+
+        final int length = text.length();
+        for (int i = from; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c == '"') return i;
+            if (c == '\\') i++;
+        }
+        return -1;
+    }
+
+    private int add(final int position) {
+        if (count == positions.length) {
+            positions = Arrays.copyOf(positions, count * 2);
+            partners = Arrays.copyOf(partners, count * 2);
+        }
+        positions[count] = position;
+        return count++;
+    }
+
+    // --- Navigation, shared by LazyJsonObject and LazyJsonArray.  Values are identified by the entry just before
+    // --- them: the colon for an object field, or the opening bracket or comma for an array element.
+
+    /**
+     * @return the position of the first character of the value following the given entry
+     */
+    int valueStart(final int before) {
+        int i = positions[before] + 1;
+        while (isWhitespace(text.charAt(i))) i++;
+        return i;
+    }
+
+    /**
+     * @return the entry following the value that follows the given entry: a comma or a closing bracket
+     */
+    int skipValue(final int before) {
+        final int start = valueStart(before);
+        final int next = before + 1;
+        if (positions[next] == start) {
+            final char c = text.charAt(start);
+            if (c == '{' || c == '[' || c == '"') return partners[next] + 1;
+        }
+        return next;
+    }
+
+    /**
+     * @return the colon entry of the named field in the object opening at the given entry, or -1
+     */
+    int findField(final int object, final CharSequence name) {
+        final int end = partners[object];
+        int key = object + 1;
+        while (key < end) {
+            if (text.charAt(positions[key]) != '"' || text.charAt(positions[key + 2]) != ':')
+                throw new IllegalStateException("Malformed object at offset " + positions[object]);
+            if (keyEquals(key, name)) return key + 2;
+
+            final int after = skipValue(key + 2);
+            if (after >= end) break;
+            key = after + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the opening quote entry of each key in the object opening at the given entry, in document order
+     */
+    int[] keys(final int object) {
+        final int end = partners[object];
+        int[] keys = new int[8];
+        int n = 0;
+        for (int key = object + 1; key < end; key = skipValue(key + 2) + 1) {
+            if (n == keys.length) keys = Arrays.copyOf(keys, n * 2);
+            keys[n++] = key;
+        }
+        return Arrays.copyOf(keys, n);
+    }
+
+    /**
+     * @return the entry before each element of the array opening at the given entry, in document order
+     */
+    int[] elements(final int array) {
+        final int end = partners[array];
+        if (valueStart(array) == positions[end]) return new int[0];
+
+        int[] elements = new int[8];
+        int n = 0;
+        for (int before = array; before < end; before = skipValue(before)) {
+            if (n == elements.length) elements = Arrays.copyOf(elements, n * 2);
+            elements[n++] = before;
+        }
+        return Arrays.copyOf(elements, n);
+    }
+
+    // --- Value decoding; each takes the entry before the value.
+
+    boolean isNull(final int before) {
+        final int start = valueStart(before);
+        return text.charAt(start) == 'n' && regionMatches(start, scalarEnd(before), "null");
+    }
+
+    @Nullable String string(final int before) {
+        final int start = valueStart(before);
+        if (text.charAt(start) == '"') return decodeString(before + 1);
+        if (isNull(before)) return null;
+        throw mismatch(start, "a string");
+    }
+
+    long longValue(final int before) {
+        final int start = valueStart(before);
+        if (!isNumberStart(text.charAt(start))) throw mismatch(start, "a number");
+        return parseLong(start, scalarEnd(before));
+    }
+
+    double doubleValue(final int before) {
+        final int start = valueStart(before);
+        if (!isNumberStart(text.charAt(start))) throw mismatch(start, "a number");
+        return parseDouble(start, scalarEnd(before));
+    }
+
+    boolean booleanValue(final int before) {
+        final int start = valueStart(before);
+        final int end = scalarEnd(before);
+        if (regionMatches(start, end, "true")) return true;
+        if (regionMatches(start, end, "false")) return false;
+        throw mismatch(start, "a boolean");
+    }
+
+    @Nullable LazyJsonObject objectValue(final int before) {
+        final int start = valueStart(before);
+        if (text.charAt(start) == '{') return new LazyJsonObject(this, before + 1);
+        if (isNull(before)) return null;
+        throw mismatch(start, "an object");
+    }
+
+    @Nullable LazyJsonArray arrayValue(final int before) {
+        final int start = valueStart(before);
+        if (text.charAt(start) == '[') return new LazyJsonArray(this, before + 1);
+        if (isNull(before)) return null;
+        throw mismatch(start, "an array");
+    }
+
+    /**
+     * @return the value's JSON text, as a view of the document
+     */
+    CharSequence raw(final int before) {
+        final int start = valueStart(before);
+        final int next = before + 1;
+        final char c = text.charAt(start);
+        if (positions[next] == start && (c == '{' || c == '[' || c == '"')) return span(next);
+        return text.subSequence(start, scalarEnd(before));
+    }
+
+    /**
+     * @return the text from the given opening entry to its partner, inclusive
+     */
+    CharSequence span(final int open) { return text.subSequence(positions[open], positions[partners[open]] + 1); }
+
+    private IllegalStateException mismatch(final int start, final String expected) {
+        return new IllegalStateException("Value at offset " + start + " is not " + expected);
+    }
+
+    private static boolean isNumberStart(final char c) { return c == '-' || (c >= '0' && c <= '9'); }
+
+    private boolean keyEquals(final int key, final CharSequence name) {
+        final int start = positions[key] + 1;
+        final int end = positions[key + 1];
+        final int length = name.length();
+
+        if (end - start == length) {
+            int i = 0;
+            while (i < length && text.charAt(start + i) == name.charAt(i)) i++;
+            if (i == length) return true;
+        }
+
+        for (int i = start; i < end; i++)
+            if (text.charAt(i) == '\\') return decodeString(key).contentEquals(name);
+        return false;
+    }
+
+    /**
+     * @return the text of the string whose opening quote is the given entry, with escapes resolved
+     */
+    String decodeString(final int quote) {
+        final int start = positions[quote] + 1;
+        final int end = positions[partners[quote]];
+
+        int i = start;
+        while (i < end && text.charAt(i) != '\\') i++;
+        if (i == end) return text.subSequence(start, end).toString();
+
+        final StringBuilder out = new StringBuilder(end - start);
+        out.append(text, start, i);
+        while (i < end) {
+            final char c = text.charAt(i++);
+            if (c != '\\') {
+                out.append(c);
+                continue;
+            }
+            final char e = text.charAt(i++);
+            switch (e) {
+                case 'n': out.append('\n'); break;
+                case 'r': out.append('\r'); break;
+                case 't': out.append('\t'); break;
+                case 'b': out.append('\b'); break;
+                case 'f': out.append('\f'); break;
+                case 'u':
+                    if (i + 4 > end) throw new IllegalStateException("Malformed unicode escape at offset " + i);
+                    out.append((char) Integer.parseInt(text.subSequence(i, i + 4).toString(), 16));
+                    i += 4;
+                    break;
+                default: out.append(e);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * @return the end (exclusive) of the scalar value following the given entry, with trailing whitespace trimmed
+     */
+    int scalarEnd(final int before) {
+        int end = positions[before + 1];
+        while (isWhitespace(text.charAt(end - 1))) end--;
+        return end;
+    }
+
+    long parseLong(final int start, final int end) {
+        final boolean negative = text.charAt(start) == '-';
+        long value = 0;
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c < '0' || c > '9') return (long) parseDouble(start, end);
+            final long next = value * 10 - (c - '0');
+            if (value < Long.MIN_VALUE / 10 || next > value)
+                throw new IllegalStateException("Number out of range at offset " + start);
+            value = next;
+        }
+        if (negative) return value;
+        if (value == Long.MIN_VALUE) throw new IllegalStateException("Number out of range at offset " + start);
+        return -value;
+    }
+
+    double parseDouble(final int start, final int end) {
+        try {
+            return Double.parseDouble(text.subSequence(start, end).toString());
+        } catch (final NumberFormatException e) {
+            throw new IllegalStateException("Malformed number at offset " + start, e);
+        }
+    }
+
+    boolean regionMatches(final int start, final int end, final String literal) {
+        if (end - start != literal.length()) return false;
+        for (int i = 0; i < literal.length(); i++) if (text.charAt(start + i) != literal.charAt(i)) return false;
+        return true;
+    }
+
+    private boolean isBlank(final int start, final int end) {
+        for (int i = start; i < end; i++) if (!isWhitespace(text.charAt(i))) return false;
+        return true;
+    }
+
+    private static boolean isWhitespace(final char c) { return c == ' ' || c == '\n' || c == '\r' || c == '\t'; }
+
+    @Override public String toString() { return "JsonIndex{length=" + text.length() + ", entries=" + count + '}'; }
+}
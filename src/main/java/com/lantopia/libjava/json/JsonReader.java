@@ -0,0 +1,504 @@
+package com.lantopia.libjava.json;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Pull-style streaming JSON reader.  Primitive values are decoded directly from the input buffer without boxing, and
+ * names can be matched against a precomputed {@link NameTable} without being turned into strings at all.  An instance
+ * can be pointed at a new source with {@link #reset(Reader)}, so that one reader (and its buffers) can be kept and
+ * reused.
+ * <p/>
+ * Typical use:
+ * <code>
+ * reader.beginObject();
+ * while (reader.hasNext()) {
+ * switch (reader.nextName(Names)) {
+ * case 0: name = reader.nextString(); break;
+ * case 1: age = reader.nextInt(); break;
+ * default: reader.skipValue();
+ * }
+ * }
+ * reader.endObject();
+ * </code>
+ */
+public final class JsonReader {
+    private static final int EmptyDocument = 0;
+    private static final int NonEmptyDocument = 1;
+    private static final int EmptyObject = 2;
+    private static final int DanglingName = 3;
+    private static final int NonEmptyObject = 4;
+    private static final int EmptyArray = 5;
+    private static final int NonEmptyArray = 6;
+
+    private Reader in;
+    private final char[] buffer = new char[1024];
+    private int pos = 0;
+    private int limit = 0;
+    private long consumed = 0;
+
+    private int[] stack = new int[32];
+    private int depth = 0;
+    @Nullable private Token peeked = null;
+    private final StringBuilder scratch = new StringBuilder();
+
+    private JsonReader(final Reader in) {
+        reset(in);
+    }
+
+    public static JsonReader make(final Reader in) { return new JsonReader(in); }
+
+    /**
+     * Points this reader at a new source and forgets any document in progress.
+     */
+    public JsonReader reset(final Reader in) {
+        this.in = in;
+        pos = limit = 0;
+        consumed = 0;
+        depth = 0;
+        stack[depth++] = EmptyDocument;
+        peeked = null;
+        return this;
+    }
+
+    /**
+     * @return the kind of the next token, without consuming it
+     */
+    public Token peek() throws IOException {
+        if (peeked != null) return peeked;
+
+        final int scope = stack[depth - 1];
+        switch (scope) {
+            case EmptyArray: {
+                stack[depth - 1] = NonEmptyArray;
+                final int c = nextNonWhitespace();
+                if (c == ']') return peeked = Token.EndArray;
+                if (c == -1) throw syntaxError("Unexpected end of input");
+                pos--;
+                break;
+            }
+            case NonEmptyArray: {
+                final int c = nextNonWhitespace();
+                if (c == ']') return peeked = Token.EndArray;
+                if (c != ',') throw syntaxError("Expected ',' or ']'");
+                break;
+            }
+            case EmptyObject:
+            case NonEmptyObject: {
+                stack[depth - 1] = DanglingName;
+                int c = nextNonWhitespace();
+                if (c == '}') return peeked = Token.EndObject;
+                if (scope == NonEmptyObject) {
+                    if (c != ',') throw syntaxError("Expected ',' or '}'");
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') throw syntaxError("Expected name");
+                return peeked = Token.Name;
+            }
+            case DanglingName:
+                stack[depth - 1] = NonEmptyObject;
+                if (nextNonWhitespace() != ':') throw syntaxError("Expected ':'");
+                break;
+            case EmptyDocument:
+                stack[depth - 1] = NonEmptyDocument;
+                break;
+            default:
+                if (nextNonWhitespace() != -1) throw syntaxError("Expected end of document");
+                return peeked = Token.End;
+        }
+
+        final int c = nextNonWhitespace();
+        switch (c) {
+            case '{': return peeked = Token.BeginObject;
+            case '[': return peeked = Token.BeginArray;
+            case '"': return peeked = Token.String;
+            case 't':
+            case 'f':
+                pos--;
+                return peeked = Token.Boolean;
+            case 'n':
+                pos--;
+                return peeked = Token.Null;
+            case -1:
+                throw syntaxError("Unexpected end of input");
+            default:
+                if (c != '-' && (c < '0' || c > '9')) throw syntaxError("Unexpected character '" + (char) c + '\'');
+                pos--;
+                return peeked = Token.Number;
+        }
+    }
+
+    /**
+     * @return true if the current object or array has another element
+     */
+    public boolean hasNext() throws IOException {
+        final Token t = peek();
+        return t != Token.EndObject && t != Token.EndArray && t != Token.End;
+    }
+
+    public void beginObject() throws IOException {
+        expect(Token.BeginObject);
+        push(EmptyObject);
+    }
+
+    public void endObject() throws IOException {
+        expect(Token.EndObject);
+        depth--;
+    }
+
+    public void beginArray() throws IOException {
+        expect(Token.BeginArray);
+        push(EmptyArray);
+    }
+
+    public void endArray() throws IOException {
+        expect(Token.EndArray);
+        depth--;
+    }
+
+    public String nextName() throws IOException {
+        expect(Token.Name);
+        readQuoted();
+        return scratch.toString();
+    }
+
+    /**
+     * Consumes the next name and looks it up in the given table, without creating a string for it.
+     *
+     * @return the index of the name in the table, or -1 if it isn't there
+     */
+    public int nextName(final NameTable names) throws IOException {
+        expect(Token.Name);
+        readQuoted();
+        return names.indexOf(scratch);
+    }
+
+    public String nextString() throws IOException {
+        expect(Token.String);
+        readQuoted();
+        return scratch.toString();
+    }
+
+    @Nullable public String nextStringOrNull() throws IOException {
+        if (peek() == Token.Null) {
+            nextNull();
+            return null;
+        }
+        return nextString();
+    }
+
+    /**
+     * Consumes the next string value and looks it up in the given table, without creating a string for it.
+     *
+     * @return the index of the value in the table, or -1 if it isn't there
+     */
+    public int nextString(final NameTable values) throws IOException {
+        expect(Token.String);
+        readQuoted();
+        return values.indexOf(scratch);
+    }
+
+    /**
+     * Consumes the next string value, which should be a single character.
+     */
+    public char nextChar() throws IOException {
+        expect(Token.String);
+        readQuoted();
+        if (scratch.length() != 1) throw syntaxError("Expected a single character");
+        return scratch.charAt(0);
+    }
+
+    public boolean nextBoolean() throws IOException {
+        expect(Token.Boolean);
+        final int c = read();
+        if (c == 't') {
+            readLiteral("rue");
+            return true;
+        }
+        readLiteral("alse");
+        return false;
+    }
+
+    public void nextNull() throws IOException {
+        expect(Token.Null);
+        readLiteral("null");
+    }
+
+    /**
+     * Consumes the next number, which must be an integer: one with a fraction or exponent is rejected rather than
+     * rounded.
+     */
+    public long nextLong() throws IOException {
+        expect(Token.Number);
+        readNumber();
+
+        final int length = scratch.length();
+        final boolean negative = scratch.charAt(0) == '-';
+        if (length == (negative ? 1 : 0)) throw syntaxError("Malformed number");
+        long value = 0;
+        for (int i = negative ? 1 : 0; i < length; i++) {
+            final char c = scratch.charAt(i);
+            if (c < '0' || c > '9') throw syntaxError("Expected an integer");
+            final long next = value * 10 - (c - '0');
+            if (value < Long.MIN_VALUE / 10 || next > value) throw syntaxError("Number out of range");
+            value = next;
+        }
+        if (negative) return value;
+        if (value == Long.MIN_VALUE) throw syntaxError("Number out of range");
+        return -value;
+    }
+
+    public int nextInt() throws IOException {
+        final long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) throw syntaxError("Number out of range");
+        return (int) value;
+    }
+
+    public short nextShort() throws IOException {
+        final long value = nextLong();
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) throw syntaxError("Number out of range");
+        return (short) value;
+    }
+
+    public byte nextByte() throws IOException {
+        final long value = nextLong();
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) throw syntaxError("Number out of range");
+        return (byte) value;
+    }
+
+    public double nextDouble() throws IOException {
+        expect(Token.Number);
+        readNumber();
+        return parseDouble();
+    }
+
+    /**
+     * Consumes the next value, including everything nested inside it.
+     */
+    public void skipValue() throws IOException {
+        switch (peek()) {
+            case BeginObject:
+                beginObject();
+                while (hasNext()) {
+                    expect(Token.Name);
+                    readQuoted();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case BeginArray:
+                beginArray();
+                while (hasNext()) skipValue();
+                endArray();
+                break;
+            case String:
+                nextString(NameTable.Empty);
+                break;
+            case Number:
+                expect(Token.Number);
+                readNumber();
+                break;
+            case Boolean:
+                nextBoolean();
+                break;
+            case Null:
+                nextNull();
+                break;
+            default:
+                throw syntaxError("Expected a value");
+        }
+    }
+
+    private void expect(final Token token) throws IOException {
+        final Token t = peek();
+        if (t != token) throw syntaxError("Expected " + token + " but was " + t);
+        peeked = null;
+    }
+
+    private void push(final int scope) {
+        if (depth == stack.length) stack = Arrays.copyOf(stack, depth * 2);
+        stack[depth++] = scope;
+    }
+
+    private double parseDouble() throws IOException {
+        try {
+            return Double.parseDouble(scratch.toString());
+        } catch (final NumberFormatException e) {
+            throw syntaxError("Malformed number");
+        }
+    }
+
+    private void readNumber() throws IOException {
+        scratch.setLength(0);
+        while (true) {
+            final int c = read();
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                scratch.append((char) c);
+            } else {
+                if (c != -1) pos--;
+                return;
+            }
+        }
+    }
+
+    private void readLiteral(final String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++)
+            if (read() != rest.charAt(i)) throw syntaxError("Malformed literal");
+    }
+
+    /**
+     * Reads the remainder of a quoted string (the opening quote having already been consumed) into the scratch
+     * buffer, resolving escapes.
+     */
+    private void readQuoted() throws IOException {
+        scratch.setLength(0);
+        while (true) {
+            int start = pos;
+            while (pos < limit) {
+                final char c = buffer[pos];
+                if (c == '"') {
+                    scratch.append(buffer, start, pos - start);
+                    pos++;
+                    return;
+                }
+                if (c == '\\') {
+                    scratch.append(buffer, start, pos - start);
+                    pos++;
+                    scratch.append(readEscape());
+                    start = pos;
+                    continue;
+                }
+                pos++;
+            }
+            scratch.append(buffer, start, pos - start);
+            if (!fill()) throw syntaxError("Unterminated string");
+        }
+    }
+
+    private char readEscape() throws IOException {
+        final int c = read();
+        switch (c) {
+            case 'n': return '\n';
+            case 'r': return '\r';
+            case 't': return '\t';
+            case 'b': return '\b';
+            case 'f': return '\f';
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(read(), 16);
+                    if (digit < 0) throw syntaxError("Malformed unicode escape");
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw syntaxError("Invalid escape sequence");
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            final int c = read();
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') return c;
+        }
+    }
+
+    private int read() throws IOException {
+        if (pos == limit && !fill()) return -1;
+        return buffer[pos++];
+    }
+
+    /**
+     * Refills the buffer.  The last character of the previous buffer is kept at the front, so that a single
+     * {@code pos--} after a read is always valid.
+     */
+    private boolean fill() throws IOException {
+        int keep = 0;
+        if (limit > 0) {
+            buffer[0] = buffer[limit - 1];
+            keep = 1;
+        }
+        consumed += limit - keep;
+        pos = keep;
+        limit = keep;
+        while (true) {
+            final int n = in.read(buffer, keep, buffer.length - keep);
+            if (n < 0) return false;
+            if (n > 0) {
+                limit = keep + n;
+                return true;
+            }
+        }
+    }
+
+    private MalformedJsonException syntaxError(final String message) {
+        return new MalformedJsonException(message + " at offset " + (consumed + pos));
+    }
+
+    @Override public String toString() {
+        return "JsonReader{offset=" + (consumed + pos) + ", depth=" + depth + '}';
+    }
+
+    public enum Token {
+        BeginObject, EndObject, BeginArray, EndArray, Name, String, Number, Boolean, Null, End
+    }
+
+    /**
+     * A fixed set of names, laid out once in an open-addressed table so that a name read from the input can be
+     * matched to an index without allocating.  Build one per type and keep it in a static field.
+     */
+    public static final class NameTable {
+        static final NameTable Empty = of();
+
+        private final String[] names;
+        private final int[] slots;
+        private final int mask;
+
+        private NameTable(final String[] names) {
+            this.names = names;
+            int capacity = 4;
+            while (capacity < names.length * 2) capacity <<= 1;
+            slots = new int[capacity];
+            mask = capacity - 1;
+            Arrays.fill(slots, -1);
+            for (int i = 0; i < names.length; i++) {
+                int slot = names[i].hashCode() & mask;
+                while (slots[slot] != -1) slot = (slot + 1) & mask;
+                slots[slot] = i;
+            }
+        }
+
+        public static NameTable of(final String... names) { return new NameTable(names.clone()); }
+
+        public int size() { return names.length; }
+
+        public String get(final int index) { return names[index]; }
+
+        /**
+         * @return the index of the given name, or -1 if it isn't in the table
+         */
+        public int indexOf(final CharSequence name) {
+            final int length = name.length();
+            int hash = 0;
+            for (int i = 0; i < length; i++) hash = 31 * hash + name.charAt(i);
+
+            for (int slot = hash & mask; slots[slot] != -1; slot = (slot + 1) & mask) {
+                final String candidate = names[slots[slot]];
+                if (candidate.hashCode() == hash && candidate.contentEquals(name)) return slots[slot];
+            }
+            return -1;
+        }
+
+        @Override public String toString() { return "NameTable" + Arrays.toString(names); }
+    }
+}
@@ -0,0 +1,230 @@
+package com.lantopia.libjava.json;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Streaming JSON writer.  Values are escaped and appended straight to the destination, with no intermediate
+ * strings, maps or token objects.  An instance keeps track of nesting and separators and can be pointed at a new
+ * destination with {@link #reset(Appendable)}, so that one writer (and one destination buffer) can be kept and reused
+ * for every document.
+ * <p/>
+ * The static methods write single values and are suitable for straight-line code that lays out separators itself,
+ * such as generated serializers.
+ */
+public final class JsonWriter {
+    private static final char[] Hex = "0123456789abcdef".toCharArray();
+
+    private Appendable out;
+    private boolean[] hasElements = new boolean[16];
+    private int depth = 0;
+    private boolean afterName = false;
+
+    private JsonWriter(final Appendable out) { this.out = out; }
+
+    public static JsonWriter make(final Appendable out) { return new JsonWriter(out); }
+
+    /**
+     * Points this writer at a new destination and forgets any document in progress.
+     */
+    public JsonWriter reset(final Appendable out) {
+        this.out = out;
+        depth = 0;
+        afterName = false;
+        return this;
+    }
+
+    public JsonWriter beginObject() throws IOException { return open('{'); }
+
+    public JsonWriter endObject() throws IOException { return close('}'); }
+
+    public JsonWriter beginArray() throws IOException { return open('['); }
+
+    public JsonWriter endArray() throws IOException { return close(']'); }
+
+    public JsonWriter name(final CharSequence name) throws IOException {
+        separate();
+        writeString(out, name);
+        out.append(':');
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(@Nullable final CharSequence value) throws IOException {
+        separate();
+        writeString(out, value);
+        return this;
+    }
+
+    public JsonWriter value(final long value) throws IOException {
+        separate();
+        writeNumber(out, value);
+        return this;
+    }
+
+    public JsonWriter value(final double value) throws IOException {
+        separate();
+        writeNumber(out, value);
+        return this;
+    }
+
+    public JsonWriter value(final boolean value) throws IOException {
+        separate();
+        out.append(value ? "true" : "false");
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        separate();
+        out.append("null");
+        return this;
+    }
+
+    /**
+     * Writes an arbitrary object: strings and characters as JSON strings, numbers and booleans as themselves, null as
+     * null, and anything else as the JSON string of its {@link Object#toString()}.
+     */
+    public JsonWriter value(@Nullable final Object value) throws IOException {
+        if (value == null) return nullValue();
+        if (value instanceof CharSequence) return value((CharSequence) value);
+        if (value instanceof Boolean) return value(((Boolean) value).booleanValue());
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return value(((Number) value).longValue());
+        if (value instanceof Number) return value(((Number) value).doubleValue());
+        return value(value.toString());
+    }
+
+    private JsonWriter open(final char c) throws IOException {
+        separate();
+        out.append(c);
+        if (depth == hasElements.length) hasElements = Arrays.copyOf(hasElements, depth * 2);
+        hasElements[depth++] = false;
+        return this;
+    }
+
+    private JsonWriter close(final char c) throws IOException {
+        if (depth == 0) throw new IllegalStateException("Nesting problem: no open object or array");
+        depth--;
+        out.append(c);
+        return this;
+    }
+
+    private void separate() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth == 0) return;
+        if (hasElements[depth - 1]) out.append(',');
+        else hasElements[depth - 1] = true;
+    }
+
+    /**
+     * Appends the given text as a quoted and escaped JSON string, or null if there is no text.  Runs of characters
+     * that need no escaping are appended in one call.
+     */
+    public static void writeString(final Appendable out, @Nullable final CharSequence s) throws IOException {
+        if (s == null) {
+            out.append("null");
+            return;
+        }
+
+        out.append('"');
+        final int length = s.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029') continue;
+
+            if (start < i) out.append(s, start, i);
+            start = i + 1;
+            escape(out, c);
+        }
+        if (start < length) out.append(s, start, length);
+        out.append('"');
+    }
+
+    /**
+     * Appends the given character as a quoted and escaped JSON string.
+     */
+    public static void writeString(final Appendable out, final char c) throws IOException {
+        out.append('"');
+        if (c >= 0x20 && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029') out.append(c);
+        else escape(out, c);
+        out.append('"');
+    }
+
+    private static void escape(final Appendable out, final char c) throws IOException {
+        switch (c) {
+            case '"': out.append("\\\""); break;
+            case '\\': out.append("\\\\"); break;
+            case '\n': out.append("\\n"); break;
+            case '\r': out.append("\\r"); break;
+            case '\t': out.append("\\t"); break;
+            case '\b': out.append("\\b"); break;
+            case '\f': out.append("\\f"); break;
+            default:
+                out.append("\\u")
+                        .append(Hex[(c >> 12) & 0xf]).append(Hex[(c >> 8) & 0xf])
+                        .append(Hex[(c >> 4) & 0xf]).append(Hex[c & 0xf]);
+        }
+    }
+
+    /**
+     * Appends the decimal form of the given number, one digit at a time, without going through a String.
+     */
+    public static void writeNumber(final Appendable out, final long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            out.append("-9223372036854775808");
+            return;
+        }
+
+        long v = value;
+        if (v < 0) {
+            out.append('-');
+            v = -v;
+        }
+
+        long divisor = 1;
+        while (divisor <= v / 10) divisor *= 10;
+        while (divisor > 0) {
+            out.append((char) ('0' + (v / divisor) % 10));
+            divisor /= 10;
+        }
+    }
+
+    /**
+     * Appends the given number.  Integral values in the exact range of a long are written without a fractional part.
+     * Other values are appended to a {@link StringBuilder} directly, without going through a String.
+     *
+     * @throws IllegalArgumentException if the number is NaN or infinite, neither of which JSON can represent
+     */
+    public static void writeNumber(final Appendable out, final double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value))
+            throw new IllegalArgumentException("JSON cannot represent " + value);
+        if (value == Math.rint(value) && Math.abs(value) < 0x1p53) writeNumber(out, (long) value);
+        else if (out instanceof StringBuilder) ((StringBuilder) out).append(value);
+        else out.append(Double.toString(value));
+    }
+
+    /**
+     * As {@link #writeNumber(Appendable, double)}, but non-integral values are written with only as many digits as a
+     * float needs.
+     */
+    public static void writeNumber(final Appendable out, final float value) throws IOException {
+        if (Float.isNaN(value) || Float.isInfinite(value))
+            throw new IllegalArgumentException("JSON cannot represent " + value);
+        if (value == Math.rint(value) && Math.abs(value) < 0x1p24f) writeNumber(out, (long) value);
+        else if (out instanceof StringBuilder) ((StringBuilder) out).append(value);
+        else out.append(Float.toString(value));
+    }
+
+    public static void writeBoolean(final Appendable out, final boolean value) throws IOException {
+        out.append(value ? "true" : "false");
+    }
+}
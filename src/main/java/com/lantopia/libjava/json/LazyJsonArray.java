@@ -0,0 +1,67 @@
+package com.lantopia.libjava.json;
+
+import javax.annotation.Nullable;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * View of a JSON array within a {@link JsonIndex}.  The element boundaries are located through the index the first
+ * time an element is asked for, after which access by position is constant time; element values are decoded only
+ * when read.
+ * <p/>
+ * Typed getters throw {@link IllegalStateException} if the element has a different type, and
+ * {@link IndexOutOfBoundsException} for a position outside the array.
+ */
+public final class LazyJsonArray {
+    private final JsonIndex index;
+    private final int open;
+    @Nullable private int[] elements = null;
+
+    LazyJsonArray(final JsonIndex index, final int open) {
+        this.index = index;
+        this.open = open;
+    }
+
+    public int size() { return elements().length; }
+
+    public boolean isNull(final int i) { return index.isNull(element(i)); }
+
+    @Nullable public String getString(final int i) { return index.string(element(i)); }
+
+    public long getLong(final int i) { return index.longValue(element(i)); }
+
+    public int getInt(final int i) {
+        final long value = getLong(i);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+            throw new IllegalStateException("Element " + i + " is out of range for an int: " + value);
+        return (int) value;
+    }
+
+    public double getDouble(final int i) { return index.doubleValue(element(i)); }
+
+    public boolean getBoolean(final int i) { return index.booleanValue(element(i)); }
+
+    @Nullable public LazyJsonObject getObject(final int i) { return index.objectValue(element(i)); }
+
+    @Nullable public LazyJsonArray getArray(final int i) { return index.arrayValue(element(i)); }
+
+    /**
+     * @return the element's undecoded JSON text
+     */
+    public CharSequence getRaw(final int i) { return index.raw(element(i)); }
+
+    private int element(final int i) {
+        final int[] e = elements();
+        if (i < 0 || i >= e.length) throw new IndexOutOfBoundsException("Index " + i + ", size " + e.length);
+        return e[i];
+    }
+
+    private int[] elements() {
+        if (elements == null) elements = index.elements(open);
+        return elements;
+    }
+
+    @Override public String toString() { return index.span(open).toString(); }
+}
@@ -0,0 +1,96 @@
+package com.lantopia.libjava.json;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * View of a JSON object within a {@link JsonIndex}.  Each lookup walks the object's fields through the index,
+ * comparing keys in place, and decodes only the value found; nothing is cached, so a caller reading the same field
+ * repeatedly should keep the result.
+ * <p/>
+ * Typed getters throw {@link IllegalStateException} if the value has a different type; the default-taking forms
+ * return the default only when the field is absent or null.
+ */
+public final class LazyJsonObject {
+    private final JsonIndex index;
+    private final int open;
+
+    LazyJsonObject(final JsonIndex index, final int open) {
+        this.index = index;
+        this.open = open;
+    }
+
+    public boolean has(final CharSequence name) { return index.findField(open, name) >= 0; }
+
+    /**
+     * @return true if the field is absent or explicitly null
+     */
+    public boolean isNull(final CharSequence name) {
+        final int field = index.findField(open, name);
+        return field < 0 || index.isNull(field);
+    }
+
+    @Nullable public String getString(final CharSequence name) {
+        final int field = index.findField(open, name);
+        return (field < 0) ? null : index.string(field);
+    }
+
+    public long getLong(final CharSequence name, final long defaultValue) {
+        final int field = index.findField(open, name);
+        return (field < 0 || index.isNull(field)) ? defaultValue : index.longValue(field);
+    }
+
+    public int getInt(final CharSequence name, final int defaultValue) {
+        final long value = getLong(name, defaultValue);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+            throw new IllegalStateException("Field '" + name + "' is out of range for an int: " + value);
+        return (int) value;
+    }
+
+    public double getDouble(final CharSequence name, final double defaultValue) {
+        final int field = index.findField(open, name);
+        return (field < 0 || index.isNull(field)) ? defaultValue : index.doubleValue(field);
+    }
+
+    public boolean getBoolean(final CharSequence name, final boolean defaultValue) {
+        final int field = index.findField(open, name);
+        return (field < 0 || index.isNull(field)) ? defaultValue : index.booleanValue(field);
+    }
+
+    @Nullable public LazyJsonObject getObject(final CharSequence name) {
+        final int field = index.findField(open, name);
+        return (field < 0) ? null : index.objectValue(field);
+    }
+
+    @Nullable public LazyJsonArray getArray(final CharSequence name) {
+        final int field = index.findField(open, name);
+        return (field < 0) ? null : index.arrayValue(field);
+    }
+
+    /**
+     * @return the field's undecoded JSON text, or null if it is absent
+     */
+    @Nullable public CharSequence getRaw(final CharSequence name) {
+        final int field = index.findField(open, name);
+        return (field < 0) ? null : index.raw(field);
+    }
+
+    /**
+     * @return the object's field names, in document order
+     */
+    public List<String> names() {
+        final int[] keys = index.keys(open);
+        final List<String> names = new ArrayList<>(keys.length);
+        for (final int key : keys) names.add(index.decodeString(key));
+        return names;
+    }
+
+    public int size() { return index.keys(open).length; }
+
+    @Override public String toString() { return index.span(open).toString(); }
+}
@@ -0,0 +1,14 @@
+package com.lantopia.libjava.json;
+
+import java.io.IOException;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Thrown when JSON input doesn't follow the JSON grammar.
+ */
+public class MalformedJsonException extends IOException {
+    public MalformedJsonException(final String s) { super(s); }
+}
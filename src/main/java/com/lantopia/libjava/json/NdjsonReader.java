@@ -0,0 +1,261 @@
+package com.lantopia.libjava.json;
+
+import com.lantopia.libjava.data.ObjectSerializer;
+import com.lantopia.libjava.data.SerializationException;
+import com.lantopia.libjava.data.Serializers;
+import com.lantopia.libjava.data.StreamingSerializer;
+import com.lantopia.libjava.patterns.Callback;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Parses newline-delimited JSON files in parallel.  The file is divided into chunks of roughly
+ * {@link #withChunkSize(int) chunkSize} bytes, each ending on a newline; every chunk is memory-mapped on its own and
+ * parsed by a fork-join task, which hands each line to the serializer as a slice of the mapping, so record bytes are
+ * never copied onto the heap.  Files larger than 2GB are fine, as no single mapping spans more than one chunk.
+ * <p/>
+ * With {@link Ordering#Ordered} the sink sees records in file order, one call at a time, though not always from the
+ * same thread.  With {@link Ordering#Unordered} each task feeds its records to the sink as they are parsed, so the
+ * sink is called concurrently and must be thread-safe.  Either way at most {@link #withMaxChunksInFlight(int)} chunks
+ * are in progress or awaiting delivery at once, which bounds memory use when the sink is slower than the parsers.
+ * <p/>
+ * Blank lines are skipped, and a trailing '\r' on each line is ignored.  The first failure, whether from parsing or
+ * from the sink, stops the read and is rethrown from {@link #read(Path, Callback)}.
+ */
+public final class NdjsonReader<T> {
+    public static enum Ordering {Ordered, Unordered}
+
+    private static final int DefaultChunkSize = 4 * 1024 * 1024;
+    private static final int ProbeSize = 8192;
+
+    private final StreamingSerializer<T> serializer;
+    private final Ordering ordering;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+    @Nullable private final ForkJoinPool pool;
+
+    private NdjsonReader(final StreamingSerializer<T> serializer, final Ordering ordering, final int chunkSize,
+                         final int maxChunksInFlight, @Nullable final ForkJoinPool pool) {
+        this.serializer = serializer;
+        this.ordering = ordering;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = maxChunksInFlight;
+        this.pool = pool;
+    }
+
+    /**
+     * A reader that preserves record order, using a fresh pool sized to the machine for each read.
+     */
+    public static <T> NdjsonReader<T> make(final ObjectSerializer<T> serializer) {
+        final int cores = Runtime.getRuntime().availableProcessors();
+        return new NdjsonReader<>(Serializers.streaming(serializer), Ordering.Ordered, DefaultChunkSize, cores * 4, null);
+    }
+
+    public NdjsonReader<T> withOrdering(final Ordering ordering) {
+        return new NdjsonReader<>(serializer, ordering, chunkSize, maxChunksInFlight, pool);
+    }
+
+    public NdjsonReader<T> withChunkSize(final int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        return new NdjsonReader<>(serializer, ordering, chunkSize, maxChunksInFlight, pool);
+    }
+
+    public NdjsonReader<T> withMaxChunksInFlight(final int maxChunksInFlight) {
+        if (maxChunksInFlight <= 0) throw new IllegalArgumentException("Must allow at least one chunk in flight");
+        return new NdjsonReader<>(serializer, ordering, chunkSize, maxChunksInFlight, pool);
+    }
+
+    /**
+     * Runs the parsing tasks on the given pool, which is left running afterwards, rather than on a pool of the
+     * reader's own.
+     */
+    public NdjsonReader<T> withPool(final ForkJoinPool pool) {
+        return new NdjsonReader<>(serializer, ordering, chunkSize, maxChunksInFlight, pool);
+    }
+
+    /**
+     * Parses every record in the file, passing each to the sink.  Must not be called from a task running in the
+     * reader's pool.
+     *
+     * @return the number of records read
+     * @throws SerializationException if a record can't be parsed; the message gives its byte offset
+     */
+    public long read(final Path file, final Callback<? super T> sink) throws IOException {
+        final ForkJoinPool p = (pool == null) ? new ForkJoinPool() : pool;
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new Run(channel, sink, p).execute();
+        } finally {
+            if (pool == null) p.shutdown();
+        }
+    }
+
+    @Override public String toString() {
+        return "NdjsonReader{" + serializer + ", " + ordering + ", chunkSize=" + chunkSize + '}';
+    }
+
+
+    /**
+     * State of a single call to {@link #read(Path, Callback)}.
+     */
+    private final class Run {
+        final FileChannel channel;
+        final Callback<? super T> sink;
+        final ForkJoinPool pool;
+        final Semaphore permits = new Semaphore(maxChunksInFlight);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final AtomicLong records = new AtomicLong();
+        final ByteBuffer probe = ByteBuffer.allocateDirect(ProbeSize);
+
+        /**
+         * Ordered mode only: parsed chunks awaiting delivery, indexed by chunk number modulo the window size.  A slot
+         * can't be reused before its chunk is delivered, as the permit for the next chunk in it is only released then.
+         */
+        @Nullable final List<List<T>> pending;
+        long nextToDeliver = 0;
+
+        Run(final FileChannel channel, final Callback<? super T> sink, final ForkJoinPool pool) {
+            this.channel = channel;
+            this.sink = sink;
+            this.pool = pool;
+            if (ordering == Ordering.Ordered) {
+                pending = new ArrayList<>(maxChunksInFlight);
+                for (int i = 0; i < maxChunksInFlight; i++) pending.add(null);
+            } else {
+                pending = null;
+            }
+        }
+
+        long execute() throws IOException {
+            final long size = channel.size();
+            long start = 0;
+            long chunk = 0;
+
+            try {
+                while (start < size && failure.get() == null) {
+                    final long end = chunkEnd(start, size);
+                    permits.acquire();
+                    if (failure.get() != null) {
+                        permits.release();
+                        break;
+                    }
+                    pool.execute(new ChunkTask(chunk++, start, channel.map(FileChannel.MapMode.READ_ONLY, start, end - start)));
+                    start = end;
+                }
+                permits.acquire(maxChunksInFlight);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading " + channel, e);
+            }
+
+            final Throwable t = failure.get();
+            if (t instanceof IOException) throw (IOException) t;
+            if (t instanceof RuntimeException) throw (RuntimeException) t;
+            if (t instanceof Error) throw (Error) t;
+            return records.get();
+        }
+
+        /**
+         * @return the position just past the first newline at least a chunk beyond the given start, or the file size
+         */
+        long chunkEnd(final long start, final long size) throws IOException {
+            long position = start + chunkSize;
+            while (position < size) {
+                probe.clear();
+                final int n = channel.read(probe, position);
+                for (int i = 0; i < n; i++) if (probe.get(i) == '\n') return position + i + 1;
+                position += n;
+            }
+            return size;
+        }
+
+        void deliver(final long chunk, final List<T> parsed) {
+            synchronized (this) {
+                pending.set((int) (chunk % maxChunksInFlight), parsed);
+                while (true) {
+                    final int slot = (int) (nextToDeliver % maxChunksInFlight);
+                    final List<T> ready = pending.get(slot);
+                    if (ready == null) break;
+                    pending.set(slot, null);
+                    nextToDeliver++;
+                    try {
+                        if (failure.get() == null) for (final T record : ready) sink.execute(record);
+                    } catch (final RuntimeException | Error e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                }
+            }
+        }
+
+
+        private final class ChunkTask extends RecursiveAction {
+            final long chunk;
+            final long offset;
+            final MappedByteBuffer bytes;
+
+            ChunkTask(final long chunk, final long offset, final MappedByteBuffer bytes) {
+                this.chunk = chunk;
+                this.offset = offset;
+                this.bytes = bytes;
+            }
+
+            @Override protected void compute() {
+                final List<T> parsed = (pending == null) ? null : new ArrayList<T>();
+                try {
+                    if (failure.get() == null) parse(parsed);
+                } catch (final RuntimeException | Error e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    if (parsed == null) permits.release();
+                    else deliver(chunk, parsed);
+                }
+            }
+
+            private void parse(@Nullable final List<T> parsed) {
+                final int limit = bytes.limit();
+                int lineStart = 0;
+                long n = 0;
+                while (lineStart < limit) {
+                    int lineEnd = lineStart;
+                    while (lineEnd < limit && bytes.get(lineEnd) != '\n') lineEnd++;
+                    final int next = lineEnd + 1;
+                    if (lineEnd > lineStart && bytes.get(lineEnd - 1) == '\r') lineEnd--;
+
+                    if (lineEnd > lineStart) {
+                        final ByteBuffer line = bytes.duplicate();
+                        line.limit(lineEnd).position(lineStart);
+                        final T record;
+                        try {
+                            record = serializer.parse(line.slice());
+                        } catch (final RuntimeException e) {
+                            throw new SerializationException("Malformed record at byte offset " + (offset + lineStart), e);
+                        }
+                        if (parsed == null) sink.execute(record);
+                        else parsed.add(record);
+                        n++;
+                    }
+                    lineStart = next;
+                }
+                records.addAndGet(n);
+            }
+        }
+    }
+}
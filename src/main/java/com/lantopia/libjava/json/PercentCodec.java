@@ -0,0 +1,317 @@
+package com.lantopia.libjava.json;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Table-driven percent (URL) encoder and decoder, always using UTF-8.  Text is encoded from any {@link CharSequence}
+ * onto any {@link Appendable}, and already-encoded bytes from one {@link ByteBuffer} to another, without charset
+ * lookups or intermediate byte arrays.  Input that needs no escaping is passed through in a single append, and the
+ * String methods return their argument unchanged in that case.
+ * <p/>
+ * Two flavours are provided: {@link #form()} matches {@link java.net.URLEncoder} and {@link java.net.URLDecoder}
+ * (spaces become '+'), while {@link #rfc3986()} escapes everything outside the RFC 3986 unreserved set and encodes
+ * spaces as %20.  Malformed UTF-8 inside escapes decodes to U+FFFD, though not always with the same number of
+ * replacement characters as {@link java.net.URLDecoder} produces.
+ */
+public final class PercentCodec {
+    private static final char[] Hex = "0123456789ABCDEF".toCharArray();
+    /**
+     * Smallest code point that may be encoded with the given number of UTF-8 continuation bytes; anything smaller is
+     * an overlong encoding.
+     */
+    private static final int[] MinCodePoint = {0, 0x80, 0x800, 0x10000};
+    private static final byte[] HexValues = new byte[128];
+    /**
+     * Most output characters a single input character can produce: a surrogate pair becomes four escaped bytes.
+     */
+    private static final int MaxCharsPerInput = 12;
+    private static final ThreadLocal<Output> Outputs = new ThreadLocal<Output>() {
+        @Override protected Output initialValue() { return new Output(); }
+    };
+    private static final String AlphaNumeric = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final PercentCodec Form = new PercentCodec(AlphaNumeric + ".-*_", true);
+    private static final PercentCodec Rfc3986 = new PercentCodec(AlphaNumeric + "-._~", false);
+
+    static {
+        Arrays.fill(HexValues, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            HexValues["0123456789abcdef".charAt(i)] = (byte) i;
+            HexValues["0123456789ABCDEF".charAt(i)] = (byte) i;
+        }
+    }
+
+    /**
+     * Indexed by ASCII code; true for characters that are passed through unescaped.
+     */
+    private final boolean[] safe = new boolean[128];
+    private final boolean spaceAsPlus;
+
+    private PercentCodec(final String safeChars, final boolean spaceAsPlus) {
+        for (int i = 0; i < safeChars.length(); i++) safe[safeChars.charAt(i)] = true;
+        this.spaceAsPlus = spaceAsPlus;
+    }
+
+    /**
+     * @return the application/x-www-form-urlencoded codec, equivalent to {@link java.net.URLEncoder} with UTF-8
+     */
+    public static PercentCodec form() { return Form; }
+
+    /**
+     * @return a codec that leaves only RFC 3986 unreserved characters unescaped, suitable for path segments
+     */
+    public static PercentCodec rfc3986() { return Rfc3986; }
+
+    public String encode(final String s) {
+        final int first = firstUnsafe(s);
+        if (first == s.length()) return s;
+
+        final StringBuilder out = new StringBuilder(s.length() + 16);
+        out.append(s, 0, first);
+        try {
+            encodeFrom(s, first, out);
+        } catch (final IOException e) {
+            throw new AssertionError(e); // StringBuilder doesn't throw
+        }
+        return out.toString();
+    }
+
+    public <A extends Appendable> A encode(final CharSequence s, final A out) throws IOException {
+        final int first = firstUnsafe(s);
+        out.append(s, 0, first);
+        if (first < s.length()) encodeFrom(s, first, out);
+        return out;
+    }
+
+    /**
+     * Percent-encodes the remaining bytes of {@code in}, which are taken to be UTF-8 already, into {@code out}.
+     * Both buffers' positions are advanced.
+     *
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of space
+     */
+    public void encode(final ByteBuffer in, final ByteBuffer out) {
+        while (in.hasRemaining()) {
+            final int b = in.get() & 0xff;
+            if (b < 0x80 && safe[b]) {
+                out.put((byte) b);
+            } else if (b == ' ' && spaceAsPlus) {
+                out.put((byte) '+');
+            } else {
+                out.put((byte) '%');
+                out.put((byte) Hex[b >> 4]);
+                out.put((byte) Hex[b & 0xf]);
+            }
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the input contains an incomplete or non-hexadecimal escape
+     */
+    public String decode(final String s) {
+        final int first = firstEscape(s);
+        if (first == s.length()) return s;
+
+        final StringBuilder out = new StringBuilder(s.length());
+        out.append(s, 0, first);
+        try {
+            decodeFrom(s, first, out);
+        } catch (final IOException e) {
+            throw new AssertionError(e); // StringBuilder doesn't throw
+        }
+        return out.toString();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the input contains an incomplete or non-hexadecimal escape
+     */
+    public <A extends Appendable> A decode(final CharSequence s, final A out) throws IOException {
+        final int first = firstEscape(s);
+        out.append(s, 0, first);
+        if (first < s.length()) decodeFrom(s, first, out);
+        return out;
+    }
+
+    /**
+     * Decodes the remaining bytes of {@code in} into {@code out}, leaving the result as raw (UTF-8) bytes.  Both
+     * buffers' positions are advanced.
+     *
+     * @throws IllegalArgumentException if the input contains an incomplete or non-hexadecimal escape
+     * @throws java.nio.BufferOverflowException if {@code out} runs out of space
+     */
+    public void decode(final ByteBuffer in, final ByteBuffer out) {
+        while (in.hasRemaining()) {
+            final byte b = in.get();
+            if (b == '%') {
+                if (in.remaining() < 2) throw new IllegalArgumentException("Incomplete trailing escape (%) pattern");
+                out.put((byte) ((hexValue(in.get() & 0xff) << 4) | hexValue(in.get() & 0xff)));
+            } else if (b == '+' && spaceAsPlus) {
+                out.put((byte) ' ');
+            } else {
+                out.put(b);
+            }
+        }
+    }
+
+    private int firstUnsafe(final CharSequence s) {
+        final int length = s.length();
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c >= 0x80 || !safe[c]) return i;
+        }
+        return length;
+    }
+
+    private int firstEscape(final CharSequence s) {
+        final int length = s.length();
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c == '%' || (c == '+' && spaceAsPlus)) return i;
+        }
+        return length;
+    }
+
+    private void encodeFrom(final CharSequence s, final int start, final Appendable out) throws IOException {
+        final Output o = Outputs.get().attach(out);
+        final char[] chars = o.chars;
+        final int length = s.length();
+        int n = 0;
+        for (int i = start; i < length; i++) {
+            if (n > chars.length - MaxCharsPerInput) n = o.flush(n);
+
+            final char c = s.charAt(i);
+            if (c < 0x80 && safe[c]) {
+                chars[n++] = c;
+            } else if (c == ' ' && spaceAsPlus) {
+                chars[n++] = '+';
+            } else if (c < 0x80) {
+                n = escape(c, chars, n);
+            } else if (c < 0x800) {
+                n = escape(0xc0 | (c >> 6), chars, n);
+                n = escape(0x80 | (c & 0x3f), chars, n);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, s.charAt(++i));
+                n = escape(0xf0 | (cp >> 18), chars, n);
+                n = escape(0x80 | ((cp >> 12) & 0x3f), chars, n);
+                n = escape(0x80 | ((cp >> 6) & 0x3f), chars, n);
+                n = escape(0x80 | (cp & 0x3f), chars, n);
+            } else if (Character.isSurrogate(c)) {
+                n = escape('?', chars, n);
+            } else {
+                n = escape(0xe0 | (c >> 12), chars, n);
+                n = escape(0x80 | ((c >> 6) & 0x3f), chars, n);
+                n = escape(0x80 | (c & 0x3f), chars, n);
+            }
+        }
+        o.flush(n);
+        o.detach();
+    }
+
+    private static int escape(final int b, final char[] chars, final int n) {
+        chars[n] = '%';
+        chars[n + 1] = Hex[b >> 4];
+        chars[n + 2] = Hex[b & 0xf];
+        return n + 3;
+    }
+
+    private void decodeFrom(final CharSequence s, final int start, final Appendable out) throws IOException {
+        final Output o = Outputs.get().attach(out);
+        final char[] chars = o.chars;
+        final int length = s.length();
+        int n = 0;
+        int i = start;
+        while (i < length) {
+            if (n > chars.length - 2) n = o.flush(n);
+
+            final char c = s.charAt(i);
+            if (c != '%') {
+                chars[n++] = (c == '+' && spaceAsPlus) ? ' ' : c;
+                i++;
+                continue;
+            }
+
+            final int b = escapedByte(s, i);
+            i += 3;
+            if (b < 0x80) {
+                chars[n++] = (char) b;
+                continue;
+            }
+
+            final int extra = (b >= 0xf0 && b < 0xf8) ? 3 : (b >= 0xe0) ? 2 : (b >= 0xc0) ? 1 : -1;
+            if (extra < 0) {
+                chars[n++] = '\ufffd';
+                continue;
+            }
+
+            int cp = b & (0x3f >> extra);
+            int seen = 0;
+            while (seen < extra && i < length && s.charAt(i) == '%') {
+                final int next = escapedByte(s, i);
+                if ((next & 0xc0) != 0x80) break;
+                cp = (cp << 6) | (next & 0x3f);
+                i += 3;
+                seen++;
+            }
+
+            if (seen < extra || cp < MinCodePoint[extra] || cp > Character.MAX_CODE_POINT
+                    || (cp >= Character.MIN_SURROGATE && cp <= Character.MAX_SURROGATE)) {
+                chars[n++] = '\ufffd';
+            } else if (cp < 0x10000) {
+                chars[n++] = (char) cp;
+            } else {
+                chars[n++] = Character.highSurrogate(cp);
+                chars[n++] = Character.lowSurrogate(cp);
+            }
+        }
+        o.flush(n);
+        o.detach();
+    }
+
+    private static int escapedByte(final CharSequence s, final int i) {
+        if (i + 2 >= s.length()) throw new IllegalArgumentException("Incomplete trailing escape (%) pattern");
+        return (hexValue(s.charAt(i + 1)) << 4) | hexValue(s.charAt(i + 2));
+    }
+
+    private static int hexValue(final int c) {
+        final int v = (c >= 0 && c < 0x80) ? HexValues[c] : -1;
+        if (v < 0) throw new IllegalArgumentException("Illegal hex characters in escape (%) pattern");
+        return v;
+    }
+
+    @Override public String toString() { return (this == Form) ? "PercentCodec.form()" : "PercentCodec.rfc3986()"; }
+
+
+    /**
+     * Per-thread staging buffer.  Output is assembled here and handed to the destination in large blocks, which is
+     * much cheaper than a call per character through {@link Appendable}.
+     */
+    private static final class Output {
+        final char[] chars = new char[1024];
+        final CharBuffer view = CharBuffer.wrap(chars);
+        @Nullable Appendable out = null;
+
+        Output attach(final Appendable destination) {
+            out = destination;
+            return this;
+        }
+
+        void detach() { out = null; }
+
+        /**
+         * @return 0, the new fill level
+         */
+        int flush(final int n) throws IOException {
+            if (out instanceof StringBuilder) ((StringBuilder) out).append(chars, 0, n);
+            else if (out instanceof Writer) ((Writer) out).write(chars, 0, n);
+            else out.append(view, 0, n);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.lantopia.libjava.log;
+
+import com.lantopia.libjava.metrics.Gauge;
+import com.lantopia.libjava.metrics.MetricRegistry;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Logger that takes log output off the calling thread.  Logging a message captures it into the next free slot of a
+ * preallocated ring buffer; a dedicated consumer thread writes captured messages to the target logger in order, and
+ * flushes the target whenever it catches up or has written a batch's worth, so a burst of messages costs one flush.
+ * <p/>
+ * Producers claim slots with a compare-and-set on a shared sequence counter and publish them with an ordered write,
+ * so logging takes no locks while there is room.  What happens when the buffer is full is up to the
+ * {@link WhenFull} policy.
+ * <p/>
+ * {@link #close()} stops the consumer once it has drained everything already logged; messages logged after that are
+ * written synchronously.  Nothing closes the logger automatically, so applications should close it on shutdown to
+ * avoid losing the tail of the log.
+ */
+public final class AsyncLogger extends Logger implements Closeable {
+    public static enum WhenFull {
+        /**
+         * Wait for the consumer to make room.  No message is lost, but logging can stall behind slow output.
+         */
+        Block,
+        /**
+         * Discard the message and count it; see {@link #getDropped()}.
+         */
+        Drop,
+        /**
+         * Write the message on the calling thread, bypassing the buffer.  No message is lost and logging never waits
+         * for the consumer, at the cost of messages written this way appearing out of order.
+         */
+        Sync
+    }
+
+    private static final int MaxBatch = 256;
+    private static final int SpinsBeforePark = 100;
+
+    private final Logger target;
+    private final WhenFull whenFull;
+    private final LogEvent[] ring;
+    private final int mask;
+    /**
+     * For each slot, one more than the sequence number of the message last published into it; 0 while it has never
+     * been used.
+     */
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread consumer;
+    /**
+     * Held while draining the ring after the consumer has stopped; see {@link #drainAfterClose()}.
+     */
+    private final Object drainLock = new Object();
+    private volatile long consumed = 0;
+    private volatile boolean consumerParked = false;
+    private volatile boolean running = true;
+
+    private AsyncLogger(final Logger target, final int capacity, final WhenFull whenFull) {
+        final int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.target = target;
+        this.whenFull = whenFull;
+        this.ring = new LogEvent[size];
+        for (int i = 0; i < size; i++) ring[i] = new LogEvent();
+        this.mask = size - 1;
+        this.published = new AtomicLongArray(size);
+
+        consumer = new Thread(new Runnable() {
+            @Override public void run() { consume(); }
+        }, "AsyncLogger");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * @param capacity number of messages that can be waiting to be written, rounded up to a power of two
+     */
+    public static AsyncLogger make(final Logger target, final int capacity, final WhenFull whenFull) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        return new AsyncLogger(target, capacity, whenFull);
+    }
+
+    /**
+     * @return the number of messages discarded because the buffer was full
+     */
+    public long getDropped() { return dropped.get(); }
+
+    /**
+     * @return the number of messages logged but not yet written
+     */
+    public long getPending() { return claimed.get() - consumed; }
+
+    /**
+     * As for any logger, plus gauges prefix.pending and prefix.dropped.  Messages written by the consumer thread
+     * aren't timed; register the target for that.
+     */
+    @Override public void registerMetrics(final MetricRegistry registry, final String prefix) {
+        super.registerMetrics(registry, prefix);
+        registry.gauge(prefix + ".pending", new Gauge() {
+            @Override public double getValue() { return getPending(); }
+        });
+        registry.gauge(prefix + ".dropped", new Gauge() {
+            @Override public double getValue() { return getDropped(); }
+        });
+    }
+
+    @Override void log(final LogBuilder builder) {
+        long sequence;
+        for (int attempt = 0; ; attempt++) {
+            sequence = claimed.get();
+            if (!running) {
+                writeNow(builder);
+                return;
+            }
+            if (sequence - consumed < ring.length) {
+                if (claimed.compareAndSet(sequence, sequence + 1)) break;
+                continue;
+            }
+
+            switch (whenFull) {
+                case Drop:
+                    dropped.incrementAndGet();
+                    return;
+                case Sync:
+                    writeNow(builder);
+                    return;
+                default:
+                    if (attempt < SpinsBeforePark) Thread.yield();
+                    else LockSupport.parkNanos(this, 10000);
+            }
+        }
+
+        final int slot = (int) sequence & mask;
+        capture(builder, ring[slot]);
+        published.lazySet(slot, sequence + 1);
+        if (consumerParked) LockSupport.unpark(consumer);
+        // close() may have drained the ring between the check of running above and the claim
+        if (!running) drainAfterClose();
+    }
+
+    @Override void write(final LogEvent event) {
+        synchronized (target) {
+            target.write(event);
+        }
+    }
+
+    @Override void flush() {
+        synchronized (target) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Waits for everything already logged to be written and flushed, then stops the consumer thread.
+     */
+    @Override public void close() {
+        running = false;
+        LockSupport.unpark(consumer);
+        drainAfterClose();
+    }
+
+    /**
+     * Once the consumer has stopped, writes anything claimed that it didn't get to: messages from producers that
+     * claimed a slot just as it stopped.  Called by {@link #close()}, and by any producer that finds the logger
+     * closed after claiming, since close() may already have finished draining by then.
+     */
+    private void drainAfterClose() {
+        try {
+            consumer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        synchronized (drainLock) {
+            long next = consumed;
+            while (next < claimed.get()) {
+                final int slot = (int) next & mask;
+                while (published.get(slot) != next + 1) Thread.yield();
+                writeAndClear(ring[slot]);
+                consumed = ++next;
+            }
+            flush();
+        }
+    }
+
+    private void writeNow(final LogBuilder builder) {
+        super.log(builder);
+        flush();
+    }
+
+    /**
+     * Writes an event from the ring and frees its slot.  A message that can't be written, say because one of its
+     * properties throws from toString(), is reported and skipped rather than left to stop the consumer, which would
+     * leave producers waiting for room forever.
+     */
+    @SuppressWarnings({"UseOfSystemOutOrSystemErr", "CallToPrintStackTrace"})
+    private void writeAndClear(final LogEvent event) {
+        try {
+            write(event);
+        } catch (final RuntimeException e) {
+            System.err.println("*** FAILED TO WRITE LOG MESSAGE: " + e);
+            e.printStackTrace();
+        } finally {
+            event.clear();
+        }
+    }
+
+    private void consume() {
+        long next = consumed;
+        int batch = 0;
+        int idle = 0;
+        while (true) {
+            final int slot = (int) next & mask;
+            if (published.get(slot) == next + 1) {
+                writeAndClear(ring[slot]);
+                consumed = ++next;
+                idle = 0;
+                if (++batch < MaxBatch) continue;
+            }
+
+            if (batch > 0) {
+                flush();
+                batch = 0;
+                continue;
+            }
+            if (!running && claimed.get() == next) return;
+
+            // Nothing to do: spin briefly, as more messages often follow, then park until a producer wakes us
+            if (++idle < SpinsBeforePark) {
+                Thread.yield();
+            } else {
+                consumerParked = true;
+                if (published.get(slot) != next + 1 && running) LockSupport.parkNanos(this, 1000000);
+                consumerParked = false;
+            }
+        }
+    }
+
+    @Override public String toString() { return "AsyncLogger{" + target + ", " + whenFull + ", capacity=" + ring.length + '}'; }
+}
@@ -0,0 +1,142 @@
+package com.lantopia.libjava.log;
+
+import com.google.common.base.Charsets;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Renders the segment files written by {@link BinaryLogger} as {@link TextLogger} lines, keeping the sequence numbers
+ * the messages were logged with.  A segment cut short by a crash is read up to its last complete record.  Errors,
+ * which text lines leave out, are shown as an "error" property.
+ * <p/>
+ * Run from the command line with segment files or log directories as arguments to print them to standard output.
+ */
+public final class BinaryLogDecoder {
+    private static final Logger.Level[] Levels = Logger.Level.values();
+
+    private BinaryLogDecoder() { }
+
+    @SuppressWarnings("UseOfSystemOutOrSystemErr")
+    public static void main(final String[] args) throws IOException {
+        final Writer out = new OutputStreamWriter(System.out, Charsets.UTF_8);
+        for (final String arg : args) decode(Paths.get(arg), out);
+        out.flush();
+    }
+
+    /**
+     * @param path a segment file, or a directory whose segments are decoded in order
+     * @return the number of messages written
+     */
+    public static long decode(final Path path, final Writer out) throws IOException {
+        final List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(path)) {
+            try (final DirectoryStream<Path> found = Files.newDirectoryStream(path, "*" + BinaryLogger.SegmentSuffix)) {
+                for (final Path file : found) files.add(file);
+            }
+            Collections.sort(files);
+        } else {
+            files.add(path);
+        }
+
+        final TextLogger text = TextLogger.make(out);
+        long count = 0;
+        for (final Path file : files) count += decodeSegment(file, text);
+        text.flush();
+        return count;
+    }
+
+    private static long decodeSegment(final Path file, final TextLogger text) throws IOException {
+        final ByteBuffer b;
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            b = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (b.remaining() < BinaryLogger.SegmentHeaderSize || b.getInt() != BinaryLogger.Magic)
+            throw new IOException("Not a binary log segment: " + file);
+        final int version = b.getInt();
+        if (version != BinaryLogger.Version) throw new IOException("Unsupported binary log version " + version + ": " + file);
+
+        final List<String> dictionary = new ArrayList<>();
+        final LogEvent event = new LogEvent();
+        long count = 0;
+        while (b.remaining() >= 4) {
+            final int start = b.position();
+            final int length = b.getInt();
+            if (length <= 4 || length > b.remaining() + 4) break;
+
+            final int sequence;
+            try {
+                sequence = read(b, dictionary, event);
+            } catch (final BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IOException("Corrupt record at " + start + " in " + file, e);
+            }
+            if (b.position() != start + length) throw new IOException("Corrupt record at " + start + " in " + file);
+            text.write(event, sequence);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Reads the rest of a record into the event.
+     *
+     * @return the message's sequence number
+     */
+    private static int read(final ByteBuffer b, final List<String> dictionary, final LogEvent event) {
+        event.clear();
+        event.timestamp = b.getLong();
+        final int sequence = b.getInt();
+        final byte level = b.get();
+        event.level = (level < 0) ? null : Levels[level];
+        event.category = string(b, dictionary);
+        event.threadName = string(b, dictionary);
+        event.message = string(b, dictionary);
+        final String error = string(b, dictionary);
+
+        final int contexts = b.getShort();
+        for (int i = 0; i < contexts; i++) event.addContext(string(b, dictionary));
+
+        final int properties = b.getShort();
+        for (int i = 0; i < properties; i++) {
+            final String key = string(b, dictionary);
+            final byte kind = b.get();
+            switch (kind) {
+                case PropertyList.LongKind: event.properties.add(key, b.getLong()); break;
+                case PropertyList.DoubleKind: event.properties.add(key, Double.longBitsToDouble(b.getLong())); break;
+                case PropertyList.BooleanKind: event.properties.add(key, b.getLong() != 0); break;
+                default: event.properties.add(key, (Object) string(b, dictionary));
+            }
+        }
+        if (error != null) event.properties.add("error", (Object) error);
+        return sequence;
+    }
+
+    @Nullable private static String string(final ByteBuffer b, final List<String> dictionary) {
+        final int tag = b.getInt();
+        if (tag >= 0) return dictionary.get(tag);
+        if (tag == BinaryLogger.NullString) return null;
+
+        final byte[] bytes = new byte[b.getInt()];
+        b.get(bytes);
+        final String s = new String(bytes, Charsets.UTF_8);
+        if (tag == BinaryLogger.DefinedString) dictionary.add(s);
+        return s;
+    }
+}
@@ -0,0 +1,267 @@
+package com.lantopia.libjava.log;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Logs to compact binary records in memory-mapped segment files, for diagnostics too voluminous to format as text.
+ * Writing a message is a run of puts into the mapping; {@link BinaryLogDecoder} turns the files back into
+ * {@link TextLogger} lines.
+ * <p/>
+ * Categories, messages, thread names, context names and property keys are interned into a dictionary per segment:
+ * the first use of a string in a segment writes it out and gives it the next id, and later uses write the id.  Property
+ * values and errors are written out in full each time.  Stack traces aren't recorded.
+ * <p/>
+ * Segments are numbered files of a fixed size, each readable on its own.  When one fills up it is trimmed to its
+ * contents and a new one started, and the oldest are deleted to keep at most the configured number.  Records reach the
+ * page cache as they're written, so they survive the process dying, and the disk on {@link #force()} or when the OS
+ * gets round to it.
+ */
+public final class BinaryLogger extends Logger implements Closeable {
+    static final String SegmentSuffix = ".binlog";
+    static final int Magic = 0x4c4a424c; // "LJBL"
+    static final int Version = 1;
+    static final int SegmentHeaderSize = 8;
+
+    // String field tags; anything non-negative is a dictionary id
+    static final int NullString = -1;
+    static final int LiteralString = -2;
+    static final int DefinedString = -3;
+
+    private static final int MaxInterned = 65536;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Deque<Path> segments = new ArrayDeque<>();
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    /**
+     * Dictionary entries in id order, so that those added by a record that didn't fit can be taken back out.
+     */
+    private final List<String> interned = new ArrayList<>();
+    private int nextSegmentId;
+    @Nullable private FileChannel channel = null;
+    @Nullable private MappedByteBuffer map = null;
+    private int sequenceNumber = 0;
+
+    private BinaryLogger(final Path directory, final int segmentSize, final int maxSegments) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+
+        Files.createDirectories(directory);
+        final List<Path> existing = new ArrayList<>();
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SegmentSuffix)) {
+            for (final Path file : files) existing.add(file);
+        }
+        Collections.sort(existing);
+        segments.addAll(existing);
+        nextSegmentId = existing.isEmpty() ? 0 : segmentId(existing.get(existing.size() - 1)) + 1;
+        roll();
+    }
+
+    public static BinaryLogger make(final Path directory) throws IOException { return make(directory, 64 * 1024 * 1024, 16); }
+
+    /**
+     * @param segmentSize size of each segment file, which bounds the size of a single message
+     * @param maxSegments number of segment files to keep, counting the one being written
+     */
+    public static BinaryLogger make(final Path directory, final int segmentSize, final int maxSegments) throws IOException {
+        if (segmentSize < 1024) throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        if (maxSegments < 1) throw new IllegalArgumentException("Must keep at least one segment: " + maxSegments);
+        return new BinaryLogger(directory, segmentSize, maxSegments);
+    }
+
+    @SuppressWarnings({"UseOfSystemOutOrSystemErr", "CallToPrintStackTrace"}) @Override
+    void write(final LogEvent event) {
+        if (map == null) return;
+        try {
+            if (append(event)) return;
+            roll();
+            if (!append(event)) System.err.println("*** LOG MESSAGE TOO LARGE FOR A SEGMENT: " + event);
+        } catch (final IOException e) {
+            System.err.println("*** FAILED TO START LOG SEGMENT: " + e.getMessage());
+            e.printStackTrace();
+            map = null;
+        }
+    }
+
+    /**
+     * Forces the segment being written to disk.
+     */
+    public synchronized void force() {
+        if (map != null) map.force();
+    }
+
+    /**
+     * Trims the segment being written to its contents and closes it.  Messages logged afterwards are discarded.
+     */
+    @Override public synchronized void close() throws IOException { finish(); }
+
+    /**
+     * Writes one record: its length, then the event.  The length goes in last, so a record cut short reads as the end
+     * of the segment.
+     *
+     * @return false if the record didn't fit, in which case nothing has changed
+     */
+    private boolean append(final LogEvent event) {
+        assert map != null;
+        final MappedByteBuffer b = map;
+        final int start = b.position();
+        final int internedBefore = interned.size();
+        try {
+            b.putInt(0);
+            b.putLong(event.timestamp);
+            b.putInt(sequenceNumber);
+            b.put((byte) (event.level == null ? -1 : event.level.ordinal()));
+            putInterned(b, event.category);
+            putInterned(b, event.threadName);
+            putInterned(b, event.message);
+            putLiteral(b, event.error == null ? null : event.error.toString());
+
+            b.putShort((short) event.contextCount);
+            for (int i = 0; i < event.contextCount; i++) putInterned(b, event.contexts[i]);
+
+            final PropertyList properties = event.properties;
+            b.putShort((short) properties.size());
+            for (int i = 0; i < properties.size(); i++) {
+                putInterned(b, properties.key(i));
+                final byte kind = properties.kind(i);
+                b.put(kind);
+                if (kind == PropertyList.ObjectKind) {
+                    final Object value = properties.object(i);
+                    putLiteral(b, value == null ? null : value.toString());
+                } else {
+                    b.putLong(properties.longValue(i));
+                }
+            }
+        } catch (final BufferOverflowException ignored) {
+            for (int i = start; i < b.position(); i++) b.put(i, (byte) 0);
+            b.position(start);
+            for (int id = interned.size() - 1; id >= internedBefore; id--) dictionary.remove(interned.remove(id));
+            return false;
+        }
+
+        b.putInt(start, b.position() - start);
+        sequenceNumber++;
+        return true;
+    }
+
+    private void putInterned(final MappedByteBuffer b, @Nullable final String s) {
+        if (s == null) {
+            b.putInt(NullString);
+            return;
+        }
+        final Integer id = dictionary.get(s);
+        if (id != null) {
+            b.putInt(id);
+        } else if (interned.size() < MaxInterned) {
+            dictionary.put(s, interned.size());
+            interned.add(s);
+            b.putInt(DefinedString);
+            putUtf8(b, s);
+        } else {
+            b.putInt(LiteralString);
+            putUtf8(b, s);
+        }
+    }
+
+    private static void putLiteral(final MappedByteBuffer b, @Nullable final String s) {
+        if (s == null) {
+            b.putInt(NullString);
+        } else {
+            b.putInt(LiteralString);
+            putUtf8(b, s);
+        }
+    }
+
+    /**
+     * Writes the string's length in bytes and then its UTF-8 encoding, straight into the buffer.
+     */
+    private static void putUtf8(final MappedByteBuffer b, final String s) {
+        final int lengthAt = b.position();
+        b.putInt(0);
+        final int n = s.length();
+        for (int i = 0; i < n; i++) {
+            final char c = s.charAt(i);
+            if (c < 0x80) {
+                b.put((byte) c);
+            } else if (c < 0x800) {
+                b.put((byte) (0xc0 | c >> 6)).put((byte) (0x80 | c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, s.charAt(++i));
+                b.put((byte) (0xf0 | cp >> 18)).put((byte) (0x80 | cp >> 12 & 0x3f))
+                        .put((byte) (0x80 | cp >> 6 & 0x3f)).put((byte) (0x80 | cp & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                b.put((byte) '?');
+            } else {
+                b.put((byte) (0xe0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3f)).put((byte) (0x80 | c & 0x3f));
+            }
+        }
+        b.putInt(lengthAt, b.position() - lengthAt - 4);
+    }
+
+    /**
+     * Finishes the current segment, starts the next one with an empty dictionary, and deletes the oldest segments
+     * beyond the limit.
+     */
+    private void roll() throws IOException {
+        finish();
+
+        final Path file = directory.resolve(String.format("%08d%s", nextSegmentId++, SegmentSuffix));
+        final FileChannel c = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            map = c.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (final IOException e) {
+            c.close();
+            throw e;
+        }
+        channel = c;
+        map.putInt(Magic).putInt(Version);
+        dictionary.clear();
+        interned.clear();
+        segments.addLast(file);
+
+        while (segments.size() > maxSegments) Files.deleteIfExists(segments.removeFirst());
+    }
+
+    private void finish() throws IOException {
+        if (channel == null || map == null) return;
+        final int end = map.position();
+        map.force();
+        map = null;
+        try {
+            channel.truncate(end);
+        } finally {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    static int segmentId(final Path file) {
+        final String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(0, name.length() - SegmentSuffix.length()));
+    }
+
+    @Override public String toString() { return "BinaryLogger{" + directory + ", segments=" + segments.size() + '}'; }
+}
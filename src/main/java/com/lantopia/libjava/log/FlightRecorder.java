@@ -0,0 +1,108 @@
+package com.lantopia.libjava.log;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Logger that keeps recent history in memory instead of writing it.  Each thread records its last N messages, of any
+ * level, into a ring of preallocated events; nothing reaches the target logger until that thread logs a message at the
+ * trigger level or above (by default {@link Level#Error}), or calls {@link #dump()}.  Then the thread's history is
+ * written to the target, oldest first, ending with the triggering message, and the ring starts afresh.  So debug
+ * detail is there when something goes wrong, without paying to write it all the time.
+ * <p/>
+ * Recording touches only the calling thread's ring, so it takes no locks and, once the ring's events have grown to fit
+ * the messages passing through, allocates nothing.  A thread's history goes away with the thread.  Recorded messages
+ * keep their property values alive until overwritten.
+ */
+public final class FlightRecorder extends Logger {
+    private final Logger target;
+    private final int capacity;
+    private final Level trigger;
+    private final ThreadLocal<Ring> rings = new ThreadLocal<Ring>() {
+        @Override protected Ring initialValue() { return new Ring(capacity); }
+    };
+
+    private FlightRecorder(final Logger target, final int capacity, final Level trigger) {
+        this.target = target;
+        this.capacity = capacity;
+        this.trigger = trigger;
+    }
+
+    public static FlightRecorder make(final Logger target, final int capacity) { return make(target, capacity, Level.Error); }
+
+    /**
+     * @param capacity number of messages each thread remembers, including the one that triggers a dump
+     * @param trigger  lowest level at which a message dumps its thread's history
+     */
+    public static FlightRecorder make(final Logger target, final int capacity, final Level trigger) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        return new FlightRecorder(target, capacity, trigger);
+    }
+
+    /**
+     * Writes the calling thread's recorded history to the target and forgets it.
+     */
+    public void dump() { dump(rings.get()); }
+
+    @Override void log(final LogBuilder builder) {
+        final Ring ring = rings.get();
+        final LogEvent event = ring.next();
+        capture(builder, event);
+        if (event.level != null && event.level.compareTo(trigger) >= 0) dump(ring);
+    }
+
+    @Override void write(final LogEvent event) {
+        synchronized (target) {
+            target.write(event);
+        }
+    }
+
+    @Override void flush() {
+        synchronized (target) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Writes the ring's events in one block, so that dumps from different threads don't interleave.
+     */
+    private void dump(final Ring ring) {
+        if (ring.size == 0) return;
+        synchronized (target) {
+            final LogEvent[] events = ring.events;
+            int i = ring.next - ring.size;
+            if (i < 0) i += events.length;
+            for (int n = 0; n < ring.size; n++) {
+                target.write(events[i]);
+                events[i].clear();
+                if (++i == events.length) i = 0;
+            }
+            target.flush();
+        }
+        ring.size = 0;
+    }
+
+    @Override public String toString() { return "FlightRecorder{" + target + ", capacity=" + capacity + ", trigger=" + trigger + '}'; }
+
+    private static final class Ring {
+        final LogEvent[] events;
+        /**
+         * Index the next event will be recorded at.
+         */
+        int next = 0;
+        int size = 0;
+
+        Ring(final int capacity) {
+            events = new LogEvent[capacity];
+            for (int i = 0; i < capacity; i++) events[i] = new LogEvent();
+        }
+
+        LogEvent next() {
+            final LogEvent event = events[next];
+            if (++next == events.length) next = 0;
+            if (size < events.length) size++;
+            return event;
+        }
+    }
+}
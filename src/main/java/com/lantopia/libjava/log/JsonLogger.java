@@ -0,0 +1,177 @@
+package com.lantopia.libjava.log;
+
+import com.google.common.base.Charsets;
+import com.lantopia.libjava.json.JsonWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Logs each message as one line of JSON (newline-delimited JSON), for log pipelines to ingest without parsing text.
+ * A line looks like:
+ * <pre>
+ * {"seq":1,"time":"2026-10-19T12:00:00,000","level":"Warn","category":"net","thread":"main",
+ *  "contexts":["inner","outer"],"message":"Retrying","properties":{"attempt":2},
+ *  "error":{"type":"java.io.IOException","message":"Timed out","frames":["..."]},
+ *  "trace":{"id":7,"truncated":false,"frames":["..."]}}
+ * </pre>
+ * Fields with no value are left out; contexts are innermost first, and frames are in {@link StackTraceElement} form.
+ * Properties keep their types where JSON has them: numbers and booleans as themselves, anything else as a string.
+ * Numbers that JSON can't represent, such as non-finite floating point values and big numbers beyond the range of a
+ * double, are written as strings.
+ * <p/>
+ * Each line is streamed through a {@link JsonWriter} into a reused buffer and handed to the output in one call; as
+ * with {@link TextLogger}, a logger made on an {@link OutputStream} allocates nothing to write a message unless it
+ * has an error or a property whose value isn't a string, number or boolean.
+ */
+public final class JsonLogger extends Logger {
+    private final LineOutput output;
+    private final StringBuilder line = new StringBuilder(512);
+    private final StringBuilder scratch = new StringBuilder(64);
+    private final JsonWriter json = JsonWriter.make(line);
+    private final TimestampFormatter timestamps = new TimestampFormatter();
+    private long sequenceNumber = 0;
+
+    private JsonLogger(final LineOutput output) { this.output = output; }
+
+    public static JsonLogger make(final Writer writer) { return new JsonLogger(LineOutput.make(writer)); }
+
+    public static JsonLogger make(final OutputStream stream) { return make(stream, Charsets.UTF_8); }
+
+    public static JsonLogger make(final OutputStream stream, final Charset charset) {
+        return new JsonLogger(LineOutput.make(stream, charset));
+    }
+
+    @SuppressWarnings({"UseOfSystemOutOrSystemErr", "CallToPrintStackTrace"}) @Override
+    void write(final LogEvent event) {
+        line.setLength(0);
+        json.reset(line);
+        try {
+            json.beginObject();
+            json.name("seq").value(sequenceNumber++);
+            scratch.setLength(0);
+            timestamps.appendTo(scratch, event.timestamp);
+            json.name("time").value(scratch);
+            if (event.level != null) json.name("level").value(event.level.name());
+            if (event.category != null) json.name("category").value(event.category);
+            json.name("thread").value(event.threadName);
+
+            if (event.contextCount > 0) {
+                json.name("contexts").beginArray();
+                for (int i = 0; i < event.contextCount; i++) json.value(event.contexts[i]);
+                json.endArray();
+            }
+
+            if (event.message != null) json.name("message").value(event.message);
+
+            final PropertyList properties = event.properties;
+            if (properties.size() > 0) {
+                json.name("properties").beginObject();
+                for (int i = 0; i < properties.size(); i++) {
+                    json.name(properties.key(i));
+                    writeValue(properties, i);
+                }
+                json.endObject();
+            }
+
+            if (event.error != null) writeError(event.error);
+
+            if (event.trace != null) {
+                json.name("trace").beginObject()
+                        .name("id").value(event.trace.getId())
+                        .name("truncated").value(event.trace.isTruncated());
+                writeFrames(event.trace.frames());
+                json.endObject();
+            }
+
+            json.endObject();
+            line.append('\n');
+            output.write(line);
+        } catch (final IOException e) {
+            System.err.println("*** FAILED TO WRITE LOG MESSAGE: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    @SuppressWarnings({"UseOfSystemOutOrSystemErr", "CallToPrintStackTrace"}) @Override
+    void flush() {
+        try {
+            output.flush();
+        } catch (final IOException e) {
+            System.err.println("*** FAILED TO FLUSH LOG: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void writeValue(final PropertyList properties, final int i) throws IOException {
+        switch (properties.kind(i)) {
+            case PropertyList.LongKind:
+                json.value(properties.longValue(i));
+                break;
+            case PropertyList.DoubleKind:
+                final double d = properties.doubleValue(i);
+                if (Double.isNaN(d) || Double.isInfinite(d)) {
+                    scratch.setLength(0);
+                    json.value(scratch.append(d));
+                } else {
+                    json.value(d);
+                }
+                break;
+            case PropertyList.BooleanKind:
+                json.value(properties.booleanValue(i));
+                break;
+            default:
+                final Object value = properties.object(i);
+                if (value instanceof Number && !isIntegral(value)) {
+                    // Written through its double value, which is infinite for a big number out of range
+                    final double v = ((Number) value).doubleValue();
+                    if (Double.isNaN(v) || Double.isInfinite(v)) {
+                        json.value(value.toString());
+                        break;
+                    }
+                }
+                json.value(value);
+        }
+    }
+
+    /**
+     * @return true for the types {@link JsonWriter#value(Object)} writes exactly, as a long
+     */
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private void writeError(final Throwable error) throws IOException {
+        json.name("error").beginObject();
+        json.name("type").value(error.getClass().getName());
+        if (error.getMessage() != null) json.name("message").value(error.getMessage());
+        writeFrames(error.getStackTrace());
+        if (error.getCause() != null) json.name("cause").value(error.getCause().toString());
+        json.endObject();
+    }
+
+    private void writeFrames(final StackTraceElement[] frames) throws IOException {
+        json.name("frames").beginArray();
+        for (final StackTraceElement frame : frames) {
+            final StringBuilder s = scratch;
+            s.setLength(0);
+            s.append(frame.getClassName()).append('.').append(frame.getMethodName()).append('(');
+            if (frame.isNativeMethod()) s.append("Native Method");
+            else if (frame.getFileName() == null) s.append("Unknown Source");
+            else {
+                s.append(frame.getFileName());
+                if (frame.getLineNumber() >= 0) s.append(':').append(frame.getLineNumber());
+            }
+            json.value(s.append(')'));
+        }
+        json.endArray();
+    }
+
+    @Override public String toString() { return "JsonLogger{" + output + '}'; }
+}
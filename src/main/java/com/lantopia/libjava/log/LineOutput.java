@@ -0,0 +1,82 @@
+package com.lantopia.libjava.log;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Where a text back end's lines go: a {@link Writer}, or an {@link OutputStream} with a charset.  Each line is handed
+ * over in one call from a reused buffer; for a stream, it is also encoded through a reused encoder and byte buffer,
+ * so that writing a line allocates nothing.  A writer may allocate in its own encoding.  Not thread-safe.
+ */
+final class LineOutput {
+    @Nullable private final Writer writer;
+    @Nullable private final OutputStream stream;
+    @Nullable private final CharsetEncoder encoder;
+    private final ByteBuffer bytes = ByteBuffer.allocate(8192);
+    private char[] chars = new char[256];
+    private CharBuffer charBuffer = CharBuffer.wrap(chars);
+
+    private LineOutput(@Nullable final Writer writer, @Nullable final OutputStream stream, @Nullable final Charset charset) {
+        this.writer = writer;
+        this.stream = stream;
+        this.encoder = charset == null ? null : charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    static LineOutput make(final Writer writer) { return new LineOutput(writer, null, null); }
+
+    static LineOutput make(final OutputStream stream, final Charset charset) { return new LineOutput(null, stream, charset); }
+
+    void write(final StringBuilder line) throws IOException {
+        final int length = line.length();
+        if (length > chars.length) {
+            chars = new char[Integer.highestOneBit(length) << 1];
+            charBuffer = CharBuffer.wrap(chars);
+        }
+        line.getChars(0, length, chars, 0);
+
+        if (writer != null) {
+            writer.write(chars, 0, length);
+            return;
+        }
+
+        assert encoder != null && stream != null;
+        charBuffer.clear();
+        charBuffer.limit(length);
+        encoder.reset();
+        boolean flushed = false;
+        while (true) {
+            final CoderResult result = flushed ? encoder.flush(bytes) : encoder.encode(charBuffer, bytes, true);
+            if (result.isError()) throw new CharacterCodingException();
+            if (result.isOverflow() || bytes.position() > 0) {
+                stream.write(bytes.array(), 0, bytes.position());
+                bytes.clear();
+            }
+            if (result.isUnderflow()) {
+                if (flushed) return;
+                flushed = true;
+            }
+        }
+    }
+
+    void flush() throws IOException {
+        if (writer != null) writer.flush();
+        else if (stream != null) stream.flush();
+    }
+
+    @Override public String toString() { return "LineOutput{" + (writer != null ? writer : stream) + '}'; }
+}
@@ -0,0 +1,64 @@
+package com.lantopia.libjava.log;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Everything about a log message that a back end writes out: the contents of the {@link Logger.LogBuilder}, plus the
+ * time, thread and context stack captured on the logging thread.  Events are mutable and meant to be reused; context
+ * names and properties live in flat arrays that grow as needed and are then kept.
+ */
+final class LogEvent {
+    long timestamp = 0;
+    @Nullable Logger.Level level = null;
+    @Nullable String category = null;
+    @Nullable String message = null;
+    @Nullable Throwable error = null;
+    @Nullable StackTrace trace = null;
+    String threadName = "";
+    /**
+     * Innermost context first.
+     */
+    String[] contexts = new String[8];
+    int contextCount = 0;
+    final PropertyList properties = new PropertyList();
+
+    void addContext(final String name) {
+        if (contextCount == contexts.length) contexts = Arrays.copyOf(contexts, contextCount * 2);
+        contexts[contextCount++] = name;
+    }
+
+    /**
+     * Drops every reference the event holds, so that a pooled event doesn't keep its last message's objects alive.
+     */
+    void clear() {
+        level = null;
+        category = null;
+        message = null;
+        error = null;
+        trace = null;
+        threadName = "";
+        Arrays.fill(contexts, 0, contextCount, null);
+        contextCount = 0;
+        properties.clear();
+    }
+
+    void copyFrom(final LogEvent e) {
+        clear();
+        timestamp = e.timestamp;
+        level = e.level;
+        category = e.category;
+        message = e.message;
+        error = e.error;
+        trace = e.trace;
+        threadName = e.threadName;
+        for (int i = 0; i < e.contextCount; i++) addContext(e.contexts[i]);
+        properties.addAll(e.properties);
+    }
+
+    @Override public String toString() { return "LogEvent{" + level + ", " + category + ", " + message + '}'; }
+}
@@ -1,15 +1,20 @@
 package com.lantopia.libjava.log;
 
+import com.lantopia.libjava.metrics.Counter;
+import com.lantopia.libjava.metrics.Histogram;
+import com.lantopia.libjava.metrics.Instrumented;
+import com.lantopia.libjava.metrics.MetricRegistry;
+
 import javax.annotation.Nullable;
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-
-import static com.lantopia.libjava.util.LibJava.nonNullUnmodifiableList;
-import static com.lantopia.libjava.util.LibJava.nonNullUnmodifiableMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 /**
  * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
@@ -19,9 +24,47 @@ import static com.lantopia.libjava.util.LibJava.nonNullUnmodifiableMap;
  * A smartly structured logging system that supports adding rich data to log messages, a fluent interface for composing
  * log messages, and a pluggable back end for logging outputs.  Ultimately it should act as a viable back end for other
  * logging systems as well.
+ * <p/>
+ * Logging doesn't allocate in the steady state: each thread reuses one {@link LogBuilder} and one captured event, and
+ * primitive properties are stored unboxed.  The builder returned by the methods below is therefore only good until its
+ * {@link LogBuilder#log()} is called; don't hold on to it after that.
+ * <p/>
+ * Messages are filtered by level, with thresholds per category that can be changed at any time; see
+ * {@link #setLevel(String, Level)}.  Once a builder has a level it knows to be filtered out, it ignores everything until
+ * {@link LogBuilder#log()}, so a disabled message costs little more than the calls that build it; set the level (and
+ * category) first to get the most out of this.  Messages without a level are never filtered.
+ * <p/>
+ * Messages that might be logged in a tight loop can be throttled, per call site or by category and message; see
+ * {@link Throttle}.
+ * <p/>
+ * Once registered with a {@link MetricRegistry}, a logger counts the messages it logs, by level, and those its
+ * throttles hold back, and times how long writing a message holds up the thread that logged it.
  */
-public abstract class Logger {
-    private final Map<Thread, LinkedList<Context>> threadContextMap = new HashMap<>();
+public abstract class Logger implements Instrumented {
+    private static final ThreadLocal<LogBuilder> ScratchBuilders = new ThreadLocal<LogBuilder>() {
+        @Override protected LogBuilder initialValue() { return new LogBuilder(null, true); }
+    };
+    private static final ThreadLocal<ScratchEvent> ScratchEvents = new ThreadLocal<ScratchEvent>() {
+        @Override protected ScratchEvent initialValue() { return new ScratchEvent(); }
+    };
+
+    private static final LogBuilder Disabled = new DisabledBuilder();
+    /**
+     * Beyond this many throttled category and message pairs, further messages in a category share one throttle.
+     */
+    private static final int MaxKeyedThrottles = 4096;
+
+    private final ThreadLocal<ContextStack> contextStacks = new ThreadLocal<ContextStack>() {
+        @Override protected ContextStack initialValue() { return new ContextStack(); }
+    };
+    private volatile Thresholds thresholds = Thresholds.Default;
+    private volatile int traceDepth = 32;
+    /**
+     * Throttles by category, then message; null is keyed as "".
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, Throttle>> throttles = new ConcurrentHashMap<>();
+    private volatile int throttleCount = 0;
+    @Nullable private volatile Meters meters = null;
 
     /**
      * Produces a thread-specific 'logging context' object.  This attaches a string to a stack of 'contexts' that
@@ -43,37 +86,234 @@ public abstract class Logger {
      * <p/>
      * The log getMessage above will have IN-XML-PARSER in its context stack, along with any other contexts inserted
      * higher in the call stack for that thread; it will also store a stack getTrace pointing to the point of failure.
+     * <p/>
+     * Each thread's stack is confined to that thread, so contexts must be closed on the thread that opened them.  Work
+     * handed to other threads picks up the contexts it was submitted under if it goes through {@link #wrap(Runnable)},
+     * {@link #wrap(Callable)} or {@link #wrap(Executor)}, or through a {@link #snapshot()}.
      */
     public Context context(final String name) {
-        final Thread thread = Thread.currentThread();
-        final Context out = new Context(this, thread, name);
+        final ContextStack stack = contextStacks.get();
+        final Context out = new Context(stack, Thread.currentThread(), name, stack.top);
+        stack.top = out;
+        return out;
+    }
 
-        if (!threadContextMap.containsKey(thread)) threadContextMap.put(thread, new LinkedList<Context>());
-        final LinkedList<Context> threadContextStack = threadContextMap.get(thread);
-        threadContextStack.push(out);
+    /**
+     * Captures the calling thread's current context stack.  Snapshots are immutable and cheap, and can be restored
+     * on any thread.
+     */
+    public Snapshot snapshot() { return new Snapshot(this, contextStacks.get().top); }
 
-        return out;
+    /**
+     * @return a task that runs the given one under the calling thread's current contexts
+     */
+    public Runnable wrap(final Runnable task) {
+        final Snapshot snapshot = snapshot();
+        return new Runnable() {
+            @Override public void run() {
+                final Scope scope = snapshot.restore();
+                try {
+                    task.run();
+                } finally {
+                    scope.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * @return a task that runs the given one under the calling thread's current contexts
+     */
+    public <V> Callable<V> wrap(final Callable<V> task) {
+        final Snapshot snapshot = snapshot();
+        return new Callable<V>() {
+            @Override public V call() throws Exception {
+                final Scope scope = snapshot.restore();
+                try {
+                    return task.call();
+                } finally {
+                    scope.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * @return an executor that runs each task under the contexts current on the thread that submitted it.  For
+     * fork-join pools, wrap the task instead: {@code pool.invoke(ForkJoinTask.adapt(logger.wrap(callable)))}.
+     */
+    public Executor wrap(final Executor executor) {
+        return new Executor() {
+            @Override public void execute(final Runnable task) { executor.execute(wrap(task)); }
+        };
+    }
+
+    /**
+     * Sets the threshold for messages in categories with no threshold of their own.  The default is
+     * {@link Level#Debug}, which lets everything through.
+     */
+    public synchronized void setLevel(final Level threshold) { thresholds = thresholds.withRoot(threshold); }
+
+    /**
+     * Sets the threshold for messages in the category and the categories under it (those whose dotted names start
+     * with it), except those with thresholds of their own.
+     *
+     * @param threshold the lowest level to log, or null to go back to inheriting the parent category's threshold
+     */
+    public synchronized void setLevel(final String category, @Nullable final Level threshold) {
+        thresholds = thresholds.with(category, threshold);
+    }
+
+    /**
+     * @return the lowest level that will be logged in the category
+     */
+    public Level getLevel(@Nullable final String category) { return thresholds.threshold(category); }
+
+    /**
+     * @return whether a message at the level and in the category would be logged
+     */
+    public boolean isEnabled(final Level level, @Nullable final String category) {
+        return thresholds.isEnabled(level, category);
+    }
+
+    /**
+     * Sets the most frames a trace requested with {@link LogBuilder#withTrace()} keeps.  The default is 32.
+     */
+    public void setTraceDepth(final int frames) {
+        if (frames < 1) throw new IllegalArgumentException("Trace depth must be positive: " + frames);
+        traceDepth = frames;
+    }
+
+    /**
+     * Registers counters prefix.messages, for every message logged, and prefix.messages.&lt;Level&gt; for each
+     * level; a counter prefix.throttled, for messages held back by a throttle; and a histogram prefix.write, of the
+     * nanoseconds spent writing a message on the thread that logged it.
+     */
+    @Override public void registerMetrics(final MetricRegistry registry, final String prefix) {
+        meters = new Meters(registry, prefix);
+    }
+
+    public LogBuilder level(@Nullable final Level v) {
+        if (v != null && thresholds.isDisabledEverywhere(v)) return Disabled;
+        return builder().level(v);
     }
 
-    public LogBuilder level(@Nullable final Level v) { return new LogBuilder(this).level(v); }
+    public LogBuilder category(@Nullable final String v) { return builder().category(v); }
+
+    public LogBuilder message(@Nullable final String v) { return builder().message(v); }
+
+    public LogBuilder error(@Nullable final Throwable v) { return builder().error(v); }
 
-    public LogBuilder category(@Nullable final String v) { return new LogBuilder(this).category(v); }
+    public LogBuilder withTrace() { return builder().withTrace(); }
 
-    public LogBuilder message(@Nullable final String v) { return new LogBuilder(this).message(v); }
+    public LogBuilder property(final String k, @Nullable final Object v) { return builder().property(k, v); }
 
-    public LogBuilder error(@Nullable final Throwable v) { return new LogBuilder(this).error(v); }
+    public LogBuilder property(final String k, final long v) { return builder().property(k, v); }
+
+    public LogBuilder property(final String k, final double v) { return builder().property(k, v); }
+
+    public LogBuilder property(final String k, final boolean v) { return builder().property(k, v); }
+
+    /**
+     * @return the throttle for the category and message, made from the given limit if there isn't one yet
+     */
+    private Throttle throttle(@Nullable final String category, @Nullable final String message, final int every,
+                              final double perSecond, final int burst) {
+        final String c = (category == null) ? "" : category;
+        ConcurrentMap<String, Throttle> byMessage = throttles.get(c);
+        if (byMessage == null) {
+            final ConcurrentMap<String, Throttle> fresh = new ConcurrentHashMap<>();
+            byMessage = throttles.putIfAbsent(c, fresh);
+            if (byMessage == null) byMessage = fresh;
+        }
 
-    public LogBuilder withTrace() { return new LogBuilder(this).withTrace(); }
+        final String m = (message == null || throttleCount >= MaxKeyedThrottles) ? "" : message;
+        final Throttle found = byMessage.get(m);
+        if (found != null) return found;
 
-    public LogBuilder property(final String k, final Object v) { return new LogBuilder(this).property(k, v); }
+        final Throttle made = (every > 0) ? Throttle.sample(every) : Throttle.rate(perSecond, burst);
+        final Throttle raced = byMessage.putIfAbsent(m, made);
+        if (raced != null) return raced;
+        throttleCount++;
+        return made;
+    }
 
-    abstract void log(LogBuilder builder);
+    /**
+     * Takes the current thread's scratch builder, or a new one if it's still in use: a message being built while
+     * another is (by code that logs while computing a property, say), or a builder that was never logged.
+     */
+    private LogBuilder builder() {
+        final LogBuilder scratch = ScratchBuilders.get();
+        if (scratch.inUse) return new LogBuilder(this, false);
+        scratch.logger = this;
+        scratch.inUse = true;
+        return scratch;
+    }
 
-    void popContext(final Context context) {
-        threadContextMap.get(context.getThread()).pop();
+    /**
+     * Captures the builder's message on the calling thread and writes it out straight away.  Back ends that hand
+     * messages to another thread override this.
+     */
+    void log(final LogBuilder builder) {
+        final LogEvent event = acquireEvent();
+        try {
+            capture(builder, event);
+            final Meters m = meters;
+            final long start = (m == null) ? 0 : System.nanoTime();
+            synchronized (this) {
+                write(event);
+            }
+            if (m != null) m.write.recordSince(start);
+        } finally {
+            releaseEvent(event);
+        }
     }
 
-    protected Map<Thread, LinkedList<Context>> getThreadContextMap() { return threadContextMap; }
+    /**
+     * Writes out a captured message.  Called with this logger's monitor held, though not necessarily on the thread
+     * that logged the message.
+     */
+    abstract void write(LogEvent event);
+
+    /**
+     * Pushes anything buffered by {@link #write(LogEvent)} to its destination.  Called with this logger's monitor
+     * held.
+     */
+    void flush() { }
+
+    /**
+     * Fills in the event from the builder, adding the time, the current thread's name and its context stack.
+     */
+    void capture(final LogBuilder builder, final LogEvent event) {
+        event.clear();
+        event.timestamp = System.currentTimeMillis();
+        event.level = builder.level;
+        event.category = builder.category;
+        event.message = builder.message;
+        event.error = builder.throwable;
+        event.trace = builder.trace;
+
+        event.threadName = Thread.currentThread().getName();
+        for (Context c = contextStacks.get().top; c != null; c = c.parent) event.addContext(c.name);
+        event.properties.addAll(builder.properties);
+    }
+
+    /**
+     * Takes the current thread's scratch event, or a new one if it's already in use further up the stack (a back end
+     * that logs while writing, for instance).
+     */
+    private static LogEvent acquireEvent() {
+        final ScratchEvent scratch = ScratchEvents.get();
+        if (scratch.inUse) return new LogEvent();
+        scratch.inUse = true;
+        return scratch.event;
+    }
+
+    private static void releaseEvent(final LogEvent event) {
+        final ScratchEvent scratch = ScratchEvents.get();
+        if (scratch.event == event) scratch.inUse = false;
+        event.clear();
+    }
 
     public enum Level {
         /**
@@ -99,26 +339,39 @@ public abstract class Logger {
     }
 
     public static class LogBuilder {
-        private final Logger logger;
+        private final boolean pooled;
+        private final PropertyList properties = new PropertyList();
+        @Nullable private Logger logger;
         @Nullable private Level level = null;
         @Nullable private String category = null;
         @Nullable private String message = null;
         @Nullable private Throwable throwable = null;
-        @Nullable private StackTraceElement[] trace = null;
-        @Nullable private Map<String, Object> properties = null;
-
-        LogBuilder(final Logger logger) { this.logger = logger; }
+        @Nullable private StackTrace trace = null;
+        private boolean wantTrace = false;
+        @Nullable private Throttle throttle = null;
+        private int sampleEvery = 0;
+        private double ratePerSecond = 0;
+        private int rateBurst = 0;
+        private boolean inUse = false;
+        private boolean disabled = false;
+
+        LogBuilder(@Nullable final Logger logger, final boolean pooled) {
+            this.logger = logger;
+            this.pooled = pooled;
+        }
 
         // TODO: Consider: getProperties().property(k,v).property(k,v).end() concept?
 
         public LogBuilder level(@Nullable final Level v) {
+            if (disabled) return this;
             level = v;
-            return this;
+            return filter();
         }
 
         public LogBuilder category(@Nullable final String v) {
+            if (disabled) return this;
             category = v;
-            return this;
+            return filter();
         }
 
         public LogBuilder message(@Nullable final String v) {
@@ -131,23 +384,153 @@ public abstract class Logger {
             return this;
         }
 
+        /**
+         * Attaches a stack trace to the message.  The trace is only taken once the message is known to be logged, and
+         * from the call to {@link #log()}; it is cut to the logger's trace depth and interned, see {@link StackTrace}.
+         */
         public LogBuilder withTrace() {
-            trace = new Throwable().fillInStackTrace().getStackTrace();
+            wantTrace = true;
+            return this;
+        }
+
+        public LogBuilder property(final String k, @Nullable final Object v) {
+            if (!disabled) properties.add(k, v);
+            return this;
+        }
+
+        public LogBuilder property(final String k, final long v) {
+            if (!disabled) properties.add(k, v);
+            return this;
+        }
+
+        public LogBuilder property(final String k, final double v) {
+            if (!disabled) properties.add(k, v);
             return this;
         }
 
-        public LogBuilder property(final String k, final Object v) {
-            if (properties == null) properties = new HashMap<>();
-            properties.put(k, v);
+        public LogBuilder property(final String k, final boolean v) {
+            if (!disabled) properties.add(k, v);
             return this;
         }
 
         public LogBuilder clearProperties() {
-            properties = null;
+            properties.clear();
+            return this;
+        }
+
+        /**
+         * Logs the message only if the throttle lets it through.  Keep the throttle somewhere it will be shared by
+         * every pass through the call site, such as a static field.
+         */
+        public LogBuilder throttle(final Throttle v) {
+            throttle = v;
+            return this;
+        }
+
+        /**
+         * Logs the message only if messages with its category and message haven't exceeded the rate.  The limit is
+         * fixed by the first message to ask for one; the message text should be constant for this to work.
+         *
+         * @see Throttle#rate(double, int)
+         */
+        public LogBuilder rateLimit(final double perSecond, final int burst) {
+            if (perSecond <= 0 || burst < 1) throw new IllegalArgumentException("Bad rate limit: " + perSecond + '/' + burst);
+            ratePerSecond = perSecond;
+            rateBurst = burst;
+            return this;
+        }
+
+        /**
+         * Logs only the first of every n messages with its category and message.
+         *
+         * @see Throttle#sample(int)
+         */
+        public LogBuilder sample(final int n) {
+            if (n < 1) throw new IllegalArgumentException("Sample interval must be at least 1: " + n);
+            sampleEvery = n;
             return this;
         }
 
-        public void log() { logger.log(this); }
+        /**
+         * Logs the message.  A builder handed out by a {@link Logger} is reset and returned to its thread afterwards.
+         */
+        public void log() {
+            if (logger == null) throw new IllegalStateException("Message has already been logged");
+            try {
+                if (!disabled && (level == null || logger.isEnabled(level, category))) {
+                    final Meters m = logger.meters;
+                    if (admit()) {
+                        if (m != null) m.logged(level);
+                        if (wantTrace) trace = StackTrace.capture(logger.traceDepth);
+                        logger.log(this);
+                    } else if (m != null) {
+                        m.throttled.increment();
+                    }
+                }
+            } finally {
+                if (pooled) release();
+            }
+        }
+
+        /**
+         * Checks the message's throttle, if it has one.  A message held back is logged anyway, as a summary, if the
+         * throttle says one is due.
+         */
+        private boolean admit() {
+            assert logger != null;
+            Throttle t = throttle;
+            if (t == null && (sampleEvery > 0 || ratePerSecond > 0))
+                t = logger.throttle(category, message, sampleEvery, ratePerSecond, rateBurst);
+            if (t == null) return true;
+
+            final long now = System.nanoTime();
+            if (t.tryAcquire(now)) {
+                final long suppressed = t.takeSuppressed(now);
+                if (suppressed > 0) properties.add("suppressed", suppressed);
+                return true;
+            }
+            if (!t.summaryDue(now)) return false;
+
+            final long suppressed = t.takeSuppressed();
+            if (suppressed == 0) return false;
+            message = "Suppressed " + suppressed + " similar messages: " + message;
+            throwable = null;
+            wantTrace = false;
+            properties.clear();
+            properties.add("suppressed", suppressed);
+            return true;
+        }
+
+        /**
+         * Disables the builder if the message is known to be filtered out, so it ignores everything until it is logged.
+         * Without a category yet, the level alone decides only if no category would log it.  The caller may still be
+         * holding the builder, so it is only released by {@link #log()}.
+         *
+         * @return this
+         */
+        private LogBuilder filter() {
+            if (level == null || logger == null) return this;
+            final Thresholds t = logger.thresholds;
+            if (category == null ? t.isDisabledEverywhere(level) : !t.isEnabled(level, category)) disabled = true;
+            return this;
+        }
+
+        private void release() {
+            logger = null;
+            level = null;
+            category = null;
+            message = null;
+            throwable = null;
+            trace = null;
+            wantTrace = false;
+            properties.clear();
+            throttle = null;
+            sampleEvery = 0;
+            ratePerSecond = 0;
+            rateBurst = 0;
+            inUse = false;
+            disabled = false;
+        }
 
         @Nullable public Level getLevel() { return level; }
 
@@ -157,9 +540,14 @@ public abstract class Logger {
 
         public Throwable getError() { return throwable; }
 
-        public List<StackTraceElement> getTrace() { return nonNullUnmodifiableList(trace); }
+        /**
+         * @return the trace's frames, once the message has been logged with one
+         */
+        public List<StackTraceElement> getTrace() {
+            return (trace == null) ? Collections.<StackTraceElement>emptyList() : trace.getFrames();
+        }
 
-        public Map<String, Object> getProperties() { return nonNullUnmodifiableMap(properties); }
+        public Map<String, Object> getProperties() { return Collections.unmodifiableMap(properties.toMap()); }
     }
 
     /**
@@ -167,26 +555,156 @@ public abstract class Logger {
      * @version 0.1
      * @since 15/07/2014
      * <p/>
-     * Resource representing a logging context.
+     * Resource representing a logging context.  Contexts also serve as the nodes of their thread's stack: each links
+     * to the one below it and never changes, so snapshots can share them.
      */
     public static class Context implements Closeable {
-        private final Logger logger;
+        private final ContextStack stack;
         private final Thread thread;
         private final String name;
+        @Nullable private final Context parent;
 
-        Context(final Logger logger, final Thread thread, final String name) {
-            this.logger = logger;
+        Context(final ContextStack stack, final Thread thread, final String name, @Nullable final Context parent) {
+            this.stack = stack;
             this.thread = thread;
             this.name = name;
+            this.parent = parent;
         }
 
         public String getName() { return name; }
 
         public Thread getThread() { return thread; }
 
+        /**
+         * Pops this context off its thread's stack.  Closing a context that isn't on top also pops the contexts above
+         * it; closing one that is no longer on the stack does nothing.
+         */
         @Override
         public void close() throws IOException {
-            logger.popContext(this);
+            if (stack.top == this) {
+                stack.top = parent;
+                return;
+            }
+            for (Context c = stack.top; c != null; c = c.parent) {
+                if (c == this) {
+                    stack.top = parent;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+     * @version 0.1
+     * @since 19/10/2026
+     * <p/>
+     * A logger's context stack as it was on some thread at some point; see {@link Logger#snapshot()}.
+     */
+    public static final class Snapshot {
+        private final Logger logger;
+        @Nullable private final Context top;
+
+        Snapshot(final Logger logger, @Nullable final Context top) {
+            this.logger = logger;
+            this.top = top;
+        }
+
+        /**
+         * Replaces the calling thread's context stack with this one until the returned scope is closed.  Contexts
+         * opened in the meantime should be closed first.
+         */
+        public Scope restore() {
+            final ContextStack stack = logger.contextStacks.get();
+            final Scope scope = new Scope(stack, stack.top);
+            stack.top = top;
+            return scope;
+        }
+    }
+
+    /**
+     * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+     * @version 0.1
+     * @since 19/10/2026
+     * <p/>
+     * Resource that puts back the context stack a {@link Snapshot} replaced.
+     */
+    public static final class Scope implements Closeable {
+        private final ContextStack stack;
+        @Nullable private final Context previous;
+
+        Scope(final ContextStack stack, @Nullable final Context previous) {
+            this.stack = stack;
+            this.previous = previous;
+        }
+
+        @Override public void close() { stack.top = previous; }
+    }
+
+    /**
+     * Builder for messages that won't be logged.
+     */
+    private static final class DisabledBuilder extends LogBuilder {
+        DisabledBuilder() { super(null, false); }
+
+        @Override public LogBuilder level(@Nullable final Level v) { return this; }
+
+        @Override public LogBuilder category(@Nullable final String v) { return this; }
+
+        @Override public LogBuilder message(@Nullable final String v) { return this; }
+
+        @Override public LogBuilder error(@Nullable final Throwable v) { return this; }
+
+        @Override public LogBuilder withTrace() { return this; }
+
+        @Override public LogBuilder property(final String k, @Nullable final Object v) { return this; }
+
+        @Override public LogBuilder property(final String k, final long v) { return this; }
+
+        @Override public LogBuilder property(final String k, final double v) { return this; }
+
+        @Override public LogBuilder property(final String k, final boolean v) { return this; }
+
+        @Override public LogBuilder clearProperties() { return this; }
+
+        @Override public LogBuilder throttle(final Throttle v) { return this; }
+
+        @Override public LogBuilder rateLimit(final double perSecond, final int burst) { return this; }
+
+        @Override public LogBuilder sample(final int n) { return this; }
+
+        @Override public void log() { }
+    }
+
+    private static final class ContextStack {
+        @Nullable Context top = null;
+    }
+
+    private static final class ScratchEvent {
+        final LogEvent event = new LogEvent();
+        boolean inUse = false;
+    }
+
+    /**
+     * The meters a registered logger updates, looked up once when it is registered.
+     */
+    private static final class Meters {
+        final Counter messages;
+        final Counter[] byLevel = new Counter[Level.values().length];
+        final Counter throttled;
+        final Histogram write;
+
+        Meters(final MetricRegistry registry, final String prefix) {
+            messages = registry.counter(prefix + ".messages");
+            for (final Level level : Level.values())
+                byLevel[level.ordinal()] = registry.counter(prefix + ".messages." + level.name());
+            throttled = registry.counter(prefix + ".throttled");
+            write = registry.histogram(prefix + ".write");
+        }
+
+        void logged(@Nullable final Level level) {
+            messages.increment();
+            if (level != null) byLevel[level.ordinal()].increment();
         }
     }
 }
@@ -0,0 +1,124 @@
+package com.lantopia.libjava.log;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Log message properties in flat, reusable arrays.  Primitive values are kept unboxed alongside the object values, so
+ * that logging a number allocates nothing, and can be rendered with {@link #appendValue(int, StringBuilder)} without
+ * boxing either.  Keys are kept in the order they were added; adding a key twice keeps both entries.
+ */
+final class PropertyList {
+    static final byte ObjectKind = 0;
+    static final byte LongKind = 1;
+    static final byte DoubleKind = 2;
+    static final byte BooleanKind = 3;
+
+    private String[] keys = new String[8];
+    private Object[] objects = new Object[8];
+    private long[] primitives = new long[8];
+    private byte[] kinds = new byte[8];
+    private int size = 0;
+
+    int size() { return size; }
+
+    String key(final int i) { return keys[i]; }
+
+    byte kind(final int i) { return kinds[i]; }
+
+    @Nullable Object object(final int i) { return objects[i]; }
+
+    long longValue(final int i) { return primitives[i]; }
+
+    double doubleValue(final int i) { return Double.longBitsToDouble(primitives[i]); }
+
+    boolean booleanValue(final int i) { return primitives[i] != 0; }
+
+    /**
+     * @return the value, boxed if it's a primitive
+     */
+    @Nullable Object value(final int i) {
+        switch (kinds[i]) {
+            case LongKind: return primitives[i];
+            case DoubleKind: return doubleValue(i);
+            case BooleanKind: return booleanValue(i);
+            default: return objects[i];
+        }
+    }
+
+    // slot() may replace the arrays, so each of these takes the slot before storing into them
+
+    void add(final String key, @Nullable final Object value) {
+        final int i = slot(key, ObjectKind);
+        objects[i] = value;
+    }
+
+    void add(final String key, final long value) {
+        final int i = slot(key, LongKind);
+        primitives[i] = value;
+    }
+
+    void add(final String key, final double value) {
+        final int i = slot(key, DoubleKind);
+        primitives[i] = Double.doubleToRawLongBits(value);
+    }
+
+    void add(final String key, final boolean value) {
+        final int i = slot(key, BooleanKind);
+        primitives[i] = value ? 1 : 0;
+    }
+
+    void addAll(final PropertyList other) {
+        for (int i = 0; i < other.size; i++) {
+            final int slot = slot(other.keys[i], other.kinds[i]);
+            objects[slot] = other.objects[i];
+            primitives[slot] = other.primitives[i];
+        }
+    }
+
+    /**
+     * Renders a value the way {@link String#valueOf} would, appending primitives without boxing them.
+     */
+    void appendValue(final int i, final StringBuilder out) {
+        switch (kinds[i]) {
+            case LongKind: out.append(primitives[i]); break;
+            case DoubleKind: out.append(doubleValue(i)); break;
+            case BooleanKind: out.append(booleanValue(i)); break;
+            default: out.append(objects[i]);
+        }
+    }
+
+    Map<String, Object> toMap() {
+        final Map<String, Object> map = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) map.put(keys[i], value(i));
+        return map;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(objects, 0, size, null);
+        size = 0;
+    }
+
+    private int slot(final String key, final byte kind) {
+        if (size == keys.length) {
+            final int n = size * 2;
+            keys = Arrays.copyOf(keys, n);
+            objects = Arrays.copyOf(objects, n);
+            primitives = Arrays.copyOf(primitives, n);
+            kinds = Arrays.copyOf(kinds, n);
+        }
+        keys[size] = key;
+        kinds[size] = kind;
+        objects[size] = null;
+        return size++;
+    }
+
+    @Override public String toString() { return toMap().toString(); }
+}
@@ -0,0 +1,101 @@
+package com.lantopia.libjava.log;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * An immutable, depth-limited stack trace, interned so that every capture of the same frames yields the same instance
+ * and id.  A call site that logs with a trace a million times holds one copy of its frames, and back ends can write a
+ * trace out once and refer to it by id after that.
+ * <p/>
+ * Traces are interned for the life of the process, up to a limit; beyond it, new traces are returned uninterned, with
+ * id 0.
+ */
+public final class StackTrace {
+    private static final int MaxInterned = 8192;
+    private static final String LoggingPrefix = Logger.class.getName();
+    private static final ConcurrentMap<StackTrace, StackTrace> Interned = new ConcurrentHashMap<>();
+    private static final AtomicInteger LastId = new AtomicInteger();
+
+    private final StackTraceElement[] frames;
+    private final int hash;
+    private final int id;
+    private final boolean truncated;
+
+    private StackTrace(final StackTraceElement[] frames, final int hash, final int id, final boolean truncated) {
+        this.frames = frames;
+        this.hash = hash;
+        this.id = id;
+        this.truncated = truncated;
+    }
+
+    /**
+     * Captures the calling thread's stack, starting from the first frame outside the logging classes.
+     *
+     * @param maxDepth the most frames to keep
+     */
+    static StackTrace capture(final int maxDepth) {
+        final StackTraceElement[] all = new Throwable().getStackTrace();
+        int from = 0;
+        while (from < all.length && isLogging(all[from])) from++;
+        final int to = Math.min(all.length, from + maxDepth);
+        final StackTraceElement[] frames = Arrays.copyOfRange(all, from, to);
+        return intern(new StackTrace(frames, Arrays.hashCode(frames), 0, to < all.length));
+    }
+
+    private static StackTrace intern(final StackTrace candidate) {
+        final StackTrace found = Interned.get(candidate);
+        if (found != null) return found;
+        if (Interned.size() >= MaxInterned) return candidate;
+
+        final StackTrace made = new StackTrace(candidate.frames, candidate.hash, LastId.incrementAndGet(), candidate.truncated);
+        final StackTrace raced = Interned.putIfAbsent(made, made);
+        return (raced == null) ? made : raced;
+    }
+
+    private static boolean isLogging(final StackTraceElement frame) {
+        final String name = frame.getClassName();
+        return name.startsWith(LoggingPrefix) || name.equals(StackTrace.class.getName());
+    }
+
+    /**
+     * @return a number unique to this trace within the process, or 0 if it wasn't interned
+     */
+    public int getId() { return id; }
+
+    /**
+     * @return the frames, innermost first
+     */
+    public List<StackTraceElement> getFrames() { return Collections.unmodifiableList(Arrays.asList(frames)); }
+
+    public int getDepth() { return frames.length; }
+
+    /**
+     * @return the frames themselves, for back ends in this package to read without copying
+     */
+    StackTraceElement[] frames() { return frames; }
+
+    /**
+     * @return true if frames were cut off the bottom of the trace to keep it within the depth limit
+     */
+    public boolean isTruncated() { return truncated; }
+
+    @Override public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StackTrace)) return false;
+        final StackTrace that = (StackTrace) o;
+        return hash == that.hash && truncated == that.truncated && Arrays.equals(frames, that.frames);
+    }
+
+    @Override public int hashCode() { return hash; }
+
+    @Override public String toString() { return "StackTrace{#" + id + ", depth=" + frames.length + (truncated ? "+" : "") + '}'; }
+}
@@ -1,11 +1,11 @@
 package com.lantopia.libjava.log;
 
-import com.google.common.base.Joiner;
-import org.joda.time.DateTime;
-import org.joda.time.format.DateTimeFormat;
+import com.google.common.base.Charsets;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.charset.Charset;
 import java.util.EnumMap;
 
 /**
@@ -19,9 +19,14 @@ import java.util.EnumMap;
  * Columns are more or less fixed-width up to getCategory, after which all bets are off.  If traces, exception and property are included,
  * they'll be in the JSON blob.  The caret at the beginning is to facilitate pasting log messages into email, tickets and
  * so on.
+ * <p/>
+ * Each line is built in a reused buffer and handed to the output in one call.  Loggers made on an {@link OutputStream}
+ * also encode into a reused buffer, so that writing a message allocates nothing; a {@link Writer} may allocate in its
+ * own encoding.
  */
 public class TextLogger extends Logger {
     private static final EnumMap<Level, String> LevelNames;
+    private static final String LineSeparator = System.getProperty("line.separator");
 
     static {
         LevelNames = new EnumMap<>(Level.class);
@@ -32,33 +37,83 @@ public class TextLogger extends Logger {
         LevelNames.put(Level.Bug, "BUG");
     }
 
-    private final Writer writer;
-    private final int sequenceNumber;
+    private final LineOutput output;
+    private final StringBuilder line = new StringBuilder(256);
+    private final TimestampFormatter timestamps = new TimestampFormatter();
+    private int sequenceNumber = 0;
+
+    private TextLogger(final LineOutput output) { this.output = output; }
+
+    public static TextLogger make(final Writer writer) { return new TextLogger(LineOutput.make(writer)); }
 
-    private TextLogger(final Writer writer) {
-        this.writer = writer;
-        this.sequenceNumber = 0;
+    public static TextLogger make(final OutputStream stream) { return make(stream, Charsets.UTF_8); }
+
+    public static TextLogger make(final OutputStream stream, final Charset charset) {
+        return new TextLogger(LineOutput.make(stream, charset));
     }
 
-    public static TextLogger make(final Writer writer) { return new TextLogger(writer); }
+    @Override void write(final LogEvent event) { write(event, sequenceNumber++); }
+
+    /**
+     * Writes the event with the given sequence number, rather than the next of this logger's own.
+     */
+    @SuppressWarnings({"UseOfSystemOutOrSystemErr", "CallToPrintStackTrace"})
+    void write(final LogEvent event, final int sequence) {
+        final StringBuilder out = line;
+        out.setLength(0);
+        out.append('>');
+        appendPadded(out, sequence, 6);
+        out.append(" | ").append(LevelNames.get(event.level)).append(" | ");
+        timestamps.appendTo(out, event.timestamp);
+        out.append(" | ").append(event.category)
+                .append(" | ").append(event.threadName)
+                .append(" | ");
+
+        boolean first = true;
+        for (int i = 0; i < event.contextCount; i++) {
+            if (event.contexts[i] == null) continue;
+            if (!first) out.append(';');
+            out.append(event.contexts[i]);
+            first = false;
+        }
+
+        out.append(" | ").append(event.message).append(" | ");
+
+        final PropertyList properties = event.properties;
+        for (int i = 0; i < properties.size(); i++) {
+            if (i > 0) out.append(',');
+            out.append(properties.key(i)).append(':');
+            properties.appendValue(i, out);
+        }
+        out.append(LineSeparator);
 
-    @SuppressWarnings({"UseOfSystemOutOrSystemErr", "CallToPrintStackTrace"}) @Override
-    void log(final LogBuilder builder) {
         try {
-            final Thread cur = Thread.currentThread();
-            writer.append(String.format(">%06d | %s | %s | %s | %s | %s | %s | %s",
-                    sequenceNumber,
-                    LevelNames.get(builder.getLevel()),
-                    DateTimeFormat.fullDateTime().print(DateTime.now()),
-                    builder.getCategory(),
-                    cur.getName(),
-                    Joiner.on(';').skipNulls().join(getThreadContextMap().get(cur)),
-                    builder.getMessage(),
-                    Joiner.on(',').useForNull("null").withKeyValueSeparator(":").join(builder.getProperties())
-            ));
+            output.write(out);
         } catch (final IOException e) {
             System.err.println("*** FAILED TO WRITE LOG MESSAGE: " + e.getMessage());
             e.printStackTrace();
         }
     }
+
+    @SuppressWarnings({"UseOfSystemOutOrSystemErr", "CallToPrintStackTrace"}) @Override
+    void flush() {
+        try {
+            output.flush();
+        } catch (final IOException e) {
+            System.err.println("*** FAILED TO FLUSH LOG: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Appends a non-negative number zero-padded to the given width, like %0Nd.
+     */
+    private static void appendPadded(final StringBuilder out, final int value, final int width) {
+        if (value >= 0) {
+            int digits = 1;
+            for (int v = value; v >= 10; v /= 10) digits++;
+            for (int i = digits; i < width; i++) out.append('0');
+        }
+        out.append(value);
+    }
 }
@@ -0,0 +1,92 @@
+package com.lantopia.libjava.log;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * An immutable set of level thresholds: one for the root, and overrides for categories.  Categories are dotted names,
+ * and a category without an override of its own takes its nearest ancestor's, so setting "net" also covers "net.http"
+ * and "net.http.client".
+ * <p/>
+ * Each category's effective threshold is resolved once and cached, so the check costs a hash lookup; checking a level
+ * at or above every threshold costs a comparison.  Changing a threshold makes a new instance, with an empty cache.
+ */
+final class Thresholds {
+    static final Thresholds Default = new Thresholds(Logger.Level.Debug, Collections.<String, Logger.Level>emptyMap());
+
+    private final Logger.Level root;
+    private final Map<String, Logger.Level> overrides;
+    /**
+     * Ordinals of the lowest and highest thresholds anywhere.
+     */
+    private final int minimum;
+    private final int maximum;
+    private final ConcurrentMap<String, Logger.Level> resolved = new ConcurrentHashMap<>();
+
+    private Thresholds(final Logger.Level root, final Map<String, Logger.Level> overrides) {
+        this.root = root;
+        this.overrides = overrides;
+        int min = root.ordinal();
+        int max = min;
+        for (final Logger.Level level : overrides.values()) {
+            min = Math.min(min, level.ordinal());
+            max = Math.max(max, level.ordinal());
+        }
+        this.minimum = min;
+        this.maximum = max;
+    }
+
+    Thresholds withRoot(final Logger.Level threshold) { return new Thresholds(threshold, overrides); }
+
+    /**
+     * @param threshold the category's threshold, or null to inherit its parent's again
+     */
+    Thresholds with(final String category, @Nullable final Logger.Level threshold) {
+        final Map<String, Logger.Level> copy = new HashMap<>(overrides);
+        if (threshold == null) copy.remove(category);
+        else copy.put(category, threshold);
+        return new Thresholds(root, Collections.unmodifiableMap(copy));
+    }
+
+    boolean isEnabled(final Logger.Level level, @Nullable final String category) {
+        final int ordinal = level.ordinal();
+        if (ordinal >= maximum) return true;
+        return ordinal >= minimum && ordinal >= threshold(category).ordinal();
+    }
+
+    /**
+     * @return true if the level is below every threshold, so that no category logs it
+     */
+    boolean isDisabledEverywhere(final Logger.Level level) { return level.ordinal() < minimum; }
+
+    Logger.Level threshold(@Nullable final String category) {
+        if (category == null || overrides.isEmpty()) return root;
+        final Logger.Level cached = resolved.get(category);
+        if (cached != null) return cached;
+
+        final Logger.Level level = resolve(category);
+        resolved.putIfAbsent(category, level);
+        return level;
+    }
+
+    private Logger.Level resolve(final String category) {
+        String name = category;
+        while (true) {
+            final Logger.Level level = overrides.get(name);
+            if (level != null) return level;
+            final int dot = name.lastIndexOf('.');
+            if (dot < 0) return root;
+            name = name.substring(0, dot);
+        }
+    }
+
+    @Override public String toString() { return "Thresholds{" + root + ", " + overrides + '}'; }
+}
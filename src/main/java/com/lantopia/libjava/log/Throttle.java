@@ -0,0 +1,132 @@
+package com.lantopia.libjava.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Limits how often a message is logged, either to a rate (a token bucket) or to one in every N.  Messages the throttle
+ * holds back are counted; the next one let through carries the count as a "suppressed" property, and if none is let
+ * through for the summary interval, the next message held back is logged instead as a summary of how many were
+ * suppressed.
+ * <p/>
+ * To throttle a call site, keep a throttle in a static field and pass it to {@link Logger.LogBuilder#throttle}; to
+ * throttle by category and message, use {@link Logger.LogBuilder#rateLimit} or {@link Logger.LogBuilder#sample}
+ * instead.  Throttles are lock-free: deciding costs a clock read and a compare-and-set or an atomic increment.
+ */
+public final class Throttle {
+    private static final long DefaultSummaryInterval = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Nanoseconds per token when limiting a rate, otherwise 0.
+     */
+    private final long interval;
+    private final int burst;
+    /**
+     * How far ahead of the clock the bucket may run: the burst, in nanoseconds.
+     */
+    private final long tolerance;
+    /**
+     * N when sampling one in N, otherwise 0.
+     */
+    private final int every;
+    private final long summaryInterval;
+    /**
+     * When limiting a rate, the time at which the bucket will next be full (the theoretical arrival time); when
+     * sampling, the number of messages seen.
+     */
+    private final AtomicLong state;
+    private final AtomicLong suppressed = new AtomicLong();
+    private final AtomicLong suppressedTotal = new AtomicLong();
+    private final AtomicLong nextSummary;
+
+    private Throttle(final long interval, final int burst, final int every, final long summaryInterval) {
+        final long now = System.nanoTime();
+        this.interval = interval;
+        this.burst = burst;
+        this.tolerance = interval * (burst - 1);
+        this.every = every;
+        this.summaryInterval = summaryInterval;
+        this.state = new AtomicLong(every > 0 ? 0 : now);
+        this.nextSummary = new AtomicLong(now + summaryInterval);
+    }
+
+    /**
+     * @param perSecond sustained number of messages to let through per second
+     * @param burst     number of messages that can be let through at once after a quiet spell
+     */
+    public static Throttle rate(final double perSecond, final int burst) {
+        if (perSecond <= 0) throw new IllegalArgumentException("Rate must be positive: " + perSecond);
+        if (burst < 1) throw new IllegalArgumentException("Burst must be at least 1: " + burst);
+        return new Throttle(Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / perSecond)), burst, 0, DefaultSummaryInterval);
+    }
+
+    /**
+     * @return a throttle that lets through the first of every n messages
+     */
+    public static Throttle sample(final int n) {
+        if (n < 1) throw new IllegalArgumentException("Sample interval must be at least 1: " + n);
+        return new Throttle(0, 1, n, DefaultSummaryInterval);
+    }
+
+    /**
+     * @return a throttle with the same limit but its own state, which summarises suppressed messages at most once per
+     * the given interval (10 seconds by default)
+     */
+    public Throttle withSummaryInterval(final long interval, final TimeUnit unit) {
+        return new Throttle(this.interval, burst, every, unit.toNanos(interval));
+    }
+
+    /**
+     * @return the number of messages held back since the throttle was made
+     */
+    public long getSuppressed() { return suppressedTotal.get(); }
+
+    /**
+     * Decides whether to let a message through, counting it as suppressed if not.
+     */
+    boolean tryAcquire(final long now) {
+        if (every > 0) {
+            if (state.getAndIncrement() % every == 0) return true;
+        } else {
+            while (true) {
+                final long arrival = state.get();
+                if (arrival - now > tolerance) break;
+                if (state.compareAndSet(arrival, (arrival - now > 0 ? arrival : now) + interval)) return true;
+            }
+        }
+        suppressed.incrementAndGet();
+        suppressedTotal.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Takes the count of messages suppressed since the last report, for a message that was let through, and puts off
+     * the next summary.
+     */
+    long takeSuppressed(final long now) {
+        nextSummary.lazySet(now + summaryInterval);
+        return suppressed.getAndSet(0);
+    }
+
+    /**
+     * Takes the count of messages suppressed, for a summary.
+     */
+    long takeSuppressed() { return suppressed.getAndSet(0); }
+
+    /**
+     * @return true, for one caller, if a summary is due
+     */
+    boolean summaryDue(final long now) {
+        final long due = nextSummary.get();
+        return now - due >= 0 && nextSummary.compareAndSet(due, now + summaryInterval);
+    }
+
+    @Override public String toString() {
+        return (every > 0 ? "Throttle{1 in " + every : "Throttle{" + TimeUnit.SECONDS.toNanos(1) / interval + "/s")
+                + ", suppressed=" + suppressedTotal + '}';
+    }
+}
@@ -0,0 +1,35 @@
+package com.lantopia.libjava.log;
+
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Renders timestamps as yyyy-mm-ddThh:mm:ss,mmm in the default time zone.  Everything up to the milliseconds is
+ * formatted once per second and kept, so most timestamps cost three digit appends and no allocation.  Not thread-safe;
+ * each logger keeps its own and uses it under its monitor.
+ */
+final class TimestampFormatter {
+    private static final DateTimeFormatter SecondFormat = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss,");
+
+    private final StringBuffer prefix = new StringBuffer(24);
+    private long second = Long.MIN_VALUE;
+
+    void appendTo(final StringBuilder out, final long millis) {
+        final long s = millis >= 0 ? millis / 1000 : (millis - 999) / 1000;
+        if (s != second) {
+            prefix.setLength(0);
+            SecondFormat.printTo(prefix, s * 1000);
+            second = s;
+        }
+
+        final int ms = (int) (millis - s * 1000);
+        out.append(prefix)
+                .append((char) ('0' + ms / 100))
+                .append((char) ('0' + ms / 10 % 10))
+                .append((char) ('0' + ms % 10));
+    }
+}
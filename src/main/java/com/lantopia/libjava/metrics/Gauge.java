@@ -0,0 +1,13 @@
+package com.lantopia.libjava.metrics;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * A value read when a snapshot is taken, such as a queue's depth or a pool's size.  Called on whatever thread takes
+ * the snapshot, so it must be safe to call from any thread, and should be quick.
+ */
+public interface Gauge {
+    double getValue();
+}
@@ -0,0 +1,74 @@
+package com.lantopia.libjava.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * The distribution of a non-negative value, usually a latency in nanoseconds, in log-linear buckets as in an HDR
+ * histogram: each power of two is split into 32 equal buckets, so a value is known to within about 3% of itself,
+ * from nanoseconds to centuries, in a fixed 1888 buckets (15KB).  Recording finds the bucket with a few shifts and
+ * increments it atomically: lock-free, with no allocation.  Negative values are recorded as 0.
+ */
+public final class Histogram {
+    /**
+     * Each power of two is split into 2^SubBucketBits buckets.
+     */
+    static final int SubBucketBits = 5;
+    private static final int SubBuckets = 1 << SubBucketBits;
+    static final int BucketCount = (64 - SubBucketBits) * SubBuckets;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BucketCount);
+
+    Histogram() {}
+
+    public void record(final long value) {
+        buckets.getAndIncrement(bucket(Math.max(0, value)));
+    }
+
+    /**
+     * Records the time since the given {@link System#nanoTime()}.
+     */
+    public void recordSince(final long startNanos) { record(System.nanoTime() - startNanos); }
+
+    /**
+     * @return the counts, copied bucket by bucket; values recorded while copying may or may not be counted, but the
+     * snapshot's sum and mean always agree with its counts, as they are worked out from them
+     */
+    public HistogramSnapshot snapshot() {
+        final long[] counts = new long[BucketCount];
+        for (int i = 0; i < BucketCount; i++) counts[i] = buckets.get(i);
+        return new HistogramSnapshot(counts);
+    }
+
+    /**
+     * Values below SubBuckets get a bucket each; above that, a value with its top bit at position e goes in row
+     * e - SubBucketBits + 1, in the column given by the SubBucketBits bits below its top bit.
+     */
+    static int bucket(final long v) {
+        if (v < SubBuckets) return (int) v;
+        final int shift = 63 - Long.numberOfLeadingZeros(v) - SubBucketBits;
+        return ((shift + 1) << SubBucketBits) + (int) ((v >>> shift) - SubBuckets);
+    }
+
+    /**
+     * @return the least value that goes in the given bucket
+     */
+    static long lowerBound(final int bucket) {
+        final int row = bucket >>> SubBucketBits;
+        if (row == 0) return bucket;
+        return (long) (SubBuckets + (bucket & (SubBuckets - 1))) << (row - 1);
+    }
+
+    /**
+     * @return the greatest value that goes in the given bucket
+     */
+    static long upperBound(final int bucket) {
+        if (bucket == BucketCount - 1) return Long.MAX_VALUE;
+        return lowerBound(bucket + 1) - 1;
+    }
+
+    @Override public String toString() { return "Histogram{" + snapshot() + '}'; }
+}
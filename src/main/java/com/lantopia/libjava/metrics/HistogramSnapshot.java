@@ -0,0 +1,87 @@
+package com.lantopia.libjava.metrics;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * A histogram's counts at one moment, or the difference between two moments.  Percentiles, the minimum and the
+ * maximum are given as the greatest value in their bucket (or least, for the minimum), so they overstate by at most
+ * about 3%, as an HDR histogram does.  The sum and mean take each value as the middle of its bucket, so they are off
+ * by at most about 1.5%, but are always consistent with the counts.
+ */
+public final class HistogramSnapshot {
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+
+    HistogramSnapshot(final long[] counts) {
+        this.counts = counts;
+        long n = 0;
+        double total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) continue;
+            n += counts[i];
+            total += counts[i] * (double) middle(i);
+        }
+        this.count = n;
+        this.sum = (long) total;
+    }
+
+    /**
+     * @return the values recorded since the earlier snapshot of the same histogram
+     */
+    public HistogramSnapshot since(final HistogramSnapshot earlier) {
+        final long[] delta = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) delta[i] = Math.max(0, counts[i] - earlier.counts[i]);
+        return new HistogramSnapshot(delta);
+    }
+
+    public long getCount() { return count; }
+
+    /**
+     * @return the sum of the recorded values, estimated from their buckets
+     */
+    public long getSum() { return sum; }
+
+    public double getMean() { return (count == 0) ? 0 : (double) sum / count; }
+
+    /**
+     * @param percentile from 0 to 100
+     * @return a value at least as great as the given percentage of recorded values (nearest-rank), or 0 if there are
+     * none
+     */
+    public long getPercentile(final double percentile) {
+        if (!(percentile >= 0 && percentile <= 100))
+            throw new IllegalArgumentException("Percentile must be from 0 to 100: " + percentile);
+        if (count == 0) return 0;
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Histogram.upperBound(i);
+        }
+        return getMax();
+    }
+
+    public long getMin() {
+        for (int i = 0; i < counts.length; i++) if (counts[i] > 0) return Histogram.lowerBound(i);
+        return 0;
+    }
+
+    public long getMax() {
+        for (int i = counts.length - 1; i >= 0; i--) if (counts[i] > 0) return Histogram.upperBound(i);
+        return 0;
+    }
+
+    private static long middle(final int bucket) {
+        final long low = Histogram.lowerBound(bucket);
+        return low + (Histogram.upperBound(bucket) - low) / 2;
+    }
+
+    @Override public String toString() {
+        return "count=" + count + " mean=" + Math.round(getMean()) + " min=" + getMin() + " p50=" + getPercentile(50)
+                + " p90=" + getPercentile(90) + " p99=" + getPercentile(99) + " p99.9=" + getPercentile(99.9)
+                + " max=" + getMax();
+    }
+}
@@ -0,0 +1,16 @@
+package com.lantopia.libjava.metrics;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Something that can keep metrics about itself.  Until it's registered, it keeps none and pays nothing for them.
+ */
+public interface Instrumented {
+    /**
+     * Registers this object's meters in the given registry, with names starting with the given prefix and a dot.
+     * Registering again replaces the meters used from then on.
+     */
+    void registerMetrics(MetricRegistry registry, String prefix);
+}
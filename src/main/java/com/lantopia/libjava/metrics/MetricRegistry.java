@@ -0,0 +1,121 @@
+package com.lantopia.libjava.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * A named set of counters, gauges and histograms.  Look a meter up once and keep it in a field: looking one up is a
+ * hash lookup, but using one is lock-free and allocates nothing.  Names are dotted paths, such as "log.messages.Warn",
+ * and each name is one kind of meter.
+ * <p/>
+ * {@link #snapshot()} reads every meter into an immutable {@link MetricsSnapshot}, which can be written out as text
+ * or compared with an earlier one for the change over an interval; {@link #registerMBean(String)} publishes the
+ * meters' current values over JMX.
+ */
+public final class MetricRegistry {
+    private static final MetricRegistry Default = new MetricRegistry();
+
+    private final ConcurrentMap<String, Object> meters = new ConcurrentHashMap<>();
+
+    private MetricRegistry() {}
+
+    public static MetricRegistry make() { return new MetricRegistry(); }
+
+    /**
+     * @return a registry shared by the whole process
+     */
+    public static MetricRegistry getDefault() { return Default; }
+
+    /**
+     * @return the counter with the given name, made if there isn't one yet
+     * @throws IllegalArgumentException if the name is taken by another kind of meter
+     */
+    public Counter counter(final String name) { return meter(name, Counter.class); }
+
+    /**
+     * @return the histogram with the given name, made if there isn't one yet
+     * @throws IllegalArgumentException if the name is taken by another kind of meter
+     */
+    public Histogram histogram(final String name) { return meter(name, Histogram.class); }
+
+    /**
+     * Registers a gauge under the given name, replacing any gauge already there.
+     *
+     * @throws IllegalArgumentException if the name is taken by another kind of meter
+     */
+    public void gauge(final String name, final Gauge gauge) {
+        final Object previous = meters.put(name, gauge);
+        if (previous != null && !(previous instanceof Gauge)) {
+            meters.put(name, previous);
+            throw new IllegalArgumentException(
+                    "Metric " + name + " is already a " + previous.getClass().getSimpleName());
+        }
+    }
+
+    public void remove(final String name) { meters.remove(name); }
+
+    private <T> T meter(final String name, final Class<T> kind) {
+        Object meter = meters.get(name);
+        if (meter == null) {
+            final Object made = (kind == Counter.class) ? new Counter() : new Histogram();
+            meter = meters.putIfAbsent(name, made);
+            if (meter == null) meter = made;
+        }
+        if (!kind.isInstance(meter))
+            throw new IllegalArgumentException("Metric " + name + " is already a " + meter.getClass().getSimpleName());
+        return kind.cast(meter);
+    }
+
+    /**
+     * Reads every meter, without stopping anything being recorded.  A counter read while it is being added to may
+     * include some of the additions in progress and not others.  A histogram's count is always the sum of its
+     * buckets, but its sum may include or miss values recorded while it was read.  Meters are read one after another,
+     * not all at one instant.
+     */
+    public MetricsSnapshot snapshot() {
+        final Map<String, Long> counters = new TreeMap<>();
+        final Map<String, Double> gauges = new TreeMap<>();
+        final Map<String, HistogramSnapshot> histograms = new TreeMap<>();
+        for (final Map.Entry<String, Object> entry : meters.entrySet()) {
+            final Object meter = entry.getValue();
+            if (meter instanceof Counter) counters.put(entry.getKey(), ((Counter) meter).get());
+            else if (meter instanceof Histogram) histograms.put(entry.getKey(), ((Histogram) meter).snapshot());
+            else gauges.put(entry.getKey(), ((Gauge) meter).getValue());
+        }
+        return new MetricsSnapshot(System.currentTimeMillis(), System.nanoTime(), counters, gauges, histograms);
+    }
+
+    /**
+     * Publishes the meters on the platform MBean server, as attributes of one MBean under the given object name: a
+     * counter or gauge as its name, a histogram as its name followed by .count, .mean, .p50, .p90, .p99, .p999 and
+     * .max.  Meters added later appear as they are added.
+     *
+     * @param objectName such as "com.example:type=Metrics"
+     * @return the name the MBean was registered under
+     * @throws IllegalArgumentException if the name is malformed or already taken
+     */
+    public ObjectName registerMBean(final String objectName) {
+        try {
+            final ObjectName name = new ObjectName(objectName);
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            return server.registerMBean(new RegistryMBean(this), name).getObjectName();
+        } catch (final InstanceAlreadyExistsException e) {
+            throw new IllegalArgumentException("An MBean is already registered as " + objectName, e);
+        } catch (final JMException e) {
+            throw new IllegalArgumentException("Can't register metrics as " + objectName, e);
+        }
+    }
+
+    @Override public String toString() { return "MetricRegistry{" + meters.size() + " meters}"; }
+}
@@ -0,0 +1,110 @@
+package com.lantopia.libjava.metrics;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Every meter in a {@link MetricRegistry} as read at one time, or the change between two such times.  Reporting the
+ * change over each interval, rather than totals since start-up, shows what happened in that interval:
+ * <code>
+ * final MetricsSnapshot now = registry.snapshot();
+ * now.since(last).writeTo(System.out);
+ * last = now;
+ * </code>
+ */
+public final class MetricsSnapshot {
+    private final long timestamp;
+    private final long nanoTime;
+    private final long intervalNanos;
+    private final Map<String, Long> counters;
+    private final Map<String, Double> gauges;
+    private final Map<String, HistogramSnapshot> histograms;
+
+    MetricsSnapshot(final long timestamp, final long nanoTime, final Map<String, Long> counters,
+                    final Map<String, Double> gauges, final Map<String, HistogramSnapshot> histograms) {
+        this(timestamp, nanoTime, 0, counters, gauges, histograms);
+    }
+
+    private MetricsSnapshot(final long timestamp, final long nanoTime, final long intervalNanos,
+                            final Map<String, Long> counters, final Map<String, Double> gauges,
+                            final Map<String, HistogramSnapshot> histograms) {
+        this.timestamp = timestamp;
+        this.nanoTime = nanoTime;
+        this.intervalNanos = intervalNanos;
+        this.counters = Collections.unmodifiableMap(counters);
+        this.gauges = Collections.unmodifiableMap(gauges);
+        this.histograms = Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * @return the change since the earlier snapshot of the same registry: counts and histograms over the interval
+     * between them, and gauges as they are in this snapshot.  Meters missing from the earlier snapshot count from 0.
+     */
+    public MetricsSnapshot since(final MetricsSnapshot earlier) {
+        final Map<String, Long> counterDeltas = new TreeMap<>();
+        for (final Map.Entry<String, Long> e : counters.entrySet()) {
+            final Long before = earlier.counters.get(e.getKey());
+            counterDeltas.put(e.getKey(), e.getValue() - (before == null ? 0 : before));
+        }
+        final Map<String, HistogramSnapshot> histogramDeltas = new TreeMap<>();
+        for (final Map.Entry<String, HistogramSnapshot> e : histograms.entrySet()) {
+            final HistogramSnapshot before = earlier.histograms.get(e.getKey());
+            histogramDeltas.put(e.getKey(), (before == null) ? e.getValue() : e.getValue().since(before));
+        }
+        return new MetricsSnapshot(timestamp, nanoTime, nanoTime - earlier.nanoTime, counterDeltas,
+                new TreeMap<>(gauges), histogramDeltas);
+    }
+
+    /**
+     * @return when the snapshot was taken, in milliseconds since the epoch
+     */
+    public long getTimestamp() { return timestamp; }
+
+    /**
+     * @return the length of the interval this snapshot covers, for one made by {@link #since}; otherwise 0
+     */
+    public long getInterval(final TimeUnit unit) { return unit.convert(intervalNanos, TimeUnit.NANOSECONDS); }
+
+    public Map<String, Long> getCounters() { return counters; }
+
+    public Map<String, Double> getGauges() { return gauges; }
+
+    public Map<String, HistogramSnapshot> getHistograms() { return histograms; }
+
+    /**
+     * Writes one line per meter, sorted by name within each kind:
+     * <pre>
+     * log.messages.Warn 12
+     * pool.size 64.0
+     * log.write count=1200 mean=830 min=408 p50=767 p90=1087 p99=2559 p99.9=8191 max=16383
+     * </pre>
+     * Histogram values are in the units they were recorded in, nanoseconds for latencies.
+     */
+    public void writeTo(final Appendable out) throws IOException {
+        if (intervalNanos > 0)
+            out.append("# interval ").append(String.valueOf(getInterval(TimeUnit.MILLISECONDS))).append(" ms\n");
+        for (final Map.Entry<String, Long> e : counters.entrySet())
+            out.append(e.getKey()).append(' ').append(String.valueOf(e.getValue())).append('\n');
+        for (final Map.Entry<String, Double> e : gauges.entrySet())
+            out.append(e.getKey()).append(' ').append(String.valueOf(e.getValue())).append('\n');
+        for (final Map.Entry<String, HistogramSnapshot> e : histograms.entrySet())
+            out.append(e.getKey()).append(' ').append(e.getValue().toString()).append('\n');
+    }
+
+    @Override public String toString() {
+        final StringBuilder s = new StringBuilder();
+        try {
+            writeTo(s);
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+        return s.toString();
+    }
+}
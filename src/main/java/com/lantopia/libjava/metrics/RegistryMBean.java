@@ -0,0 +1,102 @@
+package com.lantopia.libjava.metrics;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanException;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ReflectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Publishes a {@link MetricRegistry} over JMX as read-only attributes, named as described in
+ * {@link MetricRegistry#registerMBean(String)}.  The attribute list is rebuilt each time a client asks for it, so
+ * meters added after registration show up.  Values are read when asked for, so nothing is done while no client is
+ * looking.
+ */
+final class RegistryMBean implements DynamicMBean {
+    private static final String[] HistogramFields = {"count", "mean", "p50", "p90", "p99", "p999", "max"};
+
+    private final MetricRegistry registry;
+
+    RegistryMBean(final MetricRegistry registry) { this.registry = registry; }
+
+    @Override public Object getAttribute(final String attribute) throws AttributeNotFoundException {
+        final MetricsSnapshot snapshot = registry.snapshot();
+        final Object value = find(snapshot, attribute);
+        if (value == null) throw new AttributeNotFoundException(attribute);
+        return value;
+    }
+
+    @Override public AttributeList getAttributes(final String[] attributes) {
+        final MetricsSnapshot snapshot = registry.snapshot();
+        final AttributeList list = new AttributeList();
+        for (final String attribute : attributes) {
+            final Object value = find(snapshot, attribute);
+            if (value != null) list.add(new Attribute(attribute, value));
+        }
+        return list;
+    }
+
+    private static Object find(final MetricsSnapshot snapshot, final String attribute) {
+        final Long count = snapshot.getCounters().get(attribute);
+        if (count != null) return count;
+        final Double gauge = snapshot.getGauges().get(attribute);
+        if (gauge != null) return gauge;
+
+        final int dot = attribute.lastIndexOf('.');
+        if (dot < 0) return null;
+        final HistogramSnapshot histogram = snapshot.getHistograms().get(attribute.substring(0, dot));
+        if (histogram == null) return null;
+        switch (attribute.substring(dot + 1)) {
+            case "count": return histogram.getCount();
+            case "mean": return histogram.getMean();
+            case "p50": return histogram.getPercentile(50);
+            case "p90": return histogram.getPercentile(90);
+            case "p99": return histogram.getPercentile(99);
+            case "p999": return histogram.getPercentile(99.9);
+            case "max": return histogram.getMax();
+            default: return null;
+        }
+    }
+
+    @Override public MBeanInfo getMBeanInfo() {
+        final MetricsSnapshot snapshot = registry.snapshot();
+        final List<MBeanAttributeInfo> attributes = new ArrayList<>();
+        for (final String name : snapshot.getCounters().keySet())
+            attributes.add(new MBeanAttributeInfo(name, "long", "Counter", true, false, false));
+        for (final String name : snapshot.getGauges().keySet())
+            attributes.add(new MBeanAttributeInfo(name, "double", "Gauge", true, false, false));
+        for (final Map.Entry<String, HistogramSnapshot> e : snapshot.getHistograms().entrySet()) {
+            for (final String field : HistogramFields) {
+                final String type = field.equals("mean") ? "double" : "long";
+                attributes.add(new MBeanAttributeInfo(e.getKey() + '.' + field, type, "Histogram " + field,
+                        true, false, false));
+            }
+        }
+        final MBeanAttributeInfo[] infos = attributes.toArray(new MBeanAttributeInfo[attributes.size()]);
+        return new MBeanInfo(getClass().getName(), "Metrics", infos, null, new MBeanOperationInfo[0], null);
+    }
+
+    @Override public void setAttribute(final Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+    }
+
+    @Override public AttributeList setAttributes(final AttributeList attributes) { return new AttributeList(); }
+
+    @Override public Object invoke(final String actionName, final Object[] params, final String[] signature)
+            throws MBeanException, ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override public String toString() { return "RegistryMBean{" + registry + '}'; }
+}
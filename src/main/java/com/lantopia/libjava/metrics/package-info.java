@@ -0,0 +1,11 @@
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Lightweight instrumentation: counters, gauges and latency histograms kept in a {@link
+ * com.lantopia.libjava.metrics.MetricRegistry}, recorded without locks or allocation, and read back as snapshots.
+ */
+@ParametersAreNonnullByDefault package com.lantopia.libjava.metrics;
+
+import javax.annotation.ParametersAreNonnullByDefault;
\ No newline at end of file
@@ -1,5 +1,10 @@
 package com.lantopia.libjava.patterns;
 
+import com.lantopia.libjava.metrics.Counter;
+import com.lantopia.libjava.metrics.Instrumented;
+import com.lantopia.libjava.metrics.MetricRegistry;
+
+import javax.annotation.Nullable;
 import javax.inject.Provider;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
@@ -18,12 +23,14 @@ import java.util.concurrent.LinkedBlockingQueue;
  * memory churn might contribute negatively to system performance.
  */
 @SuppressWarnings("unchecked")
-public class PoolingAllocator implements Allocator {
+public class PoolingAllocator implements Allocator, Instrumented {
     private final ReferenceQueue softQueue = new ReferenceQueue<>();
     private final Map<Class, LinkedBlockingQueue> hardInstances = new HashMap<>();
     private final Map<Class, LinkedBlockingQueue<SoftReference>> softInstances = new HashMap<>();
     private final Map<Reference, Class> instanceTypes = new HashMap<>();
     private int capacity;
+    @Nullable private volatile Counter reused = null;
+    @Nullable private volatile Counter created = null;
 
 
     public PoolingAllocator(final int perTypeCapacity) {
@@ -42,7 +49,9 @@ public class PoolingAllocator implements Allocator {
 
         if (!instances.isEmpty()) {
             try {
-                return (T) instances.take();
+                final T instance = (T) instances.take();
+                count(reused);
+                return instance;
             } catch (final InterruptedException e) {
                 throw new AllocatorException("Allocator thread interrupted!", e);
             }
@@ -56,7 +65,10 @@ public class PoolingAllocator implements Allocator {
         if (!instances.isEmpty()) {
             try {
                 final SoftReference reference = sInstances.take();
-                if (!reference.isEnqueued()) return (T) reference.get();
+                if (!reference.isEnqueued()) {
+                    count(reused);
+                    return (T) reference.get();
+                }
             } catch (final InterruptedException e) {
                 throw new AllocatorException("Allocator thread interrupted!", e);
             }
@@ -68,9 +80,23 @@ public class PoolingAllocator implements Allocator {
         sInstances.offer(softReference);
         instanceTypes.put(softReference, type);
 
+        count(created);
         return instance;
     }
 
+    private static void count(@Nullable final Counter counter) {
+        if (counter != null) counter.increment();
+    }
+
+    /**
+     * Registers counters prefix.reused, for instances handed out from a pool, and prefix.created, for instances the
+     * provider had to make.
+     */
+    @Override public void registerMetrics(final MetricRegistry registry, final String prefix) {
+        reused = registry.counter(prefix + ".reused");
+        created = registry.counter(prefix + ".created");
+    }
+
     /**
      * Clears dead soft references from the various object pools.
      */
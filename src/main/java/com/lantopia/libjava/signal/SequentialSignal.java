@@ -1,7 +1,13 @@
 package com.lantopia.libjava.signal;
 
 import com.google.common.base.Function;
+import com.lantopia.libjava.metrics.Counter;
+import com.lantopia.libjava.metrics.Gauge;
+import com.lantopia.libjava.metrics.Histogram;
+import com.lantopia.libjava.metrics.Instrumented;
+import com.lantopia.libjava.metrics.MetricRegistry;
 
+import javax.annotation.Nullable;
 import java.lang.ref.WeakReference;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -15,9 +21,11 @@ import java.util.ListIterator;
  * <p/>
  * Signal implementation that executes handlers in sequence, in the same thread as the dispatcher.
  */
-public class SequentialSignal<T> implements Signal<T> {
+public class SequentialSignal<T> implements Signal<T>, Instrumented {
     @SuppressWarnings("unchecked")
     private final List<WeakReference<Function<T, Void>>> observers = Collections.synchronizedList(new LinkedList());
+    @Nullable private volatile Counter raised = null;
+    @Nullable private volatile Histogram raiseTimes = null;
 
     @Override
     public void notify(final Function<T, Void> h) {
@@ -27,6 +35,8 @@ public class SequentialSignal<T> implements Signal<T> {
 
     @Override
     public void raise(final T value) {
+        final Histogram times = raiseTimes;
+        final long start = (times == null) ? 0 : System.nanoTime();
         final ListIterator<WeakReference<Function<T, Void>>> iterator = observers.listIterator();
         while (iterator.hasNext()) {
             final WeakReference<Function<T, Void>> ref = iterator.next();
@@ -34,5 +44,21 @@ public class SequentialSignal<T> implements Signal<T> {
             if (fun == null) iterator.remove();
             else fun.apply(value);
         }
+        if (times != null) times.recordSince(start);
+        final Counter count = raised;
+        if (count != null) count.increment();
+    }
+
+    /**
+     * Registers a counter prefix.raised; a histogram prefix.raise, of the nanoseconds spent running the handlers for
+     * each value; and a gauge prefix.handlers, of the handlers registered, including any collected but not yet
+     * cleared.
+     */
+    @Override public void registerMetrics(final MetricRegistry registry, final String prefix) {
+        raised = registry.counter(prefix + ".raised");
+        raiseTimes = registry.histogram(prefix + ".raise");
+        registry.gauge(prefix + ".handlers", new Gauge() {
+            @Override public double getValue() { return observers.size(); }
+        });
     }
 }
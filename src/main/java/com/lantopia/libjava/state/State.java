@@ -1,6 +1,7 @@
 package com.lantopia.libjava.state;
 
 import com.google.common.base.Optional;
+import com.lantopia.libjava.util.CompactSet;
 import com.lantopia.libjava.util.Markers;
 
 import javax.annotation.Nonnull;
@@ -88,7 +89,7 @@ public interface State {
 
         StateImpl(final Builder builder) {
             this.name = require(builder.mName, "name");
-            this.allowedPredecessors = new TreeSet<>(builder.mPredecessors);
+            this.allowedPredecessors = CompactSet.copyOf(builder.mPredecessors);
         }
 
         @Override public boolean canTransitionFrom(final State state) {
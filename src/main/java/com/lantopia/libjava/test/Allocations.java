@@ -0,0 +1,117 @@
+package com.lantopia.libjava.test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Measures the memory a block of code allocates on the calling thread, from the JVM's per-thread allocation counter
+ * (HotSpot's {@code com.sun.management.ThreadMXBean}), so that a test can lock in that a hot path is garbage-free:
+ * <code>
+ * Allocations.assertNoAllocation(new Runnable() {
+ *     public void run() { logger.level(Level.Info).message("hello").log(); }
+ * });
+ * </code>
+ * The block is run enough times first for the JIT to compile it, since allocations that escape analysis removes
+ * only disappear once it is compiled; then the average over a number of runs is compared with the limit.
+ * Allocations made by other threads, such as a back end's writer thread, aren't counted.
+ */
+public final class Allocations {
+    /**
+     * Runs before measuring: enough for the JIT to compile the block with its optimizing compiler.
+     */
+    public static final int DefaultWarmups = 20000;
+    public static final int DefaultRuns = 1000;
+
+    private Allocations() {}
+
+    /**
+     * @return true if this JVM counts allocations per thread, without which nothing here works
+     */
+    public static boolean isSupported() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported();
+    }
+
+    /**
+     * @return the bytes allocated on this thread by one run of the block, less the cost of measuring
+     * @throws UnsupportedOperationException if this JVM doesn't count allocations per thread
+     */
+    public static long measure(final Runnable block) { return total(block, 0, 1); }
+
+    /**
+     * @return the average bytes allocated on this thread per run of the block, over the given number of runs after
+     * the given number of warm-up runs, less the cost of measuring.  A block that allocates on only some runs
+     * averages to a fraction of a byte, not 0.
+     * @throws UnsupportedOperationException if this JVM doesn't count allocations per thread
+     */
+    public static double measure(final Runnable block, final int warmups, final int runs) {
+        return (double) total(block, warmups, runs) / runs;
+    }
+
+    /**
+     * @return the bytes allocated on this thread by all the measured runs together, less the cost of measuring
+     */
+    private static long total(final Runnable block, final int warmups, final int runs) {
+        if (runs < 1) throw new IllegalArgumentException("Runs must be at least 1: " + runs);
+        final com.sun.management.ThreadMXBean bean = bean();
+        final long thread = Thread.currentThread().getId();
+        for (int i = 0; i < warmups; i++) block.run();
+
+        final long overhead = overhead(bean, thread);
+        final long before = bean.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < runs; i++) block.run();
+        final long after = bean.getThreadAllocatedBytes(thread);
+        return Math.max(0, after - before - overhead);
+    }
+
+    /**
+     * Asserts that the block allocates nothing once warmed up.
+     *
+     * @throws AssertionError if it does
+     */
+    public static void assertNoAllocation(final Runnable block) { assertAllocatesAtMost(0, block); }
+
+    /**
+     * Asserts that the block allocates at most the given number of bytes per run, on average, once warmed up.  The
+     * total over all runs is compared, so with a limit of 0 a single allocation on any run fails.
+     *
+     * @throws AssertionError if it allocates more
+     */
+    public static void assertAllocatesAtMost(final long maxBytes, final Runnable block) {
+        assertAllocatesAtMost(maxBytes, block, DefaultWarmups, DefaultRuns);
+    }
+
+    /**
+     * As {@link #assertAllocatesAtMost(long, Runnable)}, with the given warm-up and measured runs.
+     */
+    public static void assertAllocatesAtMost(final long maxBytes, final Runnable block, final int warmups, final int runs) {
+        final long allocated = total(block, warmups, runs);
+        if (allocated > maxBytes * runs)
+            throw new AssertionError("Expected at most " + maxBytes + " bytes allocated per run, but " + block
+                    + " allocated " + allocated + " in " + runs + " runs after " + warmups + " warm-up runs");
+    }
+
+    private static com.sun.management.ThreadMXBean bean() {
+        if (!isSupported()) throw new UnsupportedOperationException("This JVM doesn't count allocations per thread");
+        final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemoryEnabled()) bean.setThreadAllocatedMemoryEnabled(true);
+        return bean;
+    }
+
+    /**
+     * @return the bytes that reading the counter twice allocates, which is nothing on current JVMs
+     */
+    private static long overhead(final com.sun.management.ThreadMXBean bean, final long thread) {
+        long least = Long.MAX_VALUE;
+        for (int i = 0; i < 8; i++) {
+            final long before = bean.getThreadAllocatedBytes(thread);
+            least = Math.min(least, bean.getThreadAllocatedBytes(thread) - before);
+        }
+        return least;
+    }
+}
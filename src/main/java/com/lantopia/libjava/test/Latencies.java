@@ -0,0 +1,82 @@
+package com.lantopia.libjava.test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * The distribution of a block of code's running time over repeated runs, for tests that lock in low latency as well
+ * as correctness:
+ * <code>
+ * Latencies.measure(task, 10000, 100000).assertPercentileAtMost(99, 50, TimeUnit.MICROSECONDS);
+ * </code>
+ * Each run is timed separately with {@link System#nanoTime()}, so very short blocks are dominated by the clock's own
+ * cost and resolution (tens of nanoseconds); time a loop of calls in the block instead.  Timings on a shared or busy
+ * machine vary widely, so limits should be generous and tail percentiles treated with care: a test asserting on them
+ * is a guard against large regressions, not a benchmark.
+ */
+public final class Latencies {
+    private final long[] sorted;
+
+    private Latencies(final long[] sorted) { this.sorted = sorted; }
+
+    /**
+     * Runs the block the given number of times to warm it up, then times it over the given number of runs.
+     */
+    public static Latencies measure(final Runnable block, final int warmups, final int runs) {
+        if (runs < 1) throw new IllegalArgumentException("Runs must be at least 1: " + runs);
+        for (int i = 0; i < warmups; i++) block.run();
+
+        final long[] times = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            final long start = System.nanoTime();
+            block.run();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return new Latencies(times);
+    }
+
+    public int getCount() { return sorted.length; }
+
+    /**
+     * @param percentile from 0 to 100
+     * @return the time in nanoseconds that the given percentage of runs took at most (nearest-rank)
+     */
+    public long getPercentile(final double percentile) {
+        if (!(percentile >= 0 && percentile <= 100))
+            throw new IllegalArgumentException("Percentile must be from 0 to 100: " + percentile);
+        final int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    public long getMin() { return sorted[0]; }
+
+    public long getMax() { return sorted[sorted.length - 1]; }
+
+    public double getMean() {
+        double total = 0;
+        for (final long t : sorted) total += t;
+        return total / sorted.length;
+    }
+
+    /**
+     * @throws AssertionError if the given percentile took longer than the limit
+     */
+    public Latencies assertPercentileAtMost(final double percentile, final long limit, final TimeUnit unit) {
+        final long actual = getPercentile(percentile);
+        if (actual > unit.toNanos(limit))
+            throw new AssertionError("Expected p" + percentile + " of at most " + limit + " " + unit
+                    + ", but it was " + actual + " ns: " + this);
+        return this;
+    }
+
+    @Override public String toString() {
+        return "Latencies{runs=" + sorted.length + ", min=" + getMin() + ", p50=" + getPercentile(50)
+                + ", p90=" + getPercentile(90) + ", p99=" + getPercentile(99) + ", p99.9=" + getPercentile(99.9)
+                + ", max=" + getMax() + " ns}";
+    }
+}
@@ -0,0 +1,171 @@
+package com.lantopia.libjava.util;
+
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * An immutable map held in one flat array, with each key next to its value: an open-addressing hash table, linearly
+ * probed, at most half full.  An entry costs two array slots instead of a {@link java.util.HashMap} node, and a lookup
+ * reads the key and its value from the same cache line.  Keys need a consistent {@link Object#hashCode()} and
+ * {@link Object#equals(Object)}; null keys are not allowed, but null values are.  Iteration order is unspecified, and
+ * iterating over the entries makes an entry object per entry.
+ */
+public final class CompactMap<K, V> extends AbstractMap<K, V> {
+    private static final float LoadFactor = 0.5f;
+    private static final CompactMap<Object, Object> Empty = new CompactMap<>(new Object[4], 0);
+
+    /**
+     * Key at 2i, value at 2i+1.
+     */
+    private final Object[] table;
+    private final int size;
+    private final int mask;
+
+    private CompactMap(final Object[] table, final int size) {
+        this.table = table;
+        this.size = size;
+        this.mask = (table.length >> 1) - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> CompactMap<K, V> of() { return (CompactMap<K, V>) Empty; }
+
+    /**
+     * @throws NullPointerException if any key is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> CompactMap<K, V> copyOf(final Map<? extends K, ? extends V> entries) {
+        if (entries instanceof CompactMap) return (CompactMap<K, V>) entries;
+        if (entries.isEmpty()) return of();
+
+        final Object[] table = new Object[Hashing.capacityFor(entries.size(), LoadFactor) << 1];
+        int size = 0;
+        for (final Entry<? extends K, ? extends V> entry : entries.entrySet()) {
+            final K key = entry.getKey();
+            if (key == null) throw new NullPointerException("CompactMap does not take null keys");
+            if (insert(table, key, entry.getValue())) size++;
+        }
+        return new CompactMap<>(table, size);
+    }
+
+    /**
+     * @return a map of this map's entries with the given key set to the given value
+     */
+    CompactMap<K, V> with(final K key, @Nullable final V value) {
+        final int i = find(key);
+        if (i >= 0) {
+            final Object[] table = this.table.clone();
+            table[(i << 1) + 1] = value;
+            return new CompactMap<>(table, size);
+        }
+        final Object[] table = rebuild(size + 1, null);
+        insert(table, key, value);
+        return new CompactMap<>(table, size + 1);
+    }
+
+    /**
+     * @return a map of this map's entries but the given key's, or this map if it doesn't have the key
+     */
+    CompactMap<K, V> without(final Object key) {
+        if (!containsKey(key)) return this;
+        if (size == 1) return of();
+        return new CompactMap<>(rebuild(size - 1, key), size - 1);
+    }
+
+    private Object[] rebuild(final int newSize, @Nullable final Object leaveOut) {
+        final Object[] out = new Object[Hashing.capacityFor(newSize, LoadFactor) << 1];
+        for (int i = 0; i < table.length; i += 2)
+            if (table[i] != null && !table[i].equals(leaveOut)) insert(out, table[i], table[i + 1]);
+        return out;
+    }
+
+    /**
+     * Sets the key's value in the table.
+     *
+     * @return true if the key wasn't already in the table
+     */
+    private static boolean insert(final Object[] table, final Object key, @Nullable final Object value) {
+        final int mask = (table.length >> 1) - 1;
+        int i = Hashing.mix(key.hashCode()) & mask;
+        for (Object k; (k = table[i << 1]) != null; i = (i + 1) & mask) {
+            if (k.equals(key)) {
+                table[(i << 1) + 1] = value;
+                return false;
+            }
+        }
+        table[i << 1] = key;
+        table[(i << 1) + 1] = value;
+        return true;
+    }
+
+    /**
+     * @return the key's slot, or -1 if it isn't in the map
+     */
+    private int find(@Nullable final Object key) {
+        if (key == null) return -1;
+        for (int i = Hashing.mix(key.hashCode()) & mask; ; i = (i + 1) & mask) {
+            final Object k = table[i << 1];
+            if (k == null) return -1;
+            if (k.equals(key)) return i;
+        }
+    }
+
+    @Override @Nullable @SuppressWarnings("unchecked")
+    public V get(@Nullable final Object key) {
+        final int i = find(key);
+        return (i < 0) ? null : (V) table[(i << 1) + 1];
+    }
+
+    @Override public boolean containsKey(@Nullable final Object key) { return find(key) >= 0; }
+
+    @Override public int size() { return size; }
+
+    @Override public boolean isEmpty() { return size == 0; }
+
+    @Override public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override public int size() { return size; }
+
+            @Override public Iterator<Entry<K, V>> iterator() {
+                return new Iterator<Entry<K, V>>() {
+                    private int next = advance(0);
+
+                    private int advance(final int from) {
+                        int i = from;
+                        while (i < table.length && table[i] == null) i += 2;
+                        return i;
+                    }
+
+                    @Override public boolean hasNext() { return next < table.length; }
+
+                    @Override @SuppressWarnings("unchecked")
+                    public Entry<K, V> next() {
+                        if (next >= table.length) throw new NoSuchElementException();
+                        final Entry<K, V> entry = new SimpleImmutableEntry<>((K) table[next], (V) table[next + 1]);
+                        next = advance(next + 2);
+                        return entry;
+                    }
+
+                    @Override public void remove() { throw new UnsupportedOperationException("CompactMap is immutable"); }
+                };
+            }
+        };
+    }
+
+    @Override public V put(final K key, final V value) { throw new UnsupportedOperationException("CompactMap is immutable"); }
+
+    @Override public V remove(final Object key) { throw new UnsupportedOperationException("CompactMap is immutable"); }
+
+    @Override public void putAll(final Map<? extends K, ? extends V> m) { throw new UnsupportedOperationException("CompactMap is immutable"); }
+
+    @Override public void clear() { throw new UnsupportedOperationException("CompactMap is immutable"); }
+}
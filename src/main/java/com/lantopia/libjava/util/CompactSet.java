@@ -0,0 +1,169 @@
+package com.lantopia.libjava.util;
+
+import javax.annotation.Nullable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * An immutable set held in one flat array: an open-addressing hash table, linearly probed, at most half full.  An
+ * element costs a table slot or two instead of a {@link java.util.HashSet} node, and a lookup touches one or two
+ * adjacent slots.  Elements need a consistent {@link Object#hashCode()} and {@link Object#equals(Object)}, but need
+ * not be {@link Comparable}.  Nulls are not allowed; iteration order is unspecified.
+ */
+public final class CompactSet<T> extends AbstractSet<T> {
+    private static final float LoadFactor = 0.5f;
+    private static final CompactSet<Object> Empty = new CompactSet<>(new Object[2], 0, 0);
+
+    private final Object[] table;
+    private final int size;
+    private final int hash;
+
+    private CompactSet(final Object[] table, final int size, final int hash) {
+        this.table = table;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> CompactSet<T> of() { return (CompactSet<T>) Empty; }
+
+    /**
+     * @throws NullPointerException if any element is null
+     */
+    @SafeVarargs
+    public static <T> CompactSet<T> of(final T... elements) {
+        // Reads the array rather than handing it on (to Arrays.asList, say), which -Xlint:varargs warns about
+        if (elements.length == 0) return of();
+        final Object[] table = new Object[Hashing.capacityFor(elements.length, LoadFactor)];
+        int size = 0;
+        int hash = 0;
+        for (final T element : elements) {
+            if (insert(table, checkElement(element))) {
+                size++;
+                hash += element.hashCode();
+            }
+        }
+        return new CompactSet<>(table, size, hash);
+    }
+
+    /**
+     * @throws NullPointerException if any element is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompactSet<T> copyOf(final Collection<? extends T> elements) {
+        if (elements instanceof CompactSet) return (CompactSet<T>) elements;
+        if (elements.isEmpty()) return of();
+
+        final Object[] table = new Object[Hashing.capacityFor(elements.size(), LoadFactor)];
+        int size = 0;
+        int hash = 0;
+        for (final T element : elements) {
+            if (insert(table, checkElement(element))) {
+                size++;
+                hash += element.hashCode();
+            }
+        }
+        return new CompactSet<>(table, size, hash);
+    }
+
+    /**
+     * @return a set of this set's elements and the given one, or this set if it already has it
+     */
+    CompactSet<T> with(final T element) {
+        if (contains(element)) return this;
+        final Object[] table = rebuild(size + 1, null);
+        insert(table, element);
+        return new CompactSet<>(table, size + 1, hash + element.hashCode());
+    }
+
+    /**
+     * @return a set of this set's elements but the given one, or this set if it doesn't have it
+     */
+    CompactSet<T> without(final Object element) {
+        if (!contains(element)) return this;
+        if (size == 1) return of();
+        return new CompactSet<>(rebuild(size - 1, element), size - 1, hash - element.hashCode());
+    }
+
+    private Object[] rebuild(final int newSize, @Nullable final Object leaveOut) {
+        final Object[] out = new Object[Hashing.capacityFor(newSize, LoadFactor)];
+        for (final Object e : table)
+            if (e != null && !e.equals(leaveOut)) insert(out, e);
+        return out;
+    }
+
+    private static Object checkElement(@Nullable final Object element) {
+        if (element == null) throw new NullPointerException("CompactSet does not take null elements");
+        return element;
+    }
+
+    /**
+     * @return true if the element wasn't already in the table
+     */
+    private static boolean insert(final Object[] table, final Object element) {
+        final int mask = table.length - 1;
+        int i = Hashing.mix(element.hashCode()) & mask;
+        for (Object o; (o = table[i]) != null; i = (i + 1) & mask)
+            if (o.equals(element)) return false;
+        table[i] = element;
+        return true;
+    }
+
+    @Override public boolean contains(@Nullable final Object o) {
+        if (o == null) return false;
+        final int mask = table.length - 1;
+        for (int i = Hashing.mix(o.hashCode()) & mask; ; i = (i + 1) & mask) {
+            final Object e = table[i];
+            if (e == null) return false;
+            if (e.equals(o)) return true;
+        }
+    }
+
+    @Override public int size() { return size; }
+
+    @Override public boolean isEmpty() { return size == 0; }
+
+    @Override public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int next = advance(0);
+
+            private int advance(final int from) {
+                int i = from;
+                while (i < table.length && table[i] == null) i++;
+                return i;
+            }
+
+            @Override public boolean hasNext() { return next < table.length; }
+
+            @Override @SuppressWarnings("unchecked")
+            public T next() {
+                if (next >= table.length) throw new NoSuchElementException();
+                final T element = (T) table[next];
+                next = advance(next + 1);
+                return element;
+            }
+
+            @Override public void remove() { throw new UnsupportedOperationException("CompactSet is immutable"); }
+        };
+    }
+
+    @Override public int hashCode() { return hash; }
+
+    @Override public boolean add(final T t) { throw new UnsupportedOperationException("CompactSet is immutable"); }
+
+    @Override public boolean remove(final Object o) { throw new UnsupportedOperationException("CompactSet is immutable"); }
+
+    @Override public void clear() { throw new UnsupportedOperationException("CompactSet is immutable"); }
+
+    @Override public boolean addAll(final Collection<? extends T> c) { throw new UnsupportedOperationException("CompactSet is immutable"); }
+
+    @Override public boolean removeAll(final Collection<?> c) { throw new UnsupportedOperationException("CompactSet is immutable"); }
+
+    @Override public boolean retainAll(final Collection<?> c) { throw new UnsupportedOperationException("CompactSet is immutable"); }
+}
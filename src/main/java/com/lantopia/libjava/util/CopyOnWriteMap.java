@@ -0,0 +1,112 @@
+package com.lantopia.libjava.util;
+
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * A thread-safe map for data that is read far more often than it changes; the map counterpart of
+ * {@link CopyOnWriteSet}.  Reads go to an immutable {@link CompactMap} snapshot through one volatile read and take no
+ * lock; each change copies the snapshot under a lock, so writes cost O(n).  Views and their iterators reflect the
+ * snapshot current when they were made and are read-only.  As with {@link java.util.concurrent.ConcurrentHashMap},
+ * null keys and values are not allowed.
+ */
+public final class CopyOnWriteMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+    private volatile CompactMap<K, V> snapshot;
+
+    private CopyOnWriteMap(final CompactMap<K, V> snapshot) { this.snapshot = snapshot; }
+
+    public static <K, V> CopyOnWriteMap<K, V> make() { return new CopyOnWriteMap<>(CompactMap.<K, V>of()); }
+
+    public static <K, V> CopyOnWriteMap<K, V> copyOf(final Map<? extends K, ? extends V> entries) {
+        for (final V value : entries.values())
+            if (value == null) throw new NullPointerException("CopyOnWriteMap does not take null values");
+        return new CopyOnWriteMap<>(CompactMap.<K, V>copyOf(entries));
+    }
+
+    /**
+     * @return the map as it is now, which later changes won't affect
+     */
+    public CompactMap<K, V> snapshot() { return snapshot; }
+
+    @Override @Nullable public V get(@Nullable final Object key) { return snapshot.get(key); }
+
+    @Override public boolean containsKey(@Nullable final Object key) { return snapshot.containsKey(key); }
+
+    @Override public boolean containsValue(@Nullable final Object value) { return snapshot.containsValue(value); }
+
+    @Override public int size() { return snapshot.size(); }
+
+    @Override public boolean isEmpty() { return snapshot.isEmpty(); }
+
+    @Override public Set<Entry<K, V>> entrySet() { return snapshot.entrySet(); }
+
+    @Override public Set<K> keySet() { return snapshot.keySet(); }
+
+    @Override @Nullable public synchronized V put(final K key, final V value) {
+        check(key, value);
+        final V previous = snapshot.get(key);
+        snapshot = snapshot.with(key, value);
+        return previous;
+    }
+
+    @Override @Nullable public synchronized V putIfAbsent(final K key, final V value) {
+        check(key, value);
+        final V previous = snapshot.get(key);
+        if (previous == null) snapshot = snapshot.with(key, value);
+        return previous;
+    }
+
+    /**
+     * Puts all the given entries with one copy.
+     */
+    @Override public synchronized void putAll(final Map<? extends K, ? extends V> m) {
+        final Map<K, V> all = new HashMap<>(snapshot);
+        for (final Entry<? extends K, ? extends V> e : m.entrySet()) {
+            check(e.getKey(), e.getValue());
+            all.put(e.getKey(), e.getValue());
+        }
+        snapshot = CompactMap.copyOf(all);
+    }
+
+    @Override @Nullable public synchronized V remove(@Nullable final Object key) {
+        final V previous = snapshot.get(key);
+        if (previous != null) snapshot = snapshot.without(key);
+        return previous;
+    }
+
+    @Override public synchronized boolean remove(@Nullable final Object key, @Nullable final Object value) {
+        final V current = snapshot.get(key);
+        if (current == null || !current.equals(value)) return false;
+        snapshot = snapshot.without(key);
+        return true;
+    }
+
+    @Override public synchronized boolean replace(final K key, final V oldValue, final V newValue) {
+        check(key, newValue);
+        final V current = snapshot.get(key);
+        if (current == null || !current.equals(oldValue)) return false;
+        snapshot = snapshot.with(key, newValue);
+        return true;
+    }
+
+    @Override @Nullable public synchronized V replace(final K key, final V value) {
+        check(key, value);
+        final V current = snapshot.get(key);
+        if (current != null) snapshot = snapshot.with(key, value);
+        return current;
+    }
+
+    @Override public synchronized void clear() { snapshot = CompactMap.of(); }
+
+    private static void check(@Nullable final Object key, @Nullable final Object value) {
+        if (key == null || value == null) throw new NullPointerException("CopyOnWriteMap does not take null keys or values");
+    }
+}
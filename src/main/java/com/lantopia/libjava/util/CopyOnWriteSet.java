@@ -0,0 +1,101 @@
+package com.lantopia.libjava.util;
+
+import javax.annotation.Nullable;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * A thread-safe set for data that is read far more often than it changes.  Reads go to an immutable
+ * {@link CompactSet} snapshot through one volatile read, so they take no lock, never contend with each other and
+ * stay O(1), unlike {@link java.util.concurrent.CopyOnWriteArraySet}'s linear scan.  Each change copies the snapshot
+ * under a lock, so writes cost O(n).  Iterators walk the snapshot current when they were made, and don't support
+ * removal.  Nulls are not allowed.
+ */
+public final class CopyOnWriteSet<T> extends AbstractSet<T> {
+    private volatile CompactSet<T> snapshot;
+
+    private CopyOnWriteSet(final CompactSet<T> snapshot) { this.snapshot = snapshot; }
+
+    public static <T> CopyOnWriteSet<T> make() { return new CopyOnWriteSet<>(CompactSet.<T>of()); }
+
+    public static <T> CopyOnWriteSet<T> copyOf(final Collection<? extends T> elements) {
+        return new CopyOnWriteSet<>(CompactSet.<T>copyOf(elements));
+    }
+
+    /**
+     * @return the set as it is now, which later changes won't affect
+     */
+    public CompactSet<T> snapshot() { return snapshot; }
+
+    @Override public boolean contains(@Nullable final Object o) { return snapshot.contains(o); }
+
+    @Override public boolean containsAll(final Collection<?> c) { return snapshot.containsAll(c); }
+
+    @Override public int size() { return snapshot.size(); }
+
+    @Override public boolean isEmpty() { return snapshot.isEmpty(); }
+
+    @Override public Iterator<T> iterator() { return snapshot.iterator(); }
+
+    @Override public boolean add(final T element) {
+        if (element == null) throw new NullPointerException("CopyOnWriteSet does not take null elements");
+        if (snapshot.contains(element)) return false;
+        synchronized (this) {
+            final CompactSet<T> current = snapshot;
+            final CompactSet<T> next = current.with(element);
+            snapshot = next;
+            return next != current;
+        }
+    }
+
+    @Override public boolean remove(@Nullable final Object o) {
+        if (!snapshot.contains(o)) return false;
+        synchronized (this) {
+            final CompactSet<T> current = snapshot;
+            final CompactSet<T> next = current.without(o);
+            snapshot = next;
+            return next != current;
+        }
+    }
+
+    /**
+     * Adds all the given elements with one copy.
+     */
+    @Override public synchronized boolean addAll(final Collection<? extends T> c) {
+        final CompactSet<T> current = snapshot;
+        if (current.containsAll(c)) return false;
+        final Collection<T> all = new ArrayList<>(current.size() + c.size());
+        all.addAll(current);
+        all.addAll(c);
+        snapshot = CompactSet.copyOf(all);
+        return true;
+    }
+
+    @Override public synchronized boolean removeAll(final Collection<?> c) {
+        final CompactSet<T> current = snapshot;
+        final Collection<T> kept = new ArrayList<>(current.size());
+        for (final T e : current) if (!c.contains(e)) kept.add(e);
+        if (kept.size() == current.size()) return false;
+        snapshot = CompactSet.copyOf(kept);
+        return true;
+    }
+
+    @Override public synchronized boolean retainAll(final Collection<?> c) {
+        final CompactSet<T> current = snapshot;
+        final Collection<T> kept = new ArrayList<>(current.size());
+        for (final T e : current) if (c.contains(e)) kept.add(e);
+        if (kept.size() == current.size()) return false;
+        snapshot = CompactSet.copyOf(kept);
+        return true;
+    }
+
+    @Override public synchronized void clear() { snapshot = CompactSet.of(); }
+
+    @Override public int hashCode() { return snapshot.hashCode(); }
+}
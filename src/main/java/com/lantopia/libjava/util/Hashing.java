@@ -0,0 +1,40 @@
+package com.lantopia.libjava.util;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Hash spreading and table sizing shared by the open-addressing collections in this package.  The tables are
+ * power-of-two sized and linearly probed, so hash codes are multiplied by the golden ratio and folded to spread
+ * clustered keys (small integers, sequential ids, poor {@link Object#hashCode()}s) across the whole table.
+ */
+final class Hashing {
+    /**
+     * The largest power-of-two table an int-indexed array can hold.
+     */
+    static final int MaxCapacity = 1 << 30;
+
+    private Hashing() {}
+
+    static int mix(final int x) {
+        final int h = x * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+    static int mix(final long x) {
+        long h = x * 0x9e3779b97f4a7c15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    /**
+     * @return the smallest power-of-two table size that holds the given number of entries at or below the load factor
+     */
+    static int capacityFor(final int expected, final float loadFactor) {
+        if (expected < 0) throw new IllegalArgumentException("Expected size must not be negative: " + expected);
+        final long needed = Math.max(2, (long) Math.ceil(expected / (double) loadFactor) + 1);
+        if (needed > MaxCapacity) return MaxCapacity;
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+}
@@ -0,0 +1,197 @@
+package com.lantopia.libjava.util;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * A map from ints to objects held in two parallel flat arrays: an open-addressing hash table, linearly probed, resized
+ * when three quarters full.  Keys are never boxed and there are no entry nodes, so a lookup table keyed by id takes a
+ * fraction of the memory of a {@code HashMap<Integer, V>} and a lookup scans adjacent ints.  Key 0 marks an empty
+ * slot, so its value is held beside the table.  Null values are not stored: putting null removes the key.  Removal
+ * shifts later entries back rather than leaving tombstones.  Not thread-safe.
+ */
+public final class IntObjectMap<V> {
+    private static final float LoadFactor = 0.75f;
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int resizeAt;
+    /**
+     * Number of entries with non-zero keys in the table.
+     */
+    private int count = 0;
+    @Nullable private V zeroValue = null;
+
+    private IntObjectMap(final int capacity) { allocate(capacity); }
+
+    public static <V> IntObjectMap<V> make() { return new IntObjectMap<>(16); }
+
+    /**
+     * @return an empty map sized to take the given number of entries without resizing
+     */
+    public static <V> IntObjectMap<V> make(final int expectedSize) {
+        return new IntObjectMap<>(Hashing.capacityFor(expectedSize, LoadFactor));
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (capacity == Hashing.MaxCapacity) ? capacity - 1 : (int) (capacity * LoadFactor);
+    }
+
+    /**
+     * @return the key's slot, or -1 if it isn't in the table
+     */
+    private int find(final int key) {
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            final int k = keys[i];
+            if (k == key) return i;
+            if (k == 0) return -1;
+        }
+    }
+
+    @Nullable @SuppressWarnings("unchecked")
+    public V get(final int key) {
+        if (key == 0) return zeroValue;
+        final int i = find(key);
+        return (i < 0) ? null : (V) values[i];
+    }
+
+    public boolean containsKey(final int key) { return (key == 0) ? zeroValue != null : find(key) >= 0; }
+
+    /**
+     * @param value the value, or null to remove the key
+     * @return the key's previous value, if any
+     */
+    @Nullable @SuppressWarnings("unchecked")
+    public V put(final int key, @Nullable final V value) {
+        if (value == null) return remove(key);
+        if (key == 0) {
+            final V previous = zeroValue;
+            zeroValue = value;
+            return previous;
+        }
+        int i = Hashing.mix(key) & mask;
+        for (int k; (k = keys[i]) != 0; i = (i + 1) & mask) {
+            if (k == key) {
+                final V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++count >= resizeAt) rehash(keys.length << 1);
+        return null;
+    }
+
+    /**
+     * @return the key's value, if it had one
+     */
+    @Nullable @SuppressWarnings("unchecked")
+    public V remove(final int key) {
+        if (key == 0) {
+            final V previous = zeroValue;
+            zeroValue = null;
+            return previous;
+        }
+        final int i = find(key);
+        if (i < 0) return null;
+        final V previous = (V) values[i];
+        shiftBack(i);
+        count--;
+        return previous;
+    }
+
+    /**
+     * Fills the gap at the given slot by moving back any later entry in its probe run that would still be found from
+     * its home slot, then repeats for the gap that leaves.
+     */
+    private void shiftBack(final int slot) {
+        int gap = slot;
+        for (int j = (gap + 1) & mask; ; j = (j + 1) & mask) {
+            final int k = keys[j];
+            if (k == 0) break;
+            final int home = Hashing.mix(k) & mask;
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = k;
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+    }
+
+    private void rehash(final int capacity) {
+        if (keys.length == Hashing.MaxCapacity) throw new IllegalStateException("IntObjectMap is full");
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            final int k = oldKeys[j];
+            if (k == 0) continue;
+            int i = Hashing.mix(k) & mask;
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = k;
+            values[i] = oldValues[j];
+        }
+    }
+
+    public int size() { return count + (zeroValue != null ? 1 : 0); }
+
+    public boolean isEmpty() { return size() == 0; }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        count = 0;
+        zeroValue = null;
+    }
+
+    /**
+     * @return the keys, in no particular order
+     */
+    public int[] keys() {
+        final int[] out = new int[size()];
+        int n = 0;
+        if (zeroValue != null) out[n++] = 0;
+        for (final int k : keys) if (k != 0) out[n++] = k;
+        return out;
+    }
+
+    @Override public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntObjectMap)) return false;
+        final IntObjectMap<?> that = (IntObjectMap<?>) o;
+        if (size() != that.size()) return false;
+        if (zeroValue != null && !zeroValue.equals(that.zeroValue)) return false;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0 && !values[i].equals(that.get(keys[i]))) return false;
+        return true;
+    }
+
+    @Override public int hashCode() {
+        int hash = (zeroValue != null) ? zeroValue.hashCode() : 0;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0) hash += keys[i] ^ values[i].hashCode();
+        return hash;
+    }
+
+    @Override public String toString() {
+        final int[] sorted = keys();
+        Arrays.sort(sorted);
+        final StringBuilder s = new StringBuilder("IntObjectMap{");
+        for (int i = 0; i < sorted.length; i++) {
+            if (i > 0) s.append(", ");
+            s.append(sorted[i]).append('=').append(get(sorted[i]));
+        }
+        return s.append('}').toString();
+    }
+}
@@ -2,6 +2,8 @@ package com.lantopia.libjava.util;
 
 import javax.annotation.Nullable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author Mark McKenna %lt;mark.denis.mckenna@gmail.com>
@@ -10,6 +12,15 @@ import java.util.*;
  */
 @SuppressWarnings("UnusedDeclaration")
 public class LibJava {
+    /**
+     * Reads per write at or above which a concurrent collection is copied on write.
+     */
+    private static final double ReadMostlyRatio = 100;
+    /**
+     * Lock stripes for a concurrent collection with more writes than reads.
+     */
+    private static final int WriterStripes = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
     private LibJava() {}
 
     public static <T> T orDefault(@Nullable final T value, final T def) {
@@ -32,9 +43,10 @@ public class LibJava {
     }
 
     /**
-     * Builds a set using a fluent interface.
+     * Builds a set using a fluent interface.  Immutable sets are {@link CompactSet}s, which take no nulls; mutable ones
+     * are {@link HashSet}s.
      * <p/>
-     * Example: LibJava.makeSetOf(Integer.class).mutable(false).synchronized(true).with(nums).build();
+     * Example: LibJava.makeSetOf(Integer.class).mutable(false).with(nums).get();
      *
      * @param clazz Class of the elements the set takes
      * @param <T>   Type of elements the set takes
@@ -42,13 +54,39 @@ public class LibJava {
      */
     public static <T> SetBuilder<T> makeSetOf(final Class<T> clazz) { return new SetBuilderImpl<>(); }
 
+    /**
+     * Builds a map using a fluent interface.  Immutable maps are {@link CompactMap}s, which take no null keys; mutable
+     * ones are {@link HashMap}s.
+     * <p/>
+     * Example: LibJava.makeMapOf(String.class, Integer.class).with("one", 1).with("two", 2).mutable(false).get();
+     *
+     * @param keyClass   Class of the keys the map takes
+     * @param valueClass Class of the values the map takes
+     * @return The map, built according to the given inputs
+     */
+    public static <K, V> MapBuilder<K, V> makeMapOf(final Class<K> keyClass, final Class<V> valueClass) {
+        return new MapBuilderImpl<>();
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> T cast(final Object o) { return (T) o; }
 
+    /**
+     * @return a concurrent hash map whose reads take no lock, with its write locks striped more finely if writes
+     * outnumber reads
+     */
+    private static <K, V> ConcurrentMap<K, V> newConcurrentMap(final int size, final double readsPerWrite) {
+        final int capacity = Math.max(16, size * 4 / 3 + 1);
+        return (readsPerWrite >= 1)
+                ? new ConcurrentHashMap<K, V>(capacity)
+                : new ConcurrentHashMap<K, V>(capacity, 0.75f, WriterStripes);
+    }
+
 
     private static class SetBuilderImpl<T> implements SetBuilder<T> {
         private boolean mutable = true;
         private boolean sync = false;
+        private double readsPerWrite = Double.NaN;
 
         private Object elems = null;
 
@@ -62,6 +100,12 @@ public class LibJava {
             return this;
         }
 
+        @Override public SetBuilder<T> concurrent(final double readsPerWrite) {
+            if (!(readsPerWrite >= 0)) throw new IllegalArgumentException("Bad read/write ratio: " + readsPerWrite);
+            this.readsPerWrite = readsPerWrite;
+            return this;
+        }
+
         @Override public SetBuilder<T> with(final Collection<T> elements) {
             this.elems = elements;
             return this;
@@ -79,19 +123,81 @@ public class LibJava {
                     ? Collections.EMPTY_SET
                     : (elems instanceof Collection) ? (Collection<T>) elems : Arrays.asList((T[]) elems);
 
-            final Set<T> out = (e.size() > 20) ? new HashSet<>(e) : new TreeSet<>(e);
+            if (!mutable) return CompactSet.copyOf(e);
+            if (readsPerWrite >= ReadMostlyRatio) return CopyOnWriteSet.copyOf(e);
+            if (readsPerWrite >= 0) {
+                final Set<T> out = Collections.newSetFromMap(LibJava.<T, Boolean>newConcurrentMap(e.size(), readsPerWrite));
+                out.addAll(e);
+                return out;
+            }
 
-            if (!mutable) return Collections.unmodifiableSet(out);
-            if (sync) return Collections.synchronizedSet(out);
-            return out;
+            final Set<T> out = new HashSet<>(e);
+            return sync ? Collections.synchronizedSet(out) : out;
         }
 
         @Override public String toString() {
             return "SetBuilderImpl{" +
                     "mutable=" + mutable +
                     ", sync=" + sync +
+                    ", readsPerWrite=" + readsPerWrite +
                     ", elems=" + elems +
                     '}';
         }
     }
+
+    private static class MapBuilderImpl<K, V> implements MapBuilder<K, V> {
+        private boolean mutable = true;
+        private boolean sync = false;
+        private double readsPerWrite = Double.NaN;
+
+        private final Map<K, V> entries = new LinkedHashMap<>();
+
+        @Override public MapBuilder<K, V> sync(final boolean b) {
+            this.sync = b;
+            return this;
+        }
+
+        @Override public MapBuilder<K, V> mutable(final boolean b) {
+            this.mutable = b;
+            return this;
+        }
+
+        @Override public MapBuilder<K, V> concurrent(final double readsPerWrite) {
+            if (!(readsPerWrite >= 0)) throw new IllegalArgumentException("Bad read/write ratio: " + readsPerWrite);
+            this.readsPerWrite = readsPerWrite;
+            return this;
+        }
+
+        @Override public MapBuilder<K, V> with(final Map<? extends K, ? extends V> entries) {
+            this.entries.putAll(entries);
+            return this;
+        }
+
+        @Override public MapBuilder<K, V> with(final K key, final V value) {
+            entries.put(key, value);
+            return this;
+        }
+
+        @Override public Map<K, V> get() {
+            if (!mutable) return CompactMap.copyOf(entries);
+            if (readsPerWrite >= ReadMostlyRatio) return CopyOnWriteMap.copyOf(entries);
+            if (readsPerWrite >= 0) {
+                final Map<K, V> out = newConcurrentMap(entries.size(), readsPerWrite);
+                out.putAll(entries);
+                return out;
+            }
+
+            final Map<K, V> out = new HashMap<>(entries);
+            return sync ? Collections.synchronizedMap(out) : out;
+        }
+
+        @Override public String toString() {
+            return "MapBuilderImpl{" +
+                    "mutable=" + mutable +
+                    ", sync=" + sync +
+                    ", readsPerWrite=" + readsPerWrite +
+                    ", entries=" + entries +
+                    '}';
+        }
+    }
 }
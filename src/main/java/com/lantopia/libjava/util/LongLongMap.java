@@ -0,0 +1,217 @@
+package com.lantopia.libjava.util;
+
+import java.util.Arrays;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * A map from longs to longs held in two parallel flat arrays: an open-addressing hash table, linearly probed, resized
+ * when three quarters full.  Nothing is boxed and there are no entry nodes, so counters and id-to-id tables take a
+ * fraction of the memory of a {@code HashMap<Long, Long>}, and {@link #addTo} updates a count in place.  Key 0 marks
+ * an empty slot, so its value is held beside the table.  Removal shifts later entries back rather than leaving
+ * tombstones.  Not thread-safe.
+ */
+public final class LongLongMap {
+    private static final float LoadFactor = 0.75f;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int resizeAt;
+    /**
+     * Number of entries with non-zero keys in the table.
+     */
+    private int count = 0;
+    private boolean hasZero = false;
+    private long zeroValue = 0;
+
+    private LongLongMap(final int capacity) { allocate(capacity); }
+
+    public static LongLongMap make() { return new LongLongMap(16); }
+
+    /**
+     * @return an empty map sized to take the given number of entries without resizing
+     */
+    public static LongLongMap make(final int expectedSize) {
+        return new LongLongMap(Hashing.capacityFor(expectedSize, LoadFactor));
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (capacity == Hashing.MaxCapacity) ? capacity - 1 : (int) (capacity * LoadFactor);
+    }
+
+    /**
+     * @return the key's slot, or -1 if it isn't in the table
+     */
+    private int find(final long key) {
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            final long k = keys[i];
+            if (k == key) return i;
+            if (k == 0) return -1;
+        }
+    }
+
+    /**
+     * @return the key's value, or the given default if it isn't in the map
+     */
+    public long get(final long key, final long missing) {
+        if (key == 0) return hasZero ? zeroValue : missing;
+        final int i = find(key);
+        return (i < 0) ? missing : values[i];
+    }
+
+    public boolean containsKey(final long key) { return (key == 0) ? hasZero : find(key) >= 0; }
+
+    public void put(final long key, final long value) {
+        if (key == 0) {
+            hasZero = true;
+            zeroValue = value;
+            return;
+        }
+        final int i = insert(key);
+        values[i] = value;
+    }
+
+    /**
+     * Adds to the key's value, treating a missing key as 0.
+     *
+     * @return the new value
+     */
+    public long addTo(final long key, final long delta) {
+        if (key == 0) {
+            hasZero = true;
+            return zeroValue += delta;
+        }
+        final int i = insert(key);
+        return values[i] += delta;
+    }
+
+    /**
+     * @return the key's slot, adding it with value 0 if it isn't in the table
+     */
+    private int insert(final long key) {
+        int i = Hashing.mix(key) & mask;
+        for (long k; (k = keys[i]) != 0; i = (i + 1) & mask)
+            if (k == key) return i;
+        if (count + 1 >= resizeAt) {
+            rehash(keys.length << 1);
+            return insert(key);
+        }
+        keys[i] = key;
+        values[i] = 0;
+        count++;
+        return i;
+    }
+
+    /**
+     * @return true if the key was in the map
+     */
+    public boolean remove(final long key) {
+        if (key == 0) {
+            final boolean had = hasZero;
+            hasZero = false;
+            zeroValue = 0;
+            return had;
+        }
+        final int i = find(key);
+        if (i < 0) return false;
+        shiftBack(i);
+        count--;
+        return true;
+    }
+
+    /**
+     * Fills the gap at the given slot by moving back any later entry in its probe run that would still be found from
+     * its home slot, then repeats for the gap that leaves.
+     */
+    private void shiftBack(final int slot) {
+        int gap = slot;
+        for (int j = (gap + 1) & mask; ; j = (j + 1) & mask) {
+            final long k = keys[j];
+            if (k == 0) break;
+            final int home = Hashing.mix(k) & mask;
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = k;
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = 0;
+    }
+
+    private void rehash(final int capacity) {
+        if (keys.length == Hashing.MaxCapacity) throw new IllegalStateException("LongLongMap is full");
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            final long k = oldKeys[j];
+            if (k == 0) continue;
+            int i = Hashing.mix(k) & mask;
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = k;
+            values[i] = oldValues[j];
+        }
+    }
+
+    public int size() { return count + (hasZero ? 1 : 0); }
+
+    public boolean isEmpty() { return size() == 0; }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+        count = 0;
+        hasZero = false;
+        zeroValue = 0;
+    }
+
+    /**
+     * @return the keys, in no particular order
+     */
+    public long[] keys() {
+        final long[] out = new long[size()];
+        int n = 0;
+        if (hasZero) out[n++] = 0;
+        for (final long k : keys) if (k != 0) out[n++] = k;
+        return out;
+    }
+
+    @Override public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongLongMap)) return false;
+        final LongLongMap that = (LongLongMap) o;
+        if (size() != that.size() || hasZero != that.hasZero) return false;
+        if (hasZero && zeroValue != that.zeroValue) return false;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == 0) continue;
+            final int j = that.find(keys[i]);
+            if (j < 0 || that.values[j] != values[i]) return false;
+        }
+        return true;
+    }
+
+    @Override public int hashCode() {
+        long hash = hasZero ? zeroValue : 0;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0) hash += keys[i] ^ values[i];
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    @Override public String toString() {
+        final long[] sorted = keys();
+        Arrays.sort(sorted);
+        final StringBuilder s = new StringBuilder("LongLongMap{");
+        for (int i = 0; i < sorted.length; i++) {
+            if (i > 0) s.append(", ");
+            s.append(sorted[i]).append('=').append(get(sorted[i], 0));
+        }
+        return s.append('}').toString();
+    }
+}
@@ -0,0 +1,165 @@
+package com.lantopia.libjava.util;
+
+import java.util.Arrays;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * A set of longs held in a flat long array: an open-addressing hash table, linearly probed, resized when three quarters
+ * full.  Nothing is boxed and there are no nodes, so a large set takes a quarter or less of the memory of a
+ * {@code HashSet<Long>} and a lookup touches one or two adjacent array slots.  0 marks an empty slot, so 0 itself is
+ * held in a flag beside the table.  Removal shifts later entries back into the gap rather than leaving tombstones, so
+ * lookups don't slow down as a set churns.  Not thread-safe.
+ */
+public final class LongSet {
+    private static final float LoadFactor = 0.75f;
+
+    private long[] keys;
+    private int mask;
+    private int resizeAt;
+    /**
+     * Number of non-zero entries in the table.
+     */
+    private int count = 0;
+    private boolean hasZero = false;
+
+    private LongSet(final int capacity) { allocate(capacity); }
+
+    public static LongSet make() { return new LongSet(16); }
+
+    /**
+     * @return an empty set sized to take the given number of elements without resizing
+     */
+    public static LongSet make(final int expectedSize) { return new LongSet(Hashing.capacityFor(expectedSize, LoadFactor)); }
+
+    public static LongSet of(final long... values) {
+        final LongSet set = make(values.length);
+        for (final long value : values) set.add(value);
+        return set;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (capacity == Hashing.MaxCapacity) ? capacity - 1 : (int) (capacity * LoadFactor);
+    }
+
+    /**
+     * @return true if the value wasn't already in the set
+     */
+    public boolean add(final long value) {
+        if (value == 0) {
+            if (hasZero) return false;
+            return hasZero = true;
+        }
+        int i = Hashing.mix(value) & mask;
+        for (long k; (k = keys[i]) != 0; i = (i + 1) & mask)
+            if (k == value) return false;
+        keys[i] = value;
+        if (++count >= resizeAt) rehash(keys.length << 1);
+        return true;
+    }
+
+    public boolean contains(final long value) {
+        if (value == 0) return hasZero;
+        for (int i = Hashing.mix(value) & mask; ; i = (i + 1) & mask) {
+            final long k = keys[i];
+            if (k == value) return true;
+            if (k == 0) return false;
+        }
+    }
+
+    /**
+     * @return true if the value was in the set
+     */
+    public boolean remove(final long value) {
+        if (value == 0) {
+            final boolean had = hasZero;
+            hasZero = false;
+            return had;
+        }
+        for (int i = Hashing.mix(value) & mask; ; i = (i + 1) & mask) {
+            final long k = keys[i];
+            if (k == 0) return false;
+            if (k == value) {
+                shiftBack(i);
+                count--;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Fills the gap at the given slot by moving back any later entry in its probe run that would still be found from
+     * its home slot, then repeats for the gap that leaves.
+     */
+    private void shiftBack(final int slot) {
+        int gap = slot;
+        for (int j = (gap + 1) & mask; ; j = (j + 1) & mask) {
+            final long k = keys[j];
+            if (k == 0) break;
+            final int home = Hashing.mix(k) & mask;
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = k;
+                gap = j;
+            }
+        }
+        keys[gap] = 0;
+    }
+
+    private void rehash(final int capacity) {
+        if (keys.length == Hashing.MaxCapacity) throw new IllegalStateException("LongSet is full");
+        final long[] old = keys;
+        allocate(capacity);
+        for (final long k : old) {
+            if (k == 0) continue;
+            int i = Hashing.mix(k) & mask;
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = k;
+        }
+    }
+
+    public int size() { return count + (hasZero ? 1 : 0); }
+
+    public boolean isEmpty() { return size() == 0; }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        count = 0;
+        hasZero = false;
+    }
+
+    /**
+     * @return the values, in no particular order
+     */
+    public long[] toArray() {
+        final long[] out = new long[size()];
+        int n = 0;
+        if (hasZero) out[n++] = 0;
+        for (final long k : keys) if (k != 0) out[n++] = k;
+        return out;
+    }
+
+    @Override public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongSet)) return false;
+        final LongSet that = (LongSet) o;
+        if (size() != that.size() || hasZero != that.hasZero) return false;
+        for (final long k : keys) if (k != 0 && !that.contains(k)) return false;
+        return true;
+    }
+
+    @Override public int hashCode() {
+        int hash = 0;
+        for (final long k : keys) hash += (int) (k ^ (k >>> 32));
+        return hash;
+    }
+
+    @Override public String toString() {
+        final long[] values = toArray();
+        Arrays.sort(values);
+        return "LongSet" + Arrays.toString(values);
+    }
+}
@@ -0,0 +1,33 @@
+package com.lantopia.libjava.util;
+
+import javax.inject.Provider;
+import java.util.Map;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ * <p/>
+ * Builds a map using a fluent interface; the counterpart of {@link SetBuilder}.  Entries given later replace earlier
+ * ones with the same key.
+ */
+@SuppressWarnings("UnusedDeclaration")
+public interface MapBuilder<K, V> extends Provider<Map<K, V>> {
+    MapBuilder<K, V> sync(final boolean b);
+
+    MapBuilder<K, V> mutable(final boolean b);
+
+    /**
+     * Makes the map safe to share between threads without serializing on one lock.  The structure follows the declared
+     * ratio of reads to writes: at 100 reads per write or more, a copy-on-write map whose reads take no lock at all; at
+     * one read per write or more, a concurrent hash map whose reads take no lock; below that, a concurrent hash map
+     * with its locks striped across more segments, for many concurrent writers.  Null keys and values are then not
+     * allowed.  Takes precedence over {@link #sync}, and is ignored for immutable maps, which are already safe to
+     * share.
+     */
+    MapBuilder<K, V> concurrent(final double readsPerWrite);
+
+    MapBuilder<K, V> with(final Map<? extends K, ? extends V> entries);
+
+    MapBuilder<K, V> with(final K key, final V value);
+}
@@ -1,5 +1,7 @@
 package com.lantopia.libjava.util;
 
+import java.util.Arrays;
+
 /**
  * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
  * @version 0.1
@@ -20,6 +22,203 @@ public class Numbers {
     }
 
     public static boolean isBetween(final double base, final double low, final double high) {
-        return base == low && base <= high;
+        return base > low && base <= high;
+    }
+
+    /*
+     * Bulk range tests over numeric columns, with the same bounds as isBetween: above low, at or below high.  Each
+     * element's test is computed as a 0 or 1 without a branch, so the time taken doesn't depend on how many elements
+     * match or how they're spread; a branch on each element is mispredicted about half the time on mixed data.  The
+     * two comparisons are folded into one unsigned comparison against the width of the range, and doubles are first
+     * mapped to longs that sort the same way, so every column type runs the same integer kernel.  The loops are left
+     * simple so that the JIT can unroll them; unrolling them by hand measured slower.
+     */
+
+    /**
+     * Sets bit i of the mask (bit i % 64 of word i / 64) iff values[i] is between low and high.  Bits past the end of
+     * the values in the last word are cleared; words after it are left alone.
+     *
+     * @param mask at least (values.length + 63) / 64 words
+     */
+    public static void maskBetween(final int[] values, final int low, final int high, final long[] mask) {
+        final int words = checkMask(values.length, mask);
+        if (high <= low) {
+            Arrays.fill(mask, 0, words, 0);
+            return;
+        }
+        final int offset = low + 1;
+        final int bound = (high - low) ^ Integer.MIN_VALUE;
+        for (int w = 0; w < words; w++) {
+            final int base = w << 6;
+            final int end = Math.min(64, values.length - base);
+            long bits = 0;
+            for (int j = 0; j < end; j++) bits |= below(values[base + j] - offset, bound) << j;
+            mask[w] = bits;
+        }
+    }
+
+    /**
+     * @return the number of values between low and high
+     */
+    public static int countBetween(final int[] values, final int low, final int high) {
+        if (high <= low) return 0;
+        final int offset = low + 1;
+        final int bound = (high - low) ^ Integer.MIN_VALUE;
+        long count = 0;
+        for (final int value : values) count += below(value - offset, bound);
+        return (int) count;
+    }
+
+    /**
+     * Writes the indices of the values between low and high, in ascending order, to the start of out.
+     *
+     * @param out at least values.length long, since every index is written and then kept or overwritten
+     * @return the number of indices written
+     */
+    public static int indicesBetween(final int[] values, final int low, final int high, final int[] out) {
+        checkIndices(values.length, out);
+        if (high <= low) return 0;
+        final int offset = low + 1;
+        final int bound = (high - low) ^ Integer.MIN_VALUE;
+        int n = 0;
+        for (int i = 0; i < values.length; i++) {
+            out[n] = i;
+            n += (int) below(values[i] - offset, bound);
+        }
+        return n;
+    }
+
+    /**
+     * As {@link #maskBetween(int[], int, int, long[])}.
+     */
+    public static void maskBetween(final long[] values, final long low, final long high, final long[] mask) {
+        final int words = checkMask(values.length, mask);
+        if (high <= low) {
+            Arrays.fill(mask, 0, words, 0);
+            return;
+        }
+        final long offset = low + 1;
+        final long bound = (high - low) ^ Long.MIN_VALUE;
+        for (int w = 0; w < words; w++) {
+            final int base = w << 6;
+            final int end = Math.min(64, values.length - base);
+            long bits = 0;
+            for (int j = 0; j < end; j++) bits |= below(values[base + j] - offset, bound) << j;
+            mask[w] = bits;
+        }
+    }
+
+    /**
+     * As {@link #countBetween(int[], int, int)}.
+     */
+    public static int countBetween(final long[] values, final long low, final long high) {
+        if (high <= low) return 0;
+        final long offset = low + 1;
+        final long bound = (high - low) ^ Long.MIN_VALUE;
+        long count = 0;
+        for (final long value : values) count += below(value - offset, bound);
+        return (int) count;
+    }
+
+    /**
+     * As {@link #indicesBetween(int[], int, int, int[])}.
+     */
+    public static int indicesBetween(final long[] values, final long low, final long high, final int[] out) {
+        checkIndices(values.length, out);
+        if (high <= low) return 0;
+        final long offset = low + 1;
+        final long bound = (high - low) ^ Long.MIN_VALUE;
+        int n = 0;
+        for (int i = 0; i < values.length; i++) {
+            out[n] = i;
+            n += (int) below(values[i] - offset, bound);
+        }
+        return n;
+    }
+
+    /**
+     * As {@link #maskBetween(int[], int, int, long[])}.  NaN is never between.
+     */
+    public static void maskBetween(final double[] values, final double low, final double high, final long[] mask) {
+        final int words = checkMask(values.length, mask);
+        if (!(high > low)) {
+            Arrays.fill(mask, 0, words, 0);
+            return;
+        }
+        final long offset = sortable(low) + 1;
+        final long bound = (sortable(high) - sortable(low)) ^ Long.MIN_VALUE;
+        for (int w = 0; w < words; w++) {
+            final int base = w << 6;
+            final int end = Math.min(64, values.length - base);
+            long bits = 0;
+            for (int j = 0; j < end; j++) bits |= below(sortable(values[base + j]) - offset, bound) << j;
+            mask[w] = bits;
+        }
+    }
+
+    /**
+     * As {@link #countBetween(int[], int, int)}.  NaN is never between.
+     */
+    public static int countBetween(final double[] values, final double low, final double high) {
+        if (!(high > low)) return 0;
+        final long offset = sortable(low) + 1;
+        final long bound = (sortable(high) - sortable(low)) ^ Long.MIN_VALUE;
+        long count = 0;
+        for (final double value : values) count += below(sortable(value) - offset, bound);
+        return (int) count;
+    }
+
+    /**
+     * As {@link #indicesBetween(int[], int, int, int[])}.  NaN is never between.
+     */
+    public static int indicesBetween(final double[] values, final double low, final double high, final int[] out) {
+        checkIndices(values.length, out);
+        if (!(high > low)) return 0;
+        final long offset = sortable(low) + 1;
+        final long bound = (sortable(high) - sortable(low)) ^ Long.MIN_VALUE;
+        int n = 0;
+        for (int i = 0; i < values.length; i++) {
+            out[n] = i;
+            n += (int) below(sortable(values[i]) - offset, bound);
+        }
+        return n;
+    }
+
+    /**
+     * @return 1 if x is below the bound as unsigned ints (the bound having its sign bit flipped already), otherwise 0
+     */
+    private static long below(final int x, final int flippedBound) {
+        return ((long) (x ^ Integer.MIN_VALUE) - flippedBound) >>> 63;
+    }
+
+    /**
+     * @return 1 if x is below the bound as unsigned longs (the bound having its sign bit flipped already), otherwise 0
+     */
+    private static long below(final long x, final long flippedBound) {
+        final long a = x ^ Long.MIN_VALUE;
+        final long d = a - flippedBound;
+        return (d ^ ((a ^ flippedBound) & (d ^ a))) >>> 63;
+    }
+
+    /**
+     * @return a long that orders as the given double does: negative values have their magnitude bits flipped, so that
+     * more negative values give smaller longs.  Zeroes of either sign give 0, so that they compare equal, as with ==;
+     * NaNs sort outside the infinities, so they are never between two numbers.
+     */
+    private static long sortable(final double d) {
+        final long bits = Double.doubleToRawLongBits(d + 0.0);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private static int checkMask(final int length, final long[] mask) {
+        final int words = (length + 63) >>> 6;
+        if (mask.length < words)
+            throw new IllegalArgumentException("Mask of " + mask.length + " words can't hold " + length + " bits");
+        return words;
+    }
+
+    private static void checkIndices(final int length, final int[] out) {
+        if (out.length < length)
+            throw new IllegalArgumentException("Index array of " + out.length + " can't hold " + length + " indices");
     }
 }
@@ -15,6 +15,15 @@ public interface SetBuilder<T> extends Provider<Set<T>> {
 
     SetBuilder<T> mutable(final boolean b);
 
+    /**
+     * Makes the set safe to share between threads without serializing on one lock.  The structure follows the declared
+     * ratio of reads to writes: at 100 reads per write or more, a copy-on-write set whose reads take no lock at all; at
+     * one read per write or more, a concurrent hash set whose reads take no lock; below that, a concurrent hash set
+     * with its locks striped across more segments, for many concurrent writers.  Takes precedence over {@link #sync},
+     * and is ignored for immutable sets, which are already safe to share.
+     */
+    SetBuilder<T> concurrent(final double readsPerWrite);
+
     SetBuilder<T> with(final Collection<T> elements);
 
     SetBuilder<T> with(final T... elements);
@@ -0,0 +1,118 @@
+package com.lantopia.libjava.data;
+
+import com.google.common.base.Strings;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class LogStructuredStoreTest {
+    private static final ObjectSerializer<String> Identity = new ObjectSerializer<String>() {
+        @Override public String parse(final String jsonData) { return jsonData; }
+
+        @Override public String serialize(final String jsonObject) { return jsonObject; }
+    };
+
+    @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test public void reopenRebuildsTheIndex() throws IOException {
+        final Path dir = folder.getRoot().toPath();
+        final Map<String, String> expected = new HashMap<>();
+        try (final LogStructuredStore<String> store = open(dir)) {
+            write(store, expected, new Random(1), 2000);
+        }
+        assertTrue(count(dir, "*.seg") > 2);
+        assertTrue(count(dir, "*.hint") > 0);
+
+        try (final LogStructuredStore<String> store = open(dir)) {
+            check(store, expected);
+            write(store, expected, new Random(2), 500);
+        }
+        try (final LogStructuredStore<String> store = open(dir)) {
+            check(store, expected);
+        }
+    }
+
+    @Test public void compactionReclaimsSegmentsAndKeepsData() throws IOException {
+        final Path dir = folder.getRoot().toPath();
+        final Map<String, String> expected = new HashMap<>();
+        try (final LogStructuredStore<String> store = open(dir)) {
+            write(store, expected, new Random(3), 3000);
+            final long before = count(dir, "*.seg");
+            assertTrue(store.compact() > 0);
+            assertTrue(count(dir, "*.seg") < before);
+            check(store, expected);
+        }
+        try (final LogStructuredStore<String> store = open(dir)) {
+            check(store, expected);
+        }
+    }
+
+    @Test public void removedKeysStayRemovedThroughCompactionAndReopen() throws IOException {
+        final Path dir = folder.getRoot().toPath();
+        try (final LogStructuredStore<String> store = open(dir)) {
+            store.put("gone", "old value");
+            for (int i = 0; i < 200; i++) store.put("filler", Strings.repeat("x", 100) + i);
+            assertTrue(store.remove("gone"));
+            for (int i = 0; i < 200; i++) store.put("filler", Strings.repeat("y", 100) + i);
+            store.compact();
+            store.compact();
+            assertNull(store.get("gone"));
+        }
+        try (final LogStructuredStore<String> store = open(dir)) {
+            assertNull(store.get("gone"));
+            assertEquals(Strings.repeat("y", 100) + 199, store.get("filler"));
+            assertEquals(1, store.size());
+        }
+    }
+
+    private static LogStructuredStore<String> open(final Path dir) {
+        return LogStructuredStore.builder(dir, Identity).segmentSize(4096).compactionThreshold(0.25).get();
+    }
+
+    /**
+     * Puts, overwrites and removes among a few hundred keys, recording the expected contents.
+     */
+    private static void write(final LogStructuredStore<String> store, final Map<String, String> expected,
+                              final Random random, final int operations) {
+        for (int i = 0; i < operations; i++) {
+            final String key = "key" + random.nextInt(300);
+            if (random.nextInt(5) == 0) {
+                assertEquals(expected.remove(key) != null, store.remove(key));
+            } else {
+                final String value = Strings.repeat("v", random.nextInt(40)) + i;
+                expected.put(key, value);
+                store.put(key, value);
+            }
+        }
+    }
+
+    private static void check(final LogStructuredStore<String> store, final Map<String, String> expected) {
+        assertEquals(expected.size(), store.size());
+        for (int i = 0; i < 300; i++) assertEquals(expected.get("key" + i), store.get("key" + i));
+    }
+
+    private static long count(final Path dir, final String glob) throws IOException {
+        long n = 0;
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(dir, glob)) {
+            for (final Path ignored : files) n++;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,99 @@
+package com.lantopia.libjava.data;
+
+import com.google.common.base.Strings;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class WriteBehindStoreTest {
+    private static final ObjectSerializer<String> Identity = new ObjectSerializer<String>() {
+        @Override public String parse(final String jsonData) { return jsonData; }
+
+        @Override public String serialize(final String jsonObject) { return jsonObject; }
+    };
+
+    @Test public void writtenValueIsReweighedOnFlush() {
+        final WriteBehindStore<String> store = make(new MapStore());
+        store.put("small", "0123456789");
+        store.put("big", Strings.repeat("x", 100000));
+        store.flush();
+
+        assertCached(store, "small", true);
+        assertCached(store, "big", false);
+        assertEquals(100000, store.get("big").length());
+        store.close();
+    }
+
+    @Test public void loadedValueIsReweighedOnFlush() {
+        final MapStore backend = new MapStore();
+        backend.put("big", Strings.repeat("x", 100000));
+        final WriteBehindStore<String> store = make(backend);
+        assertEquals(100000, store.get("big").length());
+        assertCached(store, "big", true);
+        store.flush();
+
+        assertCached(store, "big", false);
+        assertEquals(100000, store.get("big").length());
+        store.close();
+    }
+
+    @Test public void flushReachesBackend() {
+        final MapStore backend = new MapStore();
+        final WriteBehindStore<String> store = make(backend);
+        store.put("a", "1");
+        store.put("b", "2");
+        store.remove("a");
+        store.flush();
+
+        assertEquals(0, store.pendingCount());
+        assertEquals(null, backend.get("a"));
+        assertEquals("2", backend.get("b"));
+        store.close();
+    }
+
+    private static void assertCached(final WriteBehindStore<String> store, final String key, final boolean cached) {
+        final long hits = store.stats().hitCount();
+        store.get(key);
+        assertEquals(key, hits + (cached ? 1 : 0), store.stats().hitCount());
+    }
+
+    private static WriteBehindStore<String> make(final ObjectStore<String> backend) {
+        return WriteBehindStore.builder(backend, Identity).maxWeight(64 * 1024).flushInterval(1, TimeUnit.HOURS).get();
+    }
+
+    private static final class MapStore implements ObjectStore<String> {
+        private final Map<String, String> map = new ConcurrentHashMap<>();
+
+        @Nullable @Override public String get(final String key) { return map.get(key); }
+
+        @Override public Map<String, String> getAll(final Iterable<String> keys) {
+            final Map<String, String> found = new HashMap<>();
+            for (final String key : keys) {
+                final String value = map.get(key);
+                if (value != null) found.put(key, value);
+            }
+            return found;
+        }
+
+        @Override public void put(final String key, final String value) { map.put(key, value); }
+
+        @Override public void putAll(final Map<String, ? extends String> entries) { map.putAll(entries); }
+
+        @Override public boolean remove(final String key) { return map.remove(key) != null; }
+
+        @Override public void removeAll(final Iterable<String> keys) { for (final String key : keys) map.remove(key); }
+
+        @Override public void close() { }
+    }
+}
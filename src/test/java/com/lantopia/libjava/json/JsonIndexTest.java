@@ -0,0 +1,78 @@
+package com.lantopia.libjava.json;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class JsonIndexTest {
+    @Test public void readsMixedArray() throws MalformedJsonException {
+        final LazyJsonArray array = JsonIndex.build("[1,\"a\",{\"x\":[]},[],null]").array();
+        assertEquals(5, array.size());
+        assertEquals(1, array.getLong(0));
+        assertEquals("a", array.getString(1));
+        final LazyJsonObject object = array.getObject(2);
+        assertNotNull(object);
+        assertEquals(0, object.getArray("x").size());
+        assertEquals(0, array.getArray(3).size());
+        assertTrue(array.isNull(4));
+    }
+
+    /**
+     * The index starts small and doubles as it fills; links recorded across a doubling must survive it.
+     */
+    @Test public void readsObjectsAcrossCapacityDoublings() throws MalformedJsonException {
+        for (int fields = 1; fields < 200; fields++) {
+            final StringBuilder s = new StringBuilder("{");
+            for (int i = 0; i < fields; i++) {
+                if (i > 0) s.append(',');
+                s.append("\"f").append(i).append("\":");
+                if (i % 3 == 0) s.append('"').append(i).append('"');
+                else if (i % 3 == 1) s.append('[').append(i).append(']');
+                else s.append(i);
+            }
+            final JsonIndex index = JsonIndex.build(s.append('}'));
+            final LazyJsonObject object = index.object();
+            assertEquals(fields, object.size());
+            for (int i = 0; i < fields; i++) {
+                final String name = "f" + i;
+                if (i % 3 == 0) assertEquals(String.valueOf(i), object.getString(name));
+                else if (i % 3 == 1) assertEquals(i, object.getArray(name).getLong(0));
+                else assertEquals(i, object.getLong(name, -1));
+            }
+        }
+    }
+
+    @Test public void readsDeepNesting() throws MalformedJsonException {
+        final StringBuilder s = new StringBuilder();
+        for (int i = 0; i < 100; i++) s.append("{\"a\":");
+        s.append("\"leaf\"");
+        for (int i = 0; i < 100; i++) s.append('}');
+        LazyJsonObject object = JsonIndex.build(s).object();
+        for (int i = 0; i < 99; i++) object = object.getObject("a");
+        assertEquals("leaf", object.getString("a"));
+    }
+
+    @Test public void missingFieldsAreAbsent() throws MalformedJsonException {
+        final LazyJsonObject object = JsonIndex.build("{\"a\":1}").object();
+        assertFalse(object.has("b"));
+        assertEquals(7, object.getLong("b", 7));
+    }
+
+    @Test(expected = MalformedJsonException.class)
+    public void rejectsUnbalancedBrackets() throws MalformedJsonException {
+        JsonIndex.build("{\"a\":[1,2}");
+    }
+
+    @Test(expected = MalformedJsonException.class)
+    public void rejectsUnterminatedString() throws MalformedJsonException {
+        JsonIndex.build("[\"abc]");
+    }
+}
@@ -0,0 +1,67 @@
+package com.lantopia.libjava.json;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class JsonReaderTest {
+    @Test public void readsIntegers() throws IOException {
+        assertEquals(0, reader("0").nextLong());
+        assertEquals(-42, reader("-42").nextLong());
+        assertEquals(Long.MAX_VALUE, reader("9223372036854775807").nextLong());
+        assertEquals(Long.MIN_VALUE, reader("-9223372036854775808").nextLong());
+
+        final JsonReader array = reader("[-7]");
+        array.beginArray();
+        assertEquals(-7, array.nextInt());
+    }
+
+    @Test public void rejectsNonIntegers() throws IOException {
+        for (final String text : new String[] {"1.5", "1.0", "1e3", "2E-1", "-", "9223372036854775808",
+                "-9223372036854775809"}) {
+            try {
+                reader(text).nextLong();
+                fail("Accepted " + text);
+            } catch (final MalformedJsonException expected) {
+                // expected
+            }
+        }
+    }
+
+    @Test public void rangeChecksNarrowIntegers() throws IOException {
+        assertEquals(Byte.MIN_VALUE, reader("-128").nextByte());
+        assertEquals(Short.MAX_VALUE, reader("32767").nextShort());
+        for (final String text : new String[] {"128", "-129"}) {
+            try {
+                reader(text).nextByte();
+                fail("Accepted byte " + text);
+            } catch (final MalformedJsonException expected) {
+                // expected
+            }
+        }
+        for (final String text : new String[] {"32768", "-32769"}) {
+            try {
+                reader(text).nextShort();
+                fail("Accepted short " + text);
+            } catch (final MalformedJsonException expected) {
+                // expected
+            }
+        }
+    }
+
+    @Test public void readsFractionsAsDoubles() throws IOException {
+        assertEquals(1.5, reader("1.5").nextDouble(), 0);
+        assertEquals(1000, reader("1e3").nextDouble(), 0);
+    }
+
+    private static JsonReader reader(final String text) { return JsonReader.make(new StringReader(text)); }
+}
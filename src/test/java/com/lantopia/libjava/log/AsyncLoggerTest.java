@@ -0,0 +1,91 @@
+package com.lantopia.libjava.log;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class AsyncLoggerTest {
+    private static int lines(final StringWriter out) {
+        final String s = out.toString();
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) if (s.charAt(i) == '\n') n++;
+        return n;
+    }
+
+    @Test public void closeDrainsEverythingLogged() {
+        final StringWriter out = new StringWriter();
+        final AsyncLogger logger = AsyncLogger.make(TextLogger.make(out), 16, AsyncLogger.WhenFull.Block);
+        for (int i = 0; i < 10000; i++) logger.message("m").property("i", i).log();
+        logger.close();
+
+        assertEquals(10000, lines(out));
+        assertEquals(0, logger.getPending());
+    }
+
+    @Test public void closeDrainsConcurrentProducers() throws InterruptedException {
+        final StringWriter out = new StringWriter();
+        final AsyncLogger logger = AsyncLogger.make(TextLogger.make(out), 64, AsyncLogger.WhenFull.Block);
+        final AtomicLong logged = new AtomicLong();
+        final AtomicBoolean stop = new AtomicBoolean();
+        final Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(new Runnable() {
+                @Override public void run() {
+                    while (!stop.get()) {
+                        logger.message("m").log();
+                        logged.incrementAndGet();
+                    }
+                }
+            });
+            producers[t].start();
+        }
+        Thread.sleep(20);
+        logger.close();
+        stop.set(true);
+        for (final Thread t : producers) t.join();
+
+        // Messages logged after close() returned are written on the calling thread
+        assertEquals(logged.get(), lines(out));
+    }
+
+    @Test public void messagesAfterCloseAreWrittenDirectly() {
+        final StringWriter out = new StringWriter();
+        final AsyncLogger logger = AsyncLogger.make(TextLogger.make(out), 16, AsyncLogger.WhenFull.Block);
+        logger.close();
+        logger.message("late").log();
+
+        assertEquals(1, lines(out));
+    }
+
+    @Test(timeout = 10000)
+    public void survivesAMessageThatCannotBeWritten() throws InterruptedException {
+        final PrintStream err = System.err;
+        System.setErr(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            final StringWriter out = new StringWriter();
+            final AsyncLogger logger = AsyncLogger.make(TextLogger.make(out), 4, AsyncLogger.WhenFull.Block);
+            logger.message("bad").property("p", new Object() {
+                @Override public String toString() { throw new IllegalStateException("unprintable"); }
+            }).log();
+            for (int i = 0; i < 100; i++) logger.message("good").log();
+            logger.close();
+
+            assertFalse(out.toString().contains("bad"));
+            assertEquals(100, lines(out));
+        } finally {
+            System.setErr(err);
+        }
+    }
+}
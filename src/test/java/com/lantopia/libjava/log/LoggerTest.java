@@ -0,0 +1,58 @@
+package com.lantopia.libjava.log;
+
+import org.junit.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class LoggerTest {
+    @Test public void heldBuilderSurvivesBeingFilteredOut() {
+        final StringWriter out = new StringWriter();
+        final Logger logger = TextLogger.make(out);
+        logger.setLevel("a", Logger.Level.Info);
+
+        final Logger.LogBuilder b = logger.category("a");
+        b.level(Logger.Level.Debug);
+        b.message("hidden");
+        b.property("secret", 1);
+        b.log();
+
+        logger.level(Logger.Level.Error).message("shown").log();
+
+        assertTrue(out.toString(), out.toString().contains("shown"));
+        assertFalse(out.toString(), out.toString().contains("hidden"));
+        assertFalse(out.toString(), out.toString().contains("secret"));
+    }
+
+    @Test public void filteredBuilderIsReusedAfterLog() {
+        final StringWriter out = new StringWriter();
+        final Logger logger = TextLogger.make(out);
+        logger.setLevel("a", Logger.Level.Warn);
+
+        logger.category("a").level(Logger.Level.Info).message("hidden").log();
+        logger.category("a").level(Logger.Level.Warn).message("shown").log();
+
+        assertTrue(out.toString(), out.toString().contains("shown"));
+        assertFalse(out.toString(), out.toString().contains("hidden"));
+    }
+
+    @Test public void levelWithoutCategoryIsFilteredOnlyAtLog() {
+        final StringWriter out = new StringWriter();
+        final Logger logger = TextLogger.make(out);
+        logger.setLevel(Logger.Level.Warn);
+        logger.setLevel("a", Logger.Level.Debug);
+
+        logger.level(Logger.Level.Info).category("a").message("a-info").log();
+        logger.level(Logger.Level.Info).category("b").message("b-info").log();
+
+        assertTrue(out.toString(), out.toString().contains("a-info"));
+        assertFalse(out.toString(), out.toString().contains("b-info"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.lantopia.libjava.log;
+
+import org.junit.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class PropertyListTest {
+    @Test public void growsPastInitialCapacity() {
+        final PropertyList properties = new PropertyList();
+        for (int i = 0; i < 100; i++) {
+            switch (i % 4) {
+                case 0: properties.add("o" + i, "v" + i); break;
+                case 1: properties.add("l" + i, (long) i); break;
+                case 2: properties.add("d" + i, i + 0.5); break;
+                default: properties.add("b" + i, i % 8 == 3);
+            }
+        }
+
+        assertEquals(100, properties.size());
+        for (int i = 0; i < 100; i++) {
+            switch (i % 4) {
+                case 0: assertEquals("v" + i, properties.object(i)); break;
+                case 1: assertEquals(i, properties.longValue(i)); break;
+                case 2: assertEquals(i + 0.5, properties.doubleValue(i), 0); break;
+                default: assertEquals(i % 8 == 3, properties.booleanValue(i));
+            }
+        }
+    }
+
+    @Test public void addAllGrows() {
+        final PropertyList from = new PropertyList();
+        for (int i = 0; i < 20; i++) from.add("k" + i, (long) i);
+        final PropertyList to = new PropertyList();
+        to.add("first", "x");
+        to.addAll(from);
+        to.addAll(from);
+
+        assertEquals(41, to.size());
+        assertEquals("x", to.object(0));
+        assertEquals(19, to.longValue(40));
+    }
+
+    @Test public void clearKeepsCapacityAndForgetsValues() {
+        final PropertyList properties = new PropertyList();
+        for (int i = 0; i < 20; i++) properties.add("k" + i, "v" + i);
+        properties.clear();
+        properties.add("a", 1L);
+
+        assertEquals(1, properties.size());
+        assertEquals("{a=1}", properties.toString());
+    }
+
+    @Test public void messageTakesManyProperties() {
+        final StringWriter out = new StringWriter();
+        final Logger logger = TextLogger.make(out);
+        Logger.LogBuilder b = logger.message("many");
+        for (int i = 0; i < 20; i++) b = b.property("p" + i, i);
+        b.log();
+
+        assertTrue(out.toString(), out.toString().contains("p19:19"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.lantopia.libjava.log;
+
+import com.google.common.io.ByteStreams;
+import com.lantopia.libjava.test.Allocations;
+import org.junit.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class TextLoggerTest {
+    /**
+     * Enough runs for C2 to have compiled the whole path; until then the odd run allocates.
+     */
+    private static final int Warmups = 200000;
+
+    @Test public void writesLevelMessageAndProperties() {
+        final StringWriter out = new StringWriter();
+        TextLogger.make(out).level(Logger.Level.Warn).category("db").message("slow query")
+                .property("millis", 1500L).property("ratio", 0.5).property("retried", true).log();
+
+        final String line = out.toString();
+        assertTrue(line, line.contains("slow query"));
+        assertTrue(line, line.contains("millis:1500"));
+        assertTrue(line, line.contains("ratio:0.5"));
+        assertTrue(line, line.contains("retried:true"));
+        assertTrue(line, line.endsWith("\n"));
+    }
+
+    @Test public void loggingAllocatesNothing() {
+        assumeTrue(Allocations.isSupported());
+        final Logger logger = TextLogger.make(ByteStreams.nullOutputStream());
+        Allocations.assertAllocatesAtMost(0, new Runnable() {
+            @Override public void run() {
+                logger.level(Logger.Level.Info).category("hot").message("request served")
+                        .property("millis", 12L).property("ratio", 0.25).property("cached", true).log();
+            }
+        }, Warmups, Allocations.DefaultRuns);
+    }
+
+    @Test public void filteredMessagesAllocateNothing() {
+        assumeTrue(Allocations.isSupported());
+        final Logger logger = TextLogger.make(ByteStreams.nullOutputStream());
+        logger.setLevel("quiet", Logger.Level.Error);
+        Allocations.assertAllocatesAtMost(0, new Runnable() {
+            @Override public void run() {
+                logger.category("quiet").level(Logger.Level.Debug).message("ignored").property("n", 1L).log();
+            }
+        }, Warmups, Allocations.DefaultRuns);
+    }
+}
@@ -0,0 +1,58 @@
+package com.lantopia.libjava.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class HistogramTest {
+    @Test public void smallValuesAreExact() {
+        final Histogram h = new Histogram();
+        for (int v = 0; v < 32; v++) h.record(v);
+        final HistogramSnapshot s = h.snapshot();
+
+        assertEquals(32, s.getCount());
+        assertEquals(31 * 32 / 2, s.getSum());
+        assertEquals(0, s.getMin());
+        assertEquals(31, s.getMax());
+    }
+
+    @Test public void meanIsWithinBucketError() {
+        final Histogram h = new Histogram();
+        long total = 0;
+        for (long v = 1000; v < 1000000; v += 997) {
+            h.record(v);
+            total += v;
+        }
+        final HistogramSnapshot s = h.snapshot();
+        final double mean = (double) total / s.getCount();
+
+        assertTrue(s.getMean() + " vs " + mean, Math.abs(s.getMean() - mean) <= mean * 0.015);
+        assertTrue(s.getMean() >= s.getMin() && s.getMean() <= s.getMax());
+    }
+
+    @Test public void sinceAgreesWithItsCounts() {
+        final Histogram h = new Histogram();
+        h.record(5);
+        final HistogramSnapshot before = h.snapshot();
+        h.record(7);
+        h.record(9);
+        final HistogramSnapshot delta = h.snapshot().since(before);
+
+        assertEquals(2, delta.getCount());
+        assertEquals(16, delta.getSum());
+        assertEquals(8, delta.getMean(), 0);
+    }
+
+    @Test public void negativeValuesAreRecordedAsZero() {
+        final Histogram h = new Histogram();
+        h.record(-5);
+        assertEquals(1, h.snapshot().getCount());
+        assertEquals(0, h.snapshot().getSum());
+    }
+}
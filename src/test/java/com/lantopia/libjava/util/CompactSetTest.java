@@ -0,0 +1,57 @@
+package com.lantopia.libjava.util;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class CompactSetTest {
+    @Test public void ofDropsDuplicates() {
+        final CompactSet<String> set = CompactSet.of("a", "b", "a", "c");
+        assertEquals(3, set.size());
+        assertEquals(ImmutableSet.of("a", "b", "c"), set);
+        assertEquals(ImmutableSet.of("a", "b", "c").hashCode(), set.hashCode());
+        assertFalse(set.contains("d"));
+        assertFalse(set.contains(null));
+    }
+
+    @Test public void ofAndCopyOfAgree() {
+        assertEquals(CompactSet.copyOf(Arrays.asList(1, 2, 3)), CompactSet.of(3, 2, 1));
+        assertSame(CompactSet.of(), CompactSet.of(new Object[0]));
+    }
+
+    @Test public void rejectsNulls() {
+        try {
+            CompactSet.of("a", null);
+            fail("Accepted a null element");
+        } catch (final NullPointerException expected) {
+            // expected
+        }
+        try {
+            CompactSet.copyOf(Arrays.asList("a", null));
+            fail("Accepted a null element");
+        } catch (final NullPointerException expected) {
+            // expected
+        }
+    }
+
+    @Test public void withAndWithout() {
+        final CompactSet<Integer> set = CompactSet.of(1, 2);
+        assertSame(set, set.with(1));
+        assertTrue(set.with(3).contains(3));
+        assertEquals(CompactSet.of(2), set.without(1));
+        assertSame(set, set.without(5));
+        assertTrue(CompactSet.of(1).without(1).isEmpty());
+    }
+}
@@ -0,0 +1,67 @@
+package com.lantopia.libjava.util;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class IntObjectMapTest {
+    @Test public void matchesHashMap() {
+        final Random random = new Random(1);
+        final IntObjectMap<String> map = IntObjectMap.make();
+        final Map<Integer, String> expected = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            final int k = random.nextInt(2000) - 1000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(k), map.remove(k));
+            } else {
+                final String v = "v" + i;
+                assertEquals(expected.put(k, v), map.put(k, v));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (int k = -1000; k < 1000; k++) {
+            assertEquals(expected.get(k), map.get(k));
+            assertEquals(expected.containsKey(k), map.containsKey(k));
+        }
+        assertEquals(expected.size(), map.keys().length);
+        for (final int k : map.keys()) assertTrue(expected.containsKey(k));
+    }
+
+    @Test public void puttingNullRemoves() {
+        final IntObjectMap<String> map = IntObjectMap.make();
+        map.put(0, "zero");
+        map.put(5, "five");
+        assertEquals("zero", map.put(0, null));
+        assertEquals("five", map.put(5, null));
+        assertFalse(map.containsKey(0));
+        assertFalse(map.containsKey(5));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test public void equalsComparesEntries() {
+        final IntObjectMap<String> a = IntObjectMap.make();
+        final IntObjectMap<String> b = IntObjectMap.make(100);
+        for (int k = 0; k < 50; k++) a.put(k, "v" + k);
+        for (int k = 49; k >= 0; k--) b.put(k, "v" + k);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+
+        b.put(7, "other");
+        assertFalse(a.equals(b));
+        b.clear();
+        assertTrue(b.isEmpty());
+        assertNull(b.get(0));
+    }
+}
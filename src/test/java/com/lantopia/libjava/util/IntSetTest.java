@@ -0,0 +1,64 @@
+package com.lantopia.libjava.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class IntSetTest {
+    @Test public void matchesHashSet() {
+        final Random random = new Random(1);
+        final IntSet set = IntSet.make();
+        final Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 100000; i++) {
+            final int v = random.nextInt(2000) - 1000;
+            if (random.nextInt(3) == 0) assertEquals(expected.remove(v), set.remove(v));
+            else assertEquals(expected.add(v), set.add(v));
+            assertEquals(expected.size(), set.size());
+        }
+        for (int v = -1000; v < 1000; v++) assertEquals(expected.contains(v), set.contains(v));
+
+        final int[] values = set.toArray();
+        assertEquals(expected.size(), values.length);
+        for (final int v : values) assertTrue(expected.contains(v));
+    }
+
+    @Test public void holdsZero() {
+        final IntSet set = IntSet.of(0, 7);
+        assertTrue(set.contains(0));
+        assertEquals(2, set.size());
+        assertTrue(set.remove(0));
+        assertFalse(set.contains(0));
+        assertEquals(1, set.size());
+    }
+
+    @Test public void equalsIgnoresInsertionOrder() {
+        final IntSet a = IntSet.of(3, 1, 2, 0);
+        final IntSet b = IntSet.make(100);
+        for (final int v : new int[] {0, 2, 1, 3}) b.add(v);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+
+        b.clear();
+        assertTrue(b.isEmpty());
+        assertFalse(b.contains(0));
+        assertEquals(0, b.toArray().length);
+    }
+
+    @Test public void toArrayHasEveryValue() {
+        final int[] values = IntSet.of(5, -5, 0, Integer.MIN_VALUE, Integer.MAX_VALUE).toArray();
+        Arrays.sort(values);
+        assertTrue(Arrays.equals(new int[] {Integer.MIN_VALUE, -5, 0, 5, Integer.MAX_VALUE}, values));
+    }
+}
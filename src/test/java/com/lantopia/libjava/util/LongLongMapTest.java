@@ -0,0 +1,83 @@
+package com.lantopia.libjava.util;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class LongLongMapTest {
+    @Test public void matchesHashMap() {
+        final Random random = new Random(1);
+        final LongLongMap map = LongLongMap.make();
+        final Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            final long k = (random.nextInt(2000) - 1000) * 0x100000001L;
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(expected.remove(k) != null, map.remove(k));
+                    break;
+                case 1: {
+                    final Long old = expected.get(k);
+                    final long sum = ((old == null) ? 0 : old) + i;
+                    expected.put(k, sum);
+                    assertEquals(sum, map.addTo(k, i));
+                    break;
+                }
+                default:
+                    expected.put(k, (long) i);
+                    map.put(k, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (long k = -1000; k < 1000; k++) {
+            final long key = k * 0x100000001L;
+            final Long v = expected.get(key);
+            assertEquals((v == null) ? -1 : v, map.get(key, -1));
+            assertEquals(v != null, map.containsKey(key));
+        }
+        assertEquals(expected.size(), map.keys().length);
+        for (final long k : map.keys()) assertTrue(expected.containsKey(k));
+    }
+
+    @Test public void addToGrowsTheTable() {
+        final LongLongMap map = LongLongMap.make();
+        for (long k = 1; k <= 10000; k++) assertEquals(k, map.addTo(k, k));
+        for (long k = 1; k <= 10000; k++) assertEquals(2 * k, map.addTo(k, k));
+        assertEquals(10000, map.size());
+    }
+
+    @Test public void holdsZero() {
+        final LongLongMap map = LongLongMap.make();
+        assertEquals(-1, map.get(0, -1));
+        assertEquals(3, map.addTo(0, 3));
+        map.put(0, 9);
+        assertEquals(9, map.get(0, -1));
+        assertTrue(map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertFalse(map.remove(0));
+    }
+
+    @Test public void equalsComparesEntries() {
+        final LongLongMap a = LongLongMap.make();
+        final LongLongMap b = LongLongMap.make(100);
+        for (long k = 0; k < 50; k++) a.put(k, k * k);
+        for (long k = 49; k >= 0; k--) b.put(k, k * k);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+
+        b.put(7, 0);
+        assertFalse(a.equals(b));
+        b.clear();
+        assertTrue(b.isEmpty());
+    }
+}
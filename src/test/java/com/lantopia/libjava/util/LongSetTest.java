@@ -0,0 +1,74 @@
+package com.lantopia.libjava.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class LongSetTest {
+    @Test public void matchesHashSet() {
+        final Random random = new Random(1);
+        final LongSet set = LongSet.make();
+        final Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 100000; i++) {
+            final long v = random.nextInt(2000) - 1000;
+            if (random.nextInt(3) == 0) assertEquals(expected.remove(v), set.remove(v));
+            else assertEquals(expected.add(v), set.add(v));
+            assertEquals(expected.size(), set.size());
+        }
+        for (long v = -1000; v < 1000; v++) assertEquals(expected.contains(v), set.contains(v));
+
+        final long[] values = set.toArray();
+        assertEquals(expected.size(), values.length);
+        for (final long v : values) assertTrue(expected.contains(v));
+    }
+
+    @Test public void keysDifferingOnlyInHighBits() {
+        final LongSet set = LongSet.make();
+        for (long i = 1; i <= 1000; i++) assertTrue(set.add(i << 40));
+        for (long i = 1; i <= 1000; i++) assertTrue(set.contains(i << 40));
+        assertFalse(set.contains(1));
+        for (long i = 1; i <= 1000; i += 2) assertTrue(set.remove(i << 40));
+        assertEquals(500, set.size());
+        for (long i = 2; i <= 1000; i += 2) assertTrue(set.contains(i << 40));
+    }
+
+    @Test public void holdsZero() {
+        final LongSet set = LongSet.of(0, 7);
+        assertTrue(set.contains(0));
+        assertEquals(2, set.size());
+        assertTrue(set.remove(0));
+        assertFalse(set.contains(0));
+        assertEquals(1, set.size());
+    }
+
+    @Test public void equalsIgnoresInsertionOrder() {
+        final LongSet a = LongSet.of(3, 1, 2, 0);
+        final LongSet b = LongSet.make(100);
+        for (final long v : new long[] {0, 2, 1, 3}) b.add(v);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+
+        b.clear();
+        assertTrue(b.isEmpty());
+        assertFalse(b.contains(0));
+        assertEquals(0, b.toArray().length);
+    }
+
+    @Test public void toArrayHasEveryValue() {
+        final long[] values = LongSet.of(5, -5, 0, Long.MIN_VALUE, Long.MAX_VALUE).toArray();
+        Arrays.sort(values);
+        assertTrue(Arrays.equals(new long[] {Long.MIN_VALUE, -5, 0, 5, Long.MAX_VALUE}, values));
+    }
+}
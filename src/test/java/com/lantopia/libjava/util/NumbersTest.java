@@ -0,0 +1,109 @@
+package com.lantopia.libjava.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Mark McKenna &lt;mark.denis.mckenna@gmail.com&gt;
+ * @version 0.1
+ * @since 19/10/2026
+ */
+public class NumbersTest {
+    private static final int[] Ints = {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -1000, -1, 0, 1, 1000,
+            Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+    private static final long[] Longs = {Long.MIN_VALUE, Long.MIN_VALUE + 1, -1000, -1, 0, 1, 1000, Long.MAX_VALUE - 1,
+            Long.MAX_VALUE};
+    private static final double[] Doubles = {Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1000, -1, -Double.MIN_VALUE,
+            -0.0, 0.0, Double.MIN_VALUE, 0.5, 1, 1000, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN};
+
+    @Test public void intKernelsMatchIsBetween() {
+        final Random random = new Random(1);
+        for (final int length : new int[] {0, 1, 63, 64, 65, 200}) {
+            final int[] values = new int[length];
+            for (int i = 0; i < length; i++)
+                values[i] = random.nextBoolean() ? Ints[random.nextInt(Ints.length)] : random.nextInt(2001) - 1000;
+            for (final int low : Ints) {
+                for (final int high : Ints) {
+                    final boolean[] expected = new boolean[length];
+                    for (int i = 0; i < length; i++) expected[i] = Numbers.isBetween(values[i], low, high);
+                    final long[] mask = new long[words(length)];
+                    Numbers.maskBetween(values, low, high, mask);
+                    final int[] indices = new int[length];
+                    final int n = Numbers.indicesBetween(values, low, high, indices);
+                    check(expected, Numbers.countBetween(values, low, high), mask, indices, n);
+                }
+            }
+        }
+    }
+
+    @Test public void longKernelsMatchIsBetween() {
+        final Random random = new Random(2);
+        for (final int length : new int[] {0, 1, 63, 64, 65, 200}) {
+            final long[] values = new long[length];
+            for (int i = 0; i < length; i++)
+                values[i] = random.nextBoolean() ? Longs[random.nextInt(Longs.length)] : random.nextInt(2001) - 1000;
+            for (final long low : Longs) {
+                for (final long high : Longs) {
+                    final boolean[] expected = new boolean[length];
+                    for (int i = 0; i < length; i++) expected[i] = Numbers.isBetween(values[i], low, high);
+                    final long[] mask = new long[words(length)];
+                    Numbers.maskBetween(values, low, high, mask);
+                    final int[] indices = new int[length];
+                    final int n = Numbers.indicesBetween(values, low, high, indices);
+                    check(expected, Numbers.countBetween(values, low, high), mask, indices, n);
+                }
+            }
+        }
+    }
+
+    @Test public void doubleKernelsMatchIsBetween() {
+        final Random random = new Random(3);
+        for (final int length : new int[] {0, 1, 63, 64, 65, 200}) {
+            final double[] values = new double[length];
+            for (int i = 0; i < length; i++)
+                values[i] = random.nextBoolean() ? Doubles[random.nextInt(Doubles.length)] : random.nextGaussian() * 1000;
+            for (final double low : Doubles) {
+                for (final double high : Doubles) {
+                    final boolean[] expected = new boolean[length];
+                    for (int i = 0; i < length; i++) expected[i] = Numbers.isBetween(values[i], low, high);
+                    final long[] mask = new long[words(length)];
+                    Numbers.maskBetween(values, low, high, mask);
+                    final int[] indices = new int[length];
+                    final int n = Numbers.indicesBetween(values, low, high, indices);
+                    check(expected, Numbers.countBetween(values, low, high), mask, indices, n);
+                }
+            }
+        }
+    }
+
+    @Test public void maskClearsTheTailOfTheLastWordOnly() {
+        final long[] mask = {-1, -1, -1};
+        final int[] values = new int[66];
+        Arrays.fill(values, 5);
+        Numbers.maskBetween(values, 0, 10, mask);
+
+        assertEquals(-1L, mask[0]);
+        assertEquals(3L, mask[1]);
+        assertEquals(-1L, mask[2]);
+    }
+
+    private static int words(final int length) { return (length + 63) / 64; }
+
+    private static void check(final boolean[] expected, final int count, final long[] mask, final int[] indices,
+                              final int n) {
+        int expectedCount = 0;
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i]) {
+                assertEquals(i, indices[expectedCount]);
+                expectedCount++;
+            }
+            assertEquals("bit " + i, expected[i], (mask[i >>> 6] & (1L << i)) != 0);
+        }
+        assertEquals(expectedCount, count);
+        assertEquals(expectedCount, n);
+    }
+}